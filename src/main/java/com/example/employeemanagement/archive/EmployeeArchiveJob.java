@@ -0,0 +1,134 @@
+package com.example.employeemanagement.archive;
+
+import com.example.employeemanagement.datasource.RoutingContext;
+import com.example.employeemanagement.repository.EmployeeArchiveRepository;
+import com.example.employeemanagement.repository.EmployeeArchiveRepository.Candidate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves employees soft-deleted longer than the retention from {@code employees} to
+ * {@code employees_archive}, so the hot table and its indexes only hold employees that are live
+ * or recently deleted.
+ * <p>
+ * Each run walks the candidates in {@code (deleted_at, id)} order in chunks of {@code chunk-size},
+ * one transaction per chunk, pausing between chunks. The job keeps no state: a chunk either moves
+ * completely or not at all, and an interrupted run simply finds the remaining candidates on the
+ * next one. Candidates locked by a restore or another instance's run are skipped and picked up
+ * later.
+ */
+@Component
+@Slf4j
+public class EmployeeArchiveJob {
+
+    private final EmployeeArchiveProperties properties;
+
+    private final EmployeeArchiveRepository archiveRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean sharded;
+
+    private final Counter archived;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-archiver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmployeeArchiveJob(EmployeeArchiveProperties properties, EmployeeArchiveRepository archiveRepository,
+                              PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                              @Value("${app.sharding.enabled:false}") boolean sharded) {
+        this.properties = properties;
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sharded = sharded;
+        this.archived = meterRegistry.counter("employee.archive.archived");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleOnStartup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (sharded) {
+            log.warn("Employee archival is not supported with sharding and stays off");
+            return;
+        }
+        long interval = properties.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(RoutingContext.isolated(this::run), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Archives every employee soft-deleted before now minus the retention; returns how many moved.
+     */
+    public int archiveExpired() {
+        Instant cutoff = Instant.now().minus(properties.getRetention());
+        int chunkSize = properties.getChunkSize();
+        Candidate cursor = new Candidate(0, Instant.EPOCH);
+        int total = 0;
+        while (true) {
+            Candidate after = cursor;
+            List<Candidate> chunk = transactionTemplate.execute(status -> {
+                List<Candidate> candidates = archiveRepository.lockCandidates(cutoff, after, chunkSize);
+                if (!candidates.isEmpty()) {
+                    archiveRepository.archive(candidates.stream().map(Candidate::id).toList(),
+                            properties.isIncludeAudit(), Instant.now());
+                }
+                return candidates;
+            });
+            total += chunk.size();
+            archived.increment(chunk.size());
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            cursor = chunk.get(chunk.size() - 1);
+            if (!pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} employees deleted before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private void run() {
+        try {
+            archiveExpired();
+        } catch (RuntimeException e) {
+            log.error("Employee archival failed; the next run resumes where it stopped", e);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPauseBetweenChunks().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.example.employeemanagement.archive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.archive")
+public class EmployeeArchiveProperties {
+
+    private boolean enabled = false;
+
+    // How long an employee stays soft-deleted in employees before being moved to employees_archive
+    private Duration retention = Duration.ofDays(90);
+
+    private Duration interval = Duration.ofHours(1);
+
+    // Employees moved per transaction
+    private int chunkSize = 500;
+
+    // Pause between chunks, so a large backlog does not monopolize the database
+    private Duration pauseBetweenChunks = Duration.ofMillis(100);
+
+    // Also move the employees' audit rows to employee_audit_archive
+    private boolean includeAudit = false;
+
+}
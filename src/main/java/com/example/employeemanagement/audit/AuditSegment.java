@@ -0,0 +1,353 @@
+package com.example.employeemanagement.audit;
+
+import com.example.employeemanagement.entity.AuditType;
+import com.example.employeemanagement.entity.EmployeeAudit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * An immutable file of audit rows, memory-mapped for reading.
+ * <p>
+ * Rows are sorted by employee id and audit id and cut into blocks of {@code block-rows} rows, each
+ * deflated on its own. A sparse index at the end of the file holds, per block, the first and last
+ * employee id, the time range and the block's position, so a lookup inflates only the blocks that
+ * can hold the employee. Snapshots of the same employee repeat most of their JSON, which is what
+ * makes per-block compression pay off.
+ * <pre>
+ * header: magic, version
+ * blocks: deflated rows
+ * index:  per block firstEmployeeId, lastEmployeeId, minPerformedAt, maxPerformedAt, offset, length, rawLength
+ * footer: indexOffset, blockCount, rowCount, minId, maxId, magic
+ * </pre>
+ */
+public final class AuditSegment {
+
+    private static final int MAGIC = 0x45415347;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 8;
+
+    private static final int INDEX_ENTRY_BYTES = 8 * 5 + 4 * 2;
+
+    private static final int FOOTER_BYTES = 8 + 4 + 4 + 8 + 8 + 4;
+
+    private static final Comparator<EmployeeAudit> ORDER = Comparator
+            .comparing(EmployeeAudit::getEmployeeId)
+            .thenComparing(EmployeeAudit::getId);
+
+    private final Path file;
+
+    private final MappedByteBuffer buffer;
+
+    private final long[] firstEmployeeIds;
+
+    private final long[] lastEmployeeIds;
+
+    private final long[] minPerformedAt;
+
+    private final long[] maxPerformedAt;
+
+    private final long[] offsets;
+
+    private final int[] lengths;
+
+    private final int[] rawLengths;
+
+    private final long minPerformedAtOverall;
+
+    private final int rowCount;
+
+    private final long minId;
+
+    private final long maxId;
+
+    private AuditSegment(Path file, MappedByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        int footer = buffer.capacity() - FOOTER_BYTES;
+        if (buffer.capacity() < HEADER_BYTES + FOOTER_BYTES || buffer.getInt(0) != MAGIC
+                || buffer.getInt(footer + FOOTER_BYTES - 4) != MAGIC) {
+            throw new IllegalStateException("Not an audit segment: " + file);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Unsupported audit segment version " + buffer.getInt(4) + ": " + file);
+        }
+        long indexOffset = buffer.getLong(footer);
+        int blocks = buffer.getInt(footer + 8);
+        this.rowCount = buffer.getInt(footer + 12);
+        this.minId = buffer.getLong(footer + 16);
+        this.maxId = buffer.getLong(footer + 24);
+        this.firstEmployeeIds = new long[blocks];
+        this.lastEmployeeIds = new long[blocks];
+        this.minPerformedAt = new long[blocks];
+        this.maxPerformedAt = new long[blocks];
+        this.offsets = new long[blocks];
+        this.lengths = new int[blocks];
+        this.rawLengths = new int[blocks];
+        for (int i = 0; i < blocks; i++) {
+            int entry = Math.toIntExact(indexOffset + (long) i * INDEX_ENTRY_BYTES);
+            firstEmployeeIds[i] = buffer.getLong(entry);
+            lastEmployeeIds[i] = buffer.getLong(entry + 8);
+            minPerformedAt[i] = buffer.getLong(entry + 16);
+            maxPerformedAt[i] = buffer.getLong(entry + 24);
+            offsets[i] = buffer.getLong(entry + 32);
+            lengths[i] = buffer.getInt(entry + 40);
+            rawLengths[i] = buffer.getInt(entry + 44);
+        }
+        this.minPerformedAtOverall = Arrays.stream(minPerformedAt).min().orElse(Long.MAX_VALUE);
+    }
+
+    /**
+     * Maps an existing segment file.
+     */
+    public static AuditSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new AuditSegment(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes {@code audits} to a new segment at {@code file} and maps it. The file appears only once
+     * it is complete and on disk.
+     */
+    public static AuditSegment write(Path file, List<EmployeeAudit> audits, int blockRows) throws IOException {
+        if (audits.isEmpty()) {
+            throw new IllegalArgumentException("A segment needs at least one row");
+        }
+        List<EmployeeAudit> sorted = new ArrayList<>(audits);
+        sorted.sort(ORDER);
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip());
+            int blocks = (sorted.size() + blockRows - 1) / blockRows;
+            ByteBuffer index = ByteBuffer.allocate(blocks * INDEX_ENTRY_BYTES);
+            for (int from = 0; from < sorted.size(); from += blockRows) {
+                List<EmployeeAudit> block = sorted.subList(from, Math.min(from + blockRows, sorted.size()));
+                byte[] raw = encode(block);
+                byte[] compressed = deflate(deflater, raw);
+                long offset = channel.position();
+                writeFully(channel, ByteBuffer.wrap(compressed));
+                index.putLong(block.get(0).getEmployeeId())
+                        .putLong(block.get(block.size() - 1).getEmployeeId())
+                        .putLong(block.stream().mapToLong(audit -> epochSecond(audit.getPerformedAt())).min().getAsLong())
+                        .putLong(block.stream().mapToLong(audit -> epochSecond(audit.getPerformedAt())).max().getAsLong())
+                        .putLong(offset)
+                        .putInt(compressed.length)
+                        .putInt(raw.length);
+            }
+            long indexOffset = channel.position();
+            writeFully(channel, index.flip());
+            writeFully(channel, ByteBuffer.allocate(FOOTER_BYTES)
+                    .putLong(indexOffset)
+                    .putInt(blocks)
+                    .putInt(sorted.size())
+                    .putLong(sorted.stream().mapToLong(EmployeeAudit::getId).min().getAsLong())
+                    .putLong(sorted.stream().mapToLong(EmployeeAudit::getId).max().getAsLong())
+                    .putInt(MAGIC)
+                    .flip());
+            channel.force(true);
+        } finally {
+            deflater.end();
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+        return open(file);
+    }
+
+    /**
+     * The employee's rows, in audit id order, skipping the segment or blocks that only hold rows
+     * performed after {@code notAfter} when it is given. Rows in the blocks read are returned
+     * whatever their time. Segments are written oldest rows first, so most segments are skipped
+     * whole for an early {@code notAfter}.
+     */
+    public List<EmployeeAudit> find(long employeeId, LocalDateTime notAfter) {
+        List<EmployeeAudit> found = new ArrayList<>();
+        long limit = notAfter != null ? epochSecond(notAfter) : Long.MAX_VALUE;
+        if (minPerformedAtOverall > limit) {
+            return found;
+        }
+        for (int block = firstBlockEndingAtOrAfter(employeeId);
+             block < firstEmployeeIds.length && firstEmployeeIds[block] <= employeeId; block++) {
+            if (minPerformedAt[block] > limit) {
+                continue;
+            }
+            for (EmployeeAudit audit : decode(block)) {
+                if (audit.getEmployeeId() == employeeId) {
+                    found.add(audit);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Every audit id in the segment.
+     */
+    public List<Long> ids() {
+        List<Long> ids = new ArrayList<>(rowCount);
+        for (int block = 0; block < offsets.length; block++) {
+            decode(block).forEach(audit -> ids.add(audit.getId()));
+        }
+        return ids;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public long minId() {
+        return minId;
+    }
+
+    public long maxId() {
+        return maxId;
+    }
+
+    public long sizeInBytes() {
+        return buffer.capacity();
+    }
+
+    private int firstBlockEndingAtOrAfter(long employeeId) {
+        int low = 0;
+        int high = lastEmployeeIds.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (lastEmployeeIds[middle] < employeeId) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private List<EmployeeAudit> decode(int block) {
+        byte[] raw = new byte[rawLengths[block]];
+        Inflater inflater = new Inflater();
+        try {
+            // Absolute slice, so concurrent readers never share a buffer position
+            inflater.setInput(buffer.slice(Math.toIntExact(offsets[block]), lengths[block]));
+            int read = 0;
+            while (read < raw.length && !inflater.finished()) {
+                read += inflater.inflate(raw, read, raw.length - read);
+            }
+            if (read != raw.length) {
+                throw new IllegalStateException("Truncated block " + block + " in " + file);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt block " + block + " in " + file, e);
+        } finally {
+            inflater.end();
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw))) {
+            int rows = in.readInt();
+            List<EmployeeAudit> audits = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                audits.add(EmployeeAudit.builder()
+                        .id(in.readLong())
+                        .employeeId(in.readLong())
+                        .auditType(AuditType.valueOf(in.readUTF()))
+                        .performedAt(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC))
+                        .performedBy(readString(in))
+                        .beforeSnapshot(readString(in))
+                        .afterSnapshot(readString(in))
+                        .description(readString(in))
+                        .build());
+            }
+            return audits;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable block " + block + " in " + file, e);
+        }
+    }
+
+    private static byte[] encode(List<EmployeeAudit> audits) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(audits.size());
+            for (EmployeeAudit audit : audits) {
+                out.writeLong(audit.getId());
+                out.writeLong(audit.getEmployeeId());
+                out.writeUTF(audit.getAuditType().name());
+                out.writeLong(epochSecond(audit.getPerformedAt()));
+                out.writeInt(audit.getPerformedAt().getNano());
+                writeString(out, audit.getPerformedBy());
+                writeString(out, audit.getBeforeSnapshot());
+                writeString(out, audit.getAfterSnapshot());
+                writeString(out, audit.getDescription());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] deflate(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        byte[] chunk = new byte[8192];
+        while (!deflater.finished()) {
+            compressed.write(chunk, 0, deflater.deflate(chunk));
+        }
+        return compressed.toByteArray();
+    }
+
+    // Length-prefixed UTF-8, -1 for null; writeUTF would cap snapshots at 64 KB
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long epochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+}
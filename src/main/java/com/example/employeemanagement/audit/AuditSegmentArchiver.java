@@ -0,0 +1,149 @@
+package com.example.employeemanagement.audit;
+
+import com.example.employeemanagement.datasource.RoutingContext;
+import com.example.employeemanagement.entity.EmployeeAudit;
+import com.example.employeemanagement.repository.EmployeeAuditRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rolls {@code employee_audit} rows older than the retention into {@link AuditSegmentStore}
+ * segments and deletes them from the table, oldest first, one segment at a time.
+ * <p>
+ * A segment is written and on disk before its rows are deleted, so an interruption can only leave
+ * rows in both places. Each run first deletes the rows of the newest segment again, and readers
+ * drop duplicates by audit id, so the next run simply carries on.
+ */
+@Component
+@Slf4j
+public class AuditSegmentArchiver {
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final AuditSegmentProperties properties;
+
+    private final AuditSegmentStore segmentStore;
+
+    private final EmployeeAuditRepository auditRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean sharded;
+
+    private final Counter archived;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "audit-segment-archiver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AuditSegmentArchiver(AuditSegmentProperties properties, AuditSegmentStore segmentStore,
+                                EmployeeAuditRepository auditRepository, PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry, @Value("${app.sharding.enabled:false}") boolean sharded) {
+        this.properties = properties;
+        this.segmentStore = segmentStore;
+        this.auditRepository = auditRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sharded = sharded;
+        this.archived = meterRegistry.counter("employee.audit.segment.archived");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleOnStartup() {
+        if (sharded) {
+            if (properties.isEnabled()) {
+                log.warn("Audit segment archival is not supported with sharding and stays off");
+            }
+            return;
+        }
+        long interval = properties.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(RoutingContext.isolated(this::run), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Moves every audit row performed before now minus the retention to segments; returns how
+     * many moved.
+     */
+    public synchronized int archiveExpired() {
+        delete(segmentStore.newestSegmentIds());
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        int rowsPerSegment = properties.getRowsPerSegment();
+        int total = 0;
+        while (true) {
+            // Archived rows are deleted, so every round starts from the oldest remaining row
+            List<EmployeeAudit> rows = auditRepository.findByPerformedAtBeforeOrderByPerformedAtAscIdAsc(cutoff,
+                    PageRequest.of(0, rowsPerSegment));
+            if (rows.isEmpty()) {
+                break;
+            }
+            AuditSegment segment = segmentStore.append(rows);
+            delete(rows.stream().map(EmployeeAudit::getId).toList());
+            total += rows.size();
+            archived.increment(rows.size());
+            log.debug("Archived {} audit rows to {}", rows.size(), segment.file());
+            if (rows.size() < rowsPerSegment || !pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} audit rows performed before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private void delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < ids.size(); from += DELETE_BATCH_SIZE) {
+                auditRepository.deleteAllByIdInBatch(ids.subList(from, Math.min(from + DELETE_BATCH_SIZE, ids.size())));
+            }
+        });
+    }
+
+    // Instances that do not archive still pick up the segments written by the one that does
+    private void run() {
+        try {
+            if (properties.isEnabled()) {
+                archiveExpired();
+            } else {
+                segmentStore.refresh();
+            }
+        } catch (RuntimeException e) {
+            log.error("Audit segment archival failed; the next run resumes where it stopped", e);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPauseBetweenSegments().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
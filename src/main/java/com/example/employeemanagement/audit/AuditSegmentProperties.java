@@ -0,0 +1,31 @@
+package com.example.employeemanagement.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.audit-segments")
+public class AuditSegmentProperties {
+
+    // Runs the archiver; segments already in the directory are read either way
+    private boolean enabled = false;
+
+    // Shared by every instance that serves history, e.g. a mounted volume
+    private String directory = "audit-segments";
+
+    // Audit rows older than this move from employee_audit to segment files
+    private Duration retention = Duration.ofDays(90);
+
+    private Duration interval = Duration.ofHours(1);
+
+    // Rows per segment file, and per transaction that deletes them from employee_audit
+    private int rowsPerSegment = 10_000;
+
+    // Rows per compressed block; a lookup inflates whole blocks
+    private int blockRows = 128;
+
+    private Duration pauseBetweenSegments = Duration.ofMillis(100);
+
+}
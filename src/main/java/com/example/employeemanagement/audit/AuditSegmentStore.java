@@ -0,0 +1,141 @@
+package com.example.employeemanagement.audit;
+
+import com.example.employeemanagement.entity.EmployeeAudit;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The audit segments in {@code app.audit-segments.directory}, oldest first. Segments are only ever
+ * added; each holds rows that have left, or are about to leave, {@code employee_audit}.
+ */
+@Component
+@Slf4j
+public class AuditSegmentStore {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("audit-(\\d{10})\\.seg");
+
+    private final AuditSegmentProperties properties;
+
+    private final List<AuditSegment> segments = new CopyOnWriteArrayList<>();
+
+    // Highest audit id in any segment
+    private volatile long archivedUpToId;
+
+    private int nextSequence = 1;
+
+    public AuditSegmentStore(AuditSegmentProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        meterRegistry.gauge("employee.audit.segments", segments, List::size);
+        meterRegistry.gauge("employee.audit.segment.rows", this, store -> store.segments.stream().mapToLong(AuditSegment::rowCount).sum());
+        meterRegistry.gauge("employee.audit.segment.bytes", this, store -> store.segments.stream().mapToLong(AuditSegment::sizeInBytes).sum());
+    }
+
+    @PostConstruct
+    public void load() {
+        int opened = refresh();
+        if (opened > 0) {
+            log.info("Opened {} audit segments in {}", opened, Path.of(properties.getDirectory()).toAbsolutePath());
+        }
+    }
+
+    /**
+     * Opens segments added to the directory since the last look, such as those written by the
+     * instance that runs the archiver; returns how many.
+     */
+    public synchronized int refresh() {
+        Path directory = Path.of(properties.getDirectory());
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        // A leftover .tmp file is an unfinished write; its rows are still in employee_audit
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                if (sequenceOf(entry) >= nextSequence) {
+                    files.add(entry);
+                }
+            }
+            files.sort(Comparator.comparing(path -> path.getFileName().toString()));
+            for (Path file : files) {
+                add(AuditSegment.open(file));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open the audit segments in " + directory, e);
+        }
+        return files.size();
+    }
+
+    /**
+     * Writes {@code audits} to a new segment.
+     */
+    public synchronized AuditSegment append(List<EmployeeAudit> audits) {
+        try {
+            Path directory = Files.createDirectories(Path.of(properties.getDirectory()));
+            Path file = directory.resolve("audit-%010d.seg".formatted(nextSequence));
+            AuditSegment segment = AuditSegment.write(file, audits, properties.getBlockRows());
+            add(segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write an audit segment", e);
+        }
+    }
+
+    /**
+     * The employee's archived rows, in no particular order; see {@link AuditSegment#find}.
+     */
+    public List<EmployeeAudit> findByEmployeeId(long employeeId, LocalDateTime notAfter) {
+        List<EmployeeAudit> found = new ArrayList<>();
+        for (AuditSegment segment : segments) {
+            found.addAll(segment.find(employeeId, notAfter));
+        }
+        return found;
+    }
+
+    /**
+     * Audit ids in the newest segment, the only one whose rows can still be in
+     * {@code employee_audit} after an interrupted archival.
+     */
+    public List<Long> newestSegmentIds() {
+        return segments.isEmpty() ? List.of() : segments.get(segments.size() - 1).ids();
+    }
+
+    /**
+     * Highest audit id in any segment, 0 when there are none. Readers of {@code employee_audit}
+     * by id range miss rows at or below it.
+     */
+    public long getArchivedUpToId() {
+        return archivedUpToId;
+    }
+
+    public List<AuditSegment> segments() {
+        return List.copyOf(segments);
+    }
+
+    private void add(AuditSegment segment) {
+        nextSequence = sequenceOf(segment.file()) + 1;
+        segments.add(segment);
+        archivedUpToId = Math.max(archivedUpToId, segment.maxId());
+    }
+
+    // -1 for files that are not segments
+    private static int sequenceOf(Path file) {
+        Matcher name = SEGMENT_NAME.matcher(file.getFileName().toString());
+        return name.matches() ? Integer.parseInt(name.group(1)) : -1;
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.example.employeemanagement.cache;
+
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.PagedResponse;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches list pages by normalized filter and page request. Entries are never removed on write;
+ * instead each key embeds a generation that writes bump, so stale pages simply stop matching and
+ * age out of the bounded cache.
+ * <p>
+ * Pages filtered by department use that department's generation, so a write to HR leaves
+ * Engineering's pages valid. Pages without a department filter use the global generation, which
+ * every write bumps. The generation is read before the page is loaded and bumped after the write
+ * commits, so a page loaded concurrently with a write is stored under the old generation.
+ */
+@Component
+public class EmployeePageCache {
+
+    public enum Status {
+        HIT,
+        MISS,
+        BYPASS
+    }
+
+    public record Result(PagedResponse<EmployeeResponse> page, Status status) {
+    }
+
+    private record PageKey(EmployeeFilter filter, int page, int size, String sort, long generation) {
+    }
+
+    private final EmployeePageCacheProperties properties;
+
+    private final Cache<PageKey, PagedResponse<EmployeeResponse>> cache;
+
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    private final Map<String, AtomicLong> departmentGenerations = new ConcurrentHashMap<>();
+
+    private volatile long lastChangeNanos = System.nanoTime();
+
+    private final Counter bypasses;
+
+    private final Counter invalidations;
+
+    public EmployeePageCache(EmployeePageCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employeePages");
+        this.bypasses = meterRegistry.counter("employee.page.cache.bypasses");
+        this.invalidations = meterRegistry.counter("employee.page.cache.invalidations");
+    }
+
+    public Result get(EmployeeFilter filter, Pageable pageable, boolean bypass, Supplier<PagedResponse<EmployeeResponse>> loader) {
+        if (!properties.isEnabled() || pageable.isUnpaged()) {
+            return new Result(loader.get(), Status.BYPASS);
+        }
+        EmployeeFilter normalized = filter.normalized();
+        PageKey key = new PageKey(normalized, pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().toString(), generationFor(normalized));
+        if (bypass) {
+            // The fresh page still refreshes the entry for the callers that do use the cache
+            bypasses.increment();
+            boolean storable = isStorable();
+            PagedResponse<EmployeeResponse> page = loader.get();
+            if (storable) {
+                cache.put(key, page);
+            }
+            return new Result(page, Status.BYPASS);
+        }
+        PagedResponse<EmployeeResponse> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return new Result(cached, Status.HIT);
+        }
+        // Stats are recorded by getIfPresent; the load itself runs outside the cache lock
+        boolean storable = isStorable();
+        PagedResponse<EmployeeResponse> page = loader.get();
+        if (storable) {
+            cache.put(key, page);
+        }
+        return new Result(page, Status.MISS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lastChangeNanos = System.nanoTime();
+        globalGeneration.incrementAndGet();
+        for (String department : event.departments()) {
+            departmentGenerations.computeIfAbsent(department.toLowerCase(), ignored -> new AtomicLong()).incrementAndGet();
+        }
+        invalidations.increment();
+    }
+
+    public void invalidateAll() {
+        globalGeneration.incrementAndGet();
+        departmentGenerations.values().forEach(AtomicLong::incrementAndGet);
+        cache.invalidateAll();
+    }
+
+    // A page read from a lagging replica right after a write may predate it; serve it but do not keep it
+    private boolean isStorable() {
+        long delay = properties.getStoreDelayAfterWrite().toNanos();
+        return delay <= 0 || System.nanoTime() - lastChangeNanos >= delay;
+    }
+
+    private long generationFor(EmployeeFilter normalized) {
+        if (normalized.getDepartment() == null) {
+            return globalGeneration.get();
+        }
+        // Only writes create counters, so arbitrary filter values cannot grow the map
+        AtomicLong generation = departmentGenerations.get(normalized.getDepartment());
+        return generation != null ? generation.get() : 0L;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.example.employeemanagement.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.page-cache")
+public class EmployeePageCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maximumSize = 10_000;
+
+    // Upper bound on staleness for writes this instance never sees, e.g. from other instances
+    private Duration timeToLive = Duration.ofMinutes(5);
+
+    // With read replicas, set to the maximum replica lag so pages read before a write replicated are not cached
+    private Duration storeDelayAfterWrite = Duration.ZERO;
+
+}
@@ -0,0 +1,376 @@
+package com.example.employeemanagement.changefeed;
+
+import com.example.employeemanagement.audit.AuditSegmentStore;
+import com.example.employeemanagement.datasource.RoutingContext;
+import com.example.employeemanagement.dto.EmployeeChange;
+import com.example.employeemanagement.entity.EmployeeAudit;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.example.employeemanagement.repository.EmployeeAuditRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent change feed backed by {@code employee_audit}. The audit id is the event id, so the
+ * audit table is both the live source and the replay log for clients resuming from
+ * {@code Last-Event-ID}.
+ * <p>
+ * A single publisher thread tails the audit table, after every local commit and on a poll
+ * interval, and encodes each event once; subscribers share the encoded event. Each subscriber has
+ * a bounded queue drained by a small sender pool. A subscriber whose queue overflows is
+ * disconnected and resumes from the audit log when it reconnects, so a slow client never holds
+ * more than {@code buffer-size} references. A subscriber whose write has been blocked for longer
+ * than {@code send-timeout} is disconnected too, and the pool gets a spare thread until that write
+ * returns, so stalled clients cannot hold up the others.
+ * <p>
+ * Audit ids are allocated before their transactions commit, so a later id can become visible first.
+ * The publisher stops at such a gap until the missing rows show up, or until every transaction that
+ * was open when the gap was seen has ended, at which point the missing ids were rolled back. The
+ * published id is therefore a watermark no audit row can still commit below.
+ * <p>
+ * Rows moved to audit segments are gone from the replay log. A client resuming from before the
+ * newest of them gets a {@code reset} event instead of a replay with a gap; its id is where the
+ * stream continues, and the client should resync through the delta endpoint.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@Slf4j
+public class ChangeFeedBroadcaster {
+
+    record Event(long id, Set<DataWithMediaType> payload) {
+    }
+
+    private static final Event HEARTBEAT = new Event(0, SseEmitter.event().comment("heartbeat").build());
+
+    private final ChangeFeedProperties properties;
+
+    private final EmployeeAuditRepository auditRepository;
+
+    private final AuditSegmentStore segmentStore;
+
+    private final InFlightTransactions inFlightTransactions;
+
+    private final ObjectMapper objectMapper;
+
+    private final Set<ChangeFeedSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean pollPending = new AtomicBoolean();
+
+    private final Counter slowConsumerDisconnects;
+
+    private final Counter stalledSendDisconnects;
+
+    private ScheduledExecutorService publisher;
+
+    private ThreadPoolExecutor senders;
+
+    // Highest audit id handed to subscribers; written by the publisher thread only
+    private volatile long lastPublishedId;
+
+    // First missing audit id below a visible one, and the transactions open when it was seen
+    private long gapId;
+
+    private Set<String> gapTransactions = Set.of();
+
+    public ChangeFeedBroadcaster(ChangeFeedProperties properties, EmployeeAuditRepository auditRepository,
+                                 AuditSegmentStore segmentStore, InFlightTransactions inFlightTransactions,
+                                 ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.auditRepository = auditRepository;
+        this.segmentStore = segmentStore;
+        this.inFlightTransactions = inFlightTransactions;
+        this.objectMapper = objectMapper;
+        this.slowConsumerDisconnects = meterRegistry.counter("employee.change.feed.disconnects", "reason", "slow-consumer");
+        this.stalledSendDisconnects = meterRegistry.counter("employee.change.feed.disconnects", "reason", "send-timeout");
+        meterRegistry.gauge("employee.change.feed.subscribers", subscriptions, Set::size);
+    }
+
+    @PostConstruct
+    public void start() throws InterruptedException {
+        long maxId = auditRepository.findMaxId();
+        // Ids below the current maximum may still be committing; start once their transactions are done
+        Set<String> open = inFlightTransactions.list();
+        while (!Collections.disjoint(open, inFlightTransactions.list())) {
+            Thread.sleep(50);
+        }
+        lastPublishedId = maxId;
+        publisher = Executors.newSingleThreadScheduledExecutor(daemonThreads("change-feed-publisher"));
+        int threads = properties.getSenderThreads();
+        senders = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                daemonThreads("change-feed-sender"));
+        long poll = properties.getPollInterval().toMillis();
+        publisher.scheduleWithFixedDelay(this::requestPoll, poll, poll, TimeUnit.MILLISECONDS);
+        long heartbeat = properties.getHeartbeatInterval().toMillis();
+        publisher.scheduleAtFixedRate(() -> broadcast(HEARTBEAT), heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+        long stallCheck = Math.max(1, properties.getSendTimeout().toMillis() / 2);
+        publisher.scheduleAtFixedRate(this::disconnectStalledSubscribers, stallCheck, stallCheck, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        publisher.shutdownNow();
+        senders.shutdownNow();
+        subscriptions.forEach(this::close);
+    }
+
+    /**
+     * Opens a stream that first replays the audit log after {@code lastEventId}, when given, and
+     * then follows live changes.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        long cursor = lastEventId != null ? Math.max(0, lastEventId) : lastPublishedId;
+        ChangeFeedSubscription subscription = new ChangeFeedSubscription(properties.getSubscriberTimeout().toMillis(),
+                cursor, properties.getBufferSize(), this::schedule);
+        subscription.onCompletion(() -> subscriptions.remove(subscription));
+        subscription.onTimeout(() -> close(subscription));
+        subscription.onError(error -> close(subscription));
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Highest audit id the feed has published. Every audit id up to it has committed or been rolled
+     * back, so it is safe to use as a watermark.
+     */
+    public long getLastPublishedId() {
+        return lastPublishedId;
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        requestPoll();
+    }
+
+    void requestPoll() {
+        if (pollPending.compareAndSet(false, true)) {
+            // A replica may not have the rows yet that the open transaction check says have committed
+            publisher.execute(RoutingContext.isolated(() -> {
+                RoutingContext.pinPrimary();
+                poll();
+            }));
+        }
+    }
+
+    private void poll() {
+        pollPending.set(false);
+        try {
+            // Checked before reading, so a missing row that commits meanwhile is still read below
+            boolean gapClosed = gapId != 0 && Collections.disjoint(gapTransactions, inFlightTransactions.list());
+            List<EmployeeAudit> audits = auditRepository.findByIdGreaterThanOrderByIdAsc(lastPublishedId,
+                    PageRequest.of(0, properties.getBatchSize()));
+            for (EmployeeAudit audit : audits) {
+                long expected = lastPublishedId + 1;
+                if (audit.getId() != expected && !(gapClosed && gapId == expected)) {
+                    if (gapId != expected) {
+                        // Whichever transaction holds the missing ids was open before this read
+                        gapId = expected;
+                        gapTransactions = inFlightTransactions.list();
+                    }
+                    publisher.schedule(this::requestPoll, 50, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                if (audit.getId() != expected) {
+                    log.debug("Audit ids {} to {} were rolled back", expected, audit.getId() - 1);
+                }
+                gapId = 0;
+                gapTransactions = Set.of();
+                Event event = toEvent(audit);
+                lastPublishedId = event.id();
+                broadcast(event);
+            }
+            if (audits.size() == properties.getBatchSize()) {
+                requestPoll();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Change feed poll failed", e);
+        }
+    }
+
+    private void disconnectStalledSubscribers() {
+        long cutoff = System.currentTimeMillis() - properties.getSendTimeout().toMillis();
+        for (ChangeFeedSubscription subscription : subscriptions) {
+            if (subscription.markStalled(cutoff)) {
+                log.info("Disconnecting change feed subscriber stuck writing event {}", subscription.cursor);
+                stalledSendDisconnects.increment();
+                subscription.closed = true;
+                subscriptions.remove(subscription);
+                // The blocked sender only returns on the container's write timeout; cover for it meanwhile
+                resizeSenders(1);
+            }
+        }
+    }
+
+    private synchronized void resizeSenders(int delta) {
+        if (delta > 0) {
+            senders.setMaximumPoolSize(senders.getMaximumPoolSize() + delta);
+            senders.setCorePoolSize(senders.getCorePoolSize() + delta);
+        } else {
+            senders.setCorePoolSize(senders.getCorePoolSize() + delta);
+            senders.setMaximumPoolSize(senders.getMaximumPoolSize() + delta);
+        }
+    }
+
+    private void broadcast(Event event) {
+        for (ChangeFeedSubscription subscription : subscriptions) {
+            if (!subscription.ready || (event == HEARTBEAT && subscription.replaying)) {
+                continue;
+            }
+            if (subscription.offer(event)) {
+                schedule(subscription);
+            } else {
+                log.info("Disconnecting slow change feed subscriber at event {}", subscription.cursor);
+                slowConsumerDisconnects.increment();
+                close(subscription);
+            }
+        }
+    }
+
+    private void schedule(ChangeFeedSubscription subscription) {
+        if (!subscription.closed && subscription.scheduled.compareAndSet(false, true)) {
+            senders.execute(RoutingContext.isolated(() -> drain(subscription)));
+        }
+    }
+
+    private void drain(ChangeFeedSubscription subscription) {
+        try {
+            if (subscription.replaying) {
+                replay(subscription);
+            }
+            Event event;
+            while (!subscription.closed && (event = subscription.poll()) != null) {
+                if (event == HEARTBEAT) {
+                    subscription.write(event.payload());
+                } else if (event.id() > subscription.cursor) {
+                    subscription.write(event.payload());
+                    subscription.cursor = event.id();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Change feed subscriber disconnected", e);
+            close(subscription);
+        } finally {
+            if (subscription.returnStalledThread()) {
+                resizeSenders(-1);
+                close(subscription);
+            }
+            subscription.scheduled.set(false);
+            if (subscription.hasQueued()) {
+                schedule(subscription);
+            }
+        }
+    }
+
+    private void replay(ChangeFeedSubscription subscription) throws IOException {
+        while (!subscription.closed) {
+            long upTo = lastPublishedId;
+            if (subscription.cursor >= upTo) {
+                synchronized (subscription) {
+                    // Once switched, every event past lastPublishedId reaches the live queue
+                    if (subscription.cursor >= lastPublishedId) {
+                        subscription.replaying = false;
+                        return;
+                    }
+                }
+                continue;
+            }
+            long archivedUpTo = segmentStore.getArchivedUpToId();
+            if (subscription.cursor < archivedUpTo) {
+                subscription.write(resetEvent(upTo, archivedUpTo));
+                subscription.cursor = upTo;
+                continue;
+            }
+            List<EmployeeAudit> audits = auditRepository.findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                    subscription.cursor, upTo, PageRequest.of(0, properties.getBatchSize()));
+            if (audits.isEmpty()) {
+                subscription.cursor = upTo;
+            }
+            for (EmployeeAudit audit : audits) {
+                subscription.write(toEvent(audit).payload());
+                subscription.cursor = audit.getId();
+            }
+        }
+    }
+
+    private void close(ChangeFeedSubscription subscription) {
+        subscription.closed = true;
+        subscriptions.remove(subscription);
+        try {
+            subscription.complete();
+        } catch (RuntimeException e) {
+            log.debug("Unable to complete change feed stream", e);
+        }
+    }
+
+    private Event toEvent(EmployeeAudit audit) {
+        EmployeeChange change = EmployeeChange.builder()
+                .eventId(audit.getId())
+                .type(audit.getAuditType())
+                .employeeId(audit.getEmployeeId())
+                .performedAt(audit.getPerformedAt())
+                .employee(audit.getAfterSnapshot())
+                .build();
+        try {
+            return new Event(audit.getId(), SseEmitter.event()
+                    .id(String.valueOf(audit.getId()))
+                    .name(audit.getAuditType().name().toLowerCase(Locale.ROOT))
+                    // Encoded once as bytes; every subscriber writes the same array
+                    .data(objectMapper.writeValueAsBytes(change))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to encode change event " + audit.getId(), e);
+        }
+    }
+
+    private Set<DataWithMediaType> resetEvent(long resumeFrom, long archivedUpTo) {
+        try {
+            return SseEmitter.event()
+                    .id(String.valueOf(resumeFrom))
+                    .name("reset")
+                    .data(objectMapper.writeValueAsBytes(Map.of("archivedUpToId", archivedUpTo)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to encode reset event", e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
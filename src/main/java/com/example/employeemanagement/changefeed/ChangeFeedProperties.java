@@ -0,0 +1,29 @@
+package com.example.employeemanagement.changefeed;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.change-feed")
+public class ChangeFeedProperties {
+
+    // Local writes are published right after commit; polling picks up writes from other instances
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    private int batchSize = 500;
+
+    // Events queued per subscriber before it is disconnected as a slow consumer
+    private int bufferSize = 256;
+
+    private int senderThreads = 4;
+
+    // How long a single write to a client may block before the client is disconnected
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    private Duration subscriberTimeout = Duration.ofMinutes(30);
+
+}
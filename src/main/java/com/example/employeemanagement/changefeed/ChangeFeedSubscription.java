@@ -0,0 +1,106 @@
+package com.example.employeemanagement.changefeed;
+
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * One connected client: a bounded queue of shared, pre-encoded events and the id of the last event
+ * it was sent. While {@code replaying}, live events are not queued; the client is catching up from
+ * the audit log, which will include them.
+ */
+final class ChangeFeedSubscription extends SseEmitter {
+
+    private static final long STALLED = -1;
+
+    private final ArrayBlockingQueue<ChangeFeedBroadcaster.Event> queue;
+
+    private final Consumer<ChangeFeedSubscription> onReady;
+
+    final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // Start of the write in progress in epoch millis, 0 when idle, STALLED once given up on
+    final AtomicLong writeStartedAt = new AtomicLong();
+
+    private boolean stalledWriteReturned;
+
+    // Only touched by the sender thread currently draining this subscription, or under its lock
+    long cursor;
+
+    boolean replaying = true;
+
+    volatile boolean ready;
+
+    volatile boolean closed;
+
+    ChangeFeedSubscription(long timeoutMillis, long cursor, int bufferSize, Consumer<ChangeFeedSubscription> onReady) {
+        super(timeoutMillis);
+        this.cursor = cursor;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.onReady = onReady;
+    }
+
+    // Called just before the emitter is attached to the response; sending earlier would only
+    // pile events up in the emitter's unbounded early-send buffer
+    @Override
+    protected void extendResponse(ServerHttpResponse outputMessage) {
+        super.extendResponse(outputMessage);
+        ready = true;
+        onReady.accept(this);
+    }
+
+    /**
+     * Returns {@code false} when the buffer is full, i.e. the client is not keeping up.
+     */
+    synchronized boolean offer(ChangeFeedBroadcaster.Event event) {
+        if (closed || replaying) {
+            return true;
+        }
+        return queue.offer(event);
+    }
+
+    /**
+     * Sends {@code payload} to the client, blocking while the container waits for the socket.
+     */
+    void write(Set<DataWithMediaType> payload) throws IOException {
+        writeStartedAt.set(System.currentTimeMillis());
+        try {
+            send(payload);
+        } finally {
+            stalledWriteReturned = writeStartedAt.getAndSet(0) == STALLED;
+        }
+    }
+
+    /**
+     * Gives up on the write in progress if it started before {@code cutoff}; returns whether it did.
+     */
+    boolean markStalled(long cutoff) {
+        long startedAt = writeStartedAt.get();
+        return startedAt > 0 && startedAt < cutoff && writeStartedAt.compareAndSet(startedAt, STALLED);
+    }
+
+    /**
+     * Whether a write given up on by {@link #markStalled} has returned since the last call.
+     */
+    boolean returnStalledThread() {
+        boolean returned = stalledWriteReturned;
+        stalledWriteReturned = false;
+        return returned;
+    }
+
+    ChangeFeedBroadcaster.Event poll() {
+        return queue.poll();
+    }
+
+    boolean hasQueued() {
+        return !queue.isEmpty();
+    }
+
+}
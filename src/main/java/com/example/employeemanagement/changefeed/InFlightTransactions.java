@@ -0,0 +1,60 @@
+package com.example.employeemanagement.changefeed;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Lists the transactions open on the primary database, each as a key that changes when its session
+ * starts another transaction. Once none of the transactions open at some moment is listed any more,
+ * every audit id allocated before that moment has either committed or been rolled back.
+ * <p>
+ * PostgreSQL only shows the transaction start of sessions of the same role, or of every role to
+ * members of {@code pg_read_all_stats}. H2 has no transaction start, so a session that keeps
+ * uncommitted work across two listings counts as the same transaction; that only delays a gap.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+class InFlightTransactions {
+
+    private static final String POSTGRES_SQL = "SELECT pid::text || '@' || xact_start::text FROM pg_stat_activity "
+            + "WHERE datname = current_database() AND backend_type = 'client backend' "
+            + "AND xact_start IS NOT NULL AND pid <> pg_backend_pid()";
+
+    private static final String H2_SQL = "SELECT CAST(SESSION_ID AS VARCHAR) FROM INFORMATION_SCHEMA.SESSIONS "
+            + "WHERE CONTAINS_UNCOMMITTED AND SESSION_ID <> SESSION_ID()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String sql;
+
+    InFlightTransactions(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sql = switch (productName(dataSource)) {
+            case "PostgreSQL" -> POSTGRES_SQL;
+            case "H2" -> H2_SQL;
+            default -> throw new IllegalStateException("The change feed cannot tell open transactions apart on "
+                    + productName(dataSource) + "; only PostgreSQL and H2 are supported");
+        };
+    }
+
+    Set<String> list() {
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class));
+    }
+
+    private static String productName(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Unable to detect the database product for the change feed", e);
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.example.employeemanagement.concurrency;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit adjusted by additive increase, multiplicative decrease on observed latency.
+ * A request finishing within the latency target while the limit is at least half used raises the
+ * limit by one; a slower one multiplies it by the backoff ratio. When the database pool saturates,
+ * latency climbs and the limit falls towards what the pool can actually serve, so excess requests
+ * are shed at the door instead of queueing on Hikari.
+ */
+final class AimdLimiter {
+
+    private final ConcurrencyLimitProperties.Limit config;
+
+    private final double backoffRatio;
+
+    private final long latencyTargetNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition released = lock.newCondition();
+
+    private volatile int limit;
+
+    private volatile int inFlight;
+
+    private volatile int queued;
+
+    AimdLimiter(ConcurrencyLimitProperties.Limit config, double backoffRatio) {
+        this.config = config;
+        this.backoffRatio = backoffRatio;
+        this.latencyTargetNanos = config.getLatencyTarget().toNanos();
+        this.limit = Math.max(config.getMinLimit(), Math.min(config.getInitialLimit(), config.getMaxLimit()));
+    }
+
+    /**
+     * Takes a slot, waiting up to the queue timeout when none is free. Returns {@code false} when
+     * the request should be shed.
+     */
+    boolean acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < limit) {
+                inFlight++;
+                return true;
+            }
+            if (queued >= config.getQueueSize()) {
+                return false;
+            }
+            queued++;
+            try {
+                long remaining = config.getQueueTimeout().toNanos();
+                while (inFlight >= limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(long latencyNanos) {
+        lock.lock();
+        try {
+            // Only grow while the limit is actually in use, so idle periods do not inflate it
+            boolean busy = inFlight * 2 >= limit;
+            inFlight--;
+            if (latencyNanos > latencyTargetNanos) {
+                limit = Math.max(config.getMinLimit(), (int) (limit * backoffRatio));
+            } else if (busy) {
+                limit = Math.min(config.getMaxLimit(), limit + 1);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight;
+    }
+
+    int getQueued() {
+        return queued;
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.example.employeemanagement.concurrency;
+
+import com.example.employeemanagement.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sheds API requests with 503 and {@code Retry-After} once their endpoint class is at its
+ * adaptive concurrency limit and the short queue in front of it is full or timed out. Reads,
+ * writes and bulk transfers each have their own limiter, so a burst of exports cannot take the
+ * threads and connections that single-employee reads need.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimitProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<EndpointClass, AimdLimiter> limiters = new EnumMap<>(EndpointClass.class);
+
+    private final Map<EndpointClass, Counter> rejections = new EnumMap<>(EndpointClass.class);
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        register(EndpointClass.READ, properties.getRead(), meterRegistry);
+        register(EndpointClass.WRITE, properties.getWrite(), meterRegistry);
+        register(EndpointClass.BULK, properties.getBulk(), meterRegistry);
+    }
+
+    private void register(EndpointClass endpointClass, ConcurrencyLimitProperties.Limit config, MeterRegistry meterRegistry) {
+        AimdLimiter limiter = new AimdLimiter(config, properties.getBackoffRatio());
+        limiters.put(endpointClass, limiter);
+        Gauge.builder("api.concurrency.limit", limiter, AimdLimiter::getLimit)
+                .tag("endpoint", endpointClass.tag()).register(meterRegistry);
+        Gauge.builder("api.concurrency.in-flight", limiter, AimdLimiter::getInFlight)
+                .tag("endpoint", endpointClass.tag()).register(meterRegistry);
+        Gauge.builder("api.concurrency.queued", limiter, AimdLimiter::getQueued)
+                .tag("endpoint", endpointClass.tag()).register(meterRegistry);
+        rejections.put(endpointClass, meterRegistry.counter("api.concurrency.rejections", "endpoint", endpointClass.tag()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        // The change stream holds its request open for minutes and touches the database only on replay
+        return !properties.isEnabled() || !uri.startsWith("/api/") || uri.endsWith("/changes/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        AimdLimiter limiter = limiters.get(endpointClass);
+        boolean acquired;
+        try {
+            acquired = limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejections.get(endpointClass).increment();
+            log.debug("Shedding {} {}: {} limit {} reached", request.getMethod(), request.getRequestURI(),
+                    endpointClass.tag(), limiter.getLimit());
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean releaseLater = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Streaming bodies keep their slot until the response completes
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limiter, start));
+                releaseLater = true;
+            }
+        } finally {
+            if (!releaseLater) {
+                limiter.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "Too many concurrent requests, retry later",
+                "uri=" + request.getRequestURI(),
+                null
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static final class ReleaseOnComplete implements AsyncListener {
+
+        private final AimdLimiter limiter;
+
+        private final long start;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleaseOnComplete(AimdLimiter limiter, long start) {
+            this.limiter = limiter;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - start);
+            }
+        }
+
+    }
+
+}
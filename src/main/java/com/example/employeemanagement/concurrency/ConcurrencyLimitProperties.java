@@ -0,0 +1,50 @@
+package com.example.employeemanagement.concurrency;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    // Sent as Retry-After on shed requests
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    // Applied to the limit whenever a request finishes slower than its latency target
+    private double backoffRatio = 0.9;
+
+    private Limit read = new Limit(20, 4, 200, Duration.ofMillis(250), 50, Duration.ofMillis(100));
+
+    private Limit write = new Limit(10, 2, 50, Duration.ofMillis(500), 20, Duration.ofMillis(100));
+
+    // Export, import and delta sync; fixed by default so they can never crowd out reads
+    private Limit bulk = new Limit(2, 2, 2, Duration.ofMinutes(5), 2, Duration.ofMillis(100));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        private int initialLimit;
+
+        private int minLimit;
+
+        private int maxLimit;
+
+        // Slower requests shrink the limit, faster ones under load grow it by one
+        private Duration latencyTarget;
+
+        // Requests allowed to wait for a slot once the limit is reached
+        private int queueSize;
+
+        private Duration queueTimeout;
+
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.example.employeemanagement.concurrency;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Locale;
+
+public enum EndpointClass {
+
+    READ,
+    WRITE,
+    BULK;
+
+    private final String tag = name().toLowerCase(Locale.ROOT);
+
+    public String tag() {
+        return tag;
+    }
+
+    static EndpointClass of(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.endsWith("/export") || uri.endsWith("/import") || uri.endsWith("/upsert") || uri.endsWith("/delta")) {
+            return BULK;
+        }
+        if (uri.endsWith("/lookup")) {
+            // A POST only to carry the id list
+            return READ;
+        }
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method) ? READ : WRITE;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.example.employeemanagement.concurrency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with equal keys: the first caller runs the call, callers arriving
+ * while it is in flight wait for and share its result or exception. The key is removed before the
+ * result is published, so nothing is reused once the call has returned.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = calls.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing);
+        }
+        V result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            calls.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        calls.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    /**
+     * Lets later callers start a fresh call instead of joining the one in flight, e.g. once a
+     * write has committed. Callers already waiting still get its result.
+     */
+    public void forget(K key) {
+        calls.remove(key);
+    }
+
+    public void forgetAll() {
+        calls.clear();
+    }
+
+    public int inFlight() {
+        return calls.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+}
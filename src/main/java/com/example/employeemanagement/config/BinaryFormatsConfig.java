@@ -0,0 +1,30 @@
+package com.example.employeemanagement.config;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Compact alternatives to JSON, selected by the {@code Accept} header: CBOR
+ * ({@code application/cbor}), Smile ({@code application/x-jackson-smile}) and protobuf
+ * ({@code application/x-protobuf}, registered in {@link WebMvcConfig}). JSON stays the default
+ * when no binary type is requested.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    // Replaces the converters Spring registers by default so the mappers share the JSON settings
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(JsonConfig.configure(new CBORMapper()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(JsonConfig.configure(new SmileMapper()));
+    }
+
+}
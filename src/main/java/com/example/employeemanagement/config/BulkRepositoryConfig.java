@@ -0,0 +1,43 @@
+package com.example.employeemanagement.config;
+
+import com.example.employeemanagement.mapper.EmployeeCsvMapper;
+import com.example.employeemanagement.repository.EmployeeBulkRepository;
+import com.example.employeemanagement.repository.JdbcEmployeeBulkRepository;
+import com.example.employeemanagement.repository.PostgresCopyEmployeeBulkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+@Configuration
+@Slf4j
+public class BulkRepositoryConfig {
+
+    @Bean
+    public EmployeeBulkRepository employeeBulkRepository(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                                         NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                                         EmployeeCsvMapper csvMapper, EmployeeImportProperties properties) {
+        if (properties.isPostgresCopy() && isPostgres(dataSource)) {
+            log.info("Bulk import and export use PostgreSQL COPY");
+            return new PostgresCopyEmployeeBulkRepository(jdbcTemplate, namedParameterJdbcTemplate, csvMapper);
+        }
+        return new JdbcEmployeeBulkRepository(jdbcTemplate, namedParameterJdbcTemplate, csvMapper);
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("Unable to detect the database product, falling back to batched JDBC for bulk operations", e);
+            return false;
+        }
+    }
+
+}
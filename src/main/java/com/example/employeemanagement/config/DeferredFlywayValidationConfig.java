@@ -0,0 +1,51 @@
+package com.example.employeemanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.ValidateResult;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Takes Flyway's checksum validation of already applied migrations off the startup path when
+ * {@code app.flyway.deferred-validation=true}. Pending migrations still run before the context
+ * starts; validation runs in the background once the application is ready and logs any mismatch.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.flyway", name = "deferred-validation", havingValue = "true")
+@Slf4j
+public class DeferredFlywayValidationConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer skipValidateOnMigrate() {
+        return configuration -> configuration.validateOnMigrate(false);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> deferredFlywayValidation(ObjectProvider<Flyway> flyway) {
+        return event -> flyway.ifAvailable(available -> {
+            Thread thread = new Thread(() -> validate(available), "flyway-validation");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    private static void validate(Flyway flyway) {
+        try {
+            ValidateResult result = flyway.validateWithResult();
+            if (result.validationSuccessful) {
+                log.debug("Deferred Flyway validation passed");
+            } else {
+                log.error("Applied migrations do not match this build: {}", result.getAllErrorMessages());
+            }
+        } catch (RuntimeException e) {
+            log.error("Deferred Flyway validation failed", e);
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.example.employeemanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.import")
+public class EmployeeImportProperties {
+
+    // Rows validated, deduplicated and inserted together; also the JDBC batch size
+    private int chunkSize = 1000;
+
+    // Use COPY for import and export when the database is PostgreSQL
+    private boolean postgresCopy = true;
+
+}
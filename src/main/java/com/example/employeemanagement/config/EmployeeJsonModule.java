@@ -0,0 +1,266 @@
+package com.example.employeemanagement.config;
+
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.PagedResponse;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hand-written serializers for the employee read payloads, replacing the reflective bean
+ * serializer for {@link EmployeeResponse} and {@link PagedResponse} only. Property names are
+ * pre-encoded once, enums are written from cached strings, and dates are formatted into a
+ * per-thread buffer instead of through {@code DateTimeFormatter}. The output is identical to the
+ * reflective serializer with {@link com.fasterxml.jackson.datatype.jsr310.JavaTimeModule}.
+ */
+public class EmployeeJsonModule extends SimpleModule {
+
+    public EmployeeJsonModule() {
+        super("EmployeeJsonModule");
+        addSerializer(EmployeeResponse.class, new EmployeeResponseSerializer());
+        addSerializer(new PagedResponseSerializer());
+    }
+
+    static final class EmployeeResponseSerializer extends StdSerializer<EmployeeResponse> {
+
+        private static final SerializedString ID = new SerializedString("id");
+        private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+        private static final SerializedString LAST_NAME = new SerializedString("lastName");
+        private static final SerializedString EMAIL = new SerializedString("email");
+        private static final SerializedString PHONE = new SerializedString("phone");
+        private static final SerializedString DATE_OF_BIRTH = new SerializedString("dateOfBirth");
+        private static final SerializedString HIRE_DATE = new SerializedString("hireDate");
+        private static final SerializedString JOB_TITLE = new SerializedString("jobTitle");
+        private static final SerializedString DEPARTMENT = new SerializedString("department");
+        private static final SerializedString SALARY = new SerializedString("salary");
+        private static final SerializedString STATUS = new SerializedString("status");
+        private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+        private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+        private static final SerializedString MANAGER_ID = new SerializedString("managerId");
+
+        private static final SerializedString[] STATUS_NAMES = new SerializedString[EmployeeStatus.values().length];
+
+        static {
+            for (EmployeeStatus status : EmployeeStatus.values()) {
+                STATUS_NAMES[status.ordinal()] = new SerializedString(status.name());
+            }
+        }
+
+        EmployeeResponseSerializer() {
+            super(EmployeeResponse.class);
+        }
+
+        @Override
+        public void serialize(EmployeeResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(ID);
+            if (value.getId() != null) {
+                gen.writeNumber(value.getId());
+            } else {
+                gen.writeNull();
+            }
+            writeString(gen, FIRST_NAME, value.getFirstName());
+            writeString(gen, LAST_NAME, value.getLastName());
+            writeString(gen, EMAIL, value.getEmail());
+            writeString(gen, PHONE, value.getPhone());
+            writeDate(gen, provider, DATE_OF_BIRTH, value.getDateOfBirth());
+            writeDate(gen, provider, HIRE_DATE, value.getHireDate());
+            writeString(gen, JOB_TITLE, value.getJobTitle());
+            writeString(gen, DEPARTMENT, value.getDepartment());
+            gen.writeFieldName(SALARY);
+            BigDecimal salary = value.getSalary();
+            if (salary != null) {
+                gen.writeNumber(salary);
+            } else {
+                gen.writeNull();
+            }
+            gen.writeFieldName(STATUS);
+            if (value.getStatus() != null) {
+                gen.writeString(STATUS_NAMES[value.getStatus().ordinal()]);
+            } else {
+                gen.writeNull();
+            }
+            writeDateTime(gen, provider, CREATED_AT, value.getCreatedAt());
+            writeDateTime(gen, provider, UPDATED_AT, value.getUpdatedAt());
+            gen.writeFieldName(MANAGER_ID);
+            if (value.getManagerId() != null) {
+                gen.writeNumber(value.getManagerId());
+            } else {
+                gen.writeNull();
+            }
+            gen.writeEndObject();
+        }
+
+        private static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+            gen.writeFieldName(name);
+            if (value != null) {
+                gen.writeString(value);
+            } else {
+                gen.writeNull();
+            }
+        }
+
+        private static void writeDate(JsonGenerator gen, SerializerProvider provider, SerializedString name, LocalDate value) throws IOException {
+            gen.writeFieldName(name);
+            if (value == null) {
+                gen.writeNull();
+            } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS) || !IsoDates.fits(value)) {
+                provider.defaultSerializeValue(value, gen);
+            } else {
+                char[] buffer = IsoDates.buffer();
+                gen.writeString(buffer, 0, IsoDates.format(value, buffer, 0));
+            }
+        }
+
+        private static void writeDateTime(JsonGenerator gen, SerializerProvider provider, SerializedString name, LocalDateTime value) throws IOException {
+            gen.writeFieldName(name);
+            if (value == null) {
+                gen.writeNull();
+            } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS) || !IsoDates.fits(value.toLocalDate())) {
+                provider.defaultSerializeValue(value, gen);
+            } else {
+                char[] buffer = IsoDates.buffer();
+                gen.writeString(buffer, 0, IsoDates.format(value, buffer));
+            }
+        }
+
+    }
+
+    @SuppressWarnings("rawtypes")
+    static final class PagedResponseSerializer extends StdSerializer<PagedResponse> {
+
+        private static final SerializedString CONTENT = new SerializedString("content");
+        private static final SerializedString PAGE = new SerializedString("page");
+        private static final SerializedString SIZE = new SerializedString("size");
+        private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+        private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+        private static final SerializedString FIRST = new SerializedString("first");
+        private static final SerializedString LAST = new SerializedString("last");
+
+        private final EmployeeResponseSerializer employeeSerializer = new EmployeeResponseSerializer();
+
+        PagedResponseSerializer() {
+            super(PagedResponse.class);
+        }
+
+        @Override
+        public void serialize(PagedResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(CONTENT);
+            List<?> content = value.getContent();
+            if (content == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(content, content.size());
+                for (Object item : content) {
+                    if (item instanceof EmployeeResponse employee) {
+                        employeeSerializer.serialize(employee, gen, provider);
+                    } else if (item == null) {
+                        gen.writeNull();
+                    } else {
+                        // Other element types keep their regular serializer
+                        JsonSerializer<Object> serializer = provider.findValueSerializer(item.getClass());
+                        serializer.serialize(item, gen, provider);
+                    }
+                }
+                gen.writeEndArray();
+            }
+            gen.writeFieldName(PAGE);
+            gen.writeNumber(value.getPage());
+            gen.writeFieldName(SIZE);
+            gen.writeNumber(value.getSize());
+            gen.writeFieldName(TOTAL_ELEMENTS);
+            gen.writeNumber(value.getTotalElements());
+            gen.writeFieldName(TOTAL_PAGES);
+            gen.writeNumber(value.getTotalPages());
+            gen.writeFieldName(FIRST);
+            gen.writeBoolean(value.isFirst());
+            gen.writeFieldName(LAST);
+            gen.writeBoolean(value.isLast());
+            gen.writeEndObject();
+        }
+
+    }
+
+    /**
+     * ISO-8601 formatting matching {@code DateTimeFormatter.ISO_LOCAL_DATE} and
+     * {@code ISO_LOCAL_DATE_TIME} for four-digit years: seconds always present, fraction only
+     * when non-zero and without trailing zeros.
+     */
+    static final class IsoDates {
+
+        // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+        private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[29]);
+
+        private IsoDates() {
+        }
+
+        static char[] buffer() {
+            return BUFFER.get();
+        }
+
+        static boolean fits(LocalDate date) {
+            return date.getYear() >= 0 && date.getYear() <= 9999;
+        }
+
+        static int format(LocalDate date, char[] buffer, int offset) {
+            int year = date.getYear();
+            buffer[offset] = digit(year / 1000);
+            buffer[offset + 1] = digit(year / 100 % 10);
+            buffer[offset + 2] = digit(year / 10 % 10);
+            buffer[offset + 3] = digit(year % 10);
+            buffer[offset + 4] = '-';
+            twoDigits(buffer, offset + 5, date.getMonthValue());
+            buffer[offset + 7] = '-';
+            twoDigits(buffer, offset + 8, date.getDayOfMonth());
+            return offset + 10;
+        }
+
+        static int format(LocalDateTime dateTime, char[] buffer) {
+            int pos = format(dateTime.toLocalDate(), buffer, 0);
+            buffer[pos] = 'T';
+            twoDigits(buffer, pos + 1, dateTime.getHour());
+            buffer[pos + 3] = ':';
+            twoDigits(buffer, pos + 4, dateTime.getMinute());
+            buffer[pos + 6] = ':';
+            twoDigits(buffer, pos + 7, dateTime.getSecond());
+            pos += 9;
+            int nanos = dateTime.getNano();
+            if (nanos == 0) {
+                return pos;
+            }
+            buffer[pos++] = '.';
+            int end = pos + 9;
+            for (int i = end - 1; i >= pos; i--) {
+                buffer[i] = digit(nanos % 10);
+                nanos /= 10;
+            }
+            while (buffer[end - 1] == '0') {
+                end--;
+            }
+            return end;
+        }
+
+        private static void twoDigits(char[] buffer, int offset, int value) {
+            buffer[offset] = digit(value / 10);
+            buffer[offset + 1] = digit(value % 10);
+        }
+
+        private static char digit(int value) {
+            return (char) ('0' + value);
+        }
+
+    }
+
+}
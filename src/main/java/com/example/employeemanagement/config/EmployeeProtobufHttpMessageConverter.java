@@ -0,0 +1,65 @@
+package com.example.employeemanagement.config;
+
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.PagedResponse;
+import com.example.employeemanagement.mapper.EmployeeProtoMapper;
+import com.google.protobuf.Message;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link EmployeeResponse} and {@code PagedResponse<EmployeeResponse>} as the protobuf
+ * messages in {@code employee.proto}. Write-only: requests are still accepted as JSON.
+ */
+public class EmployeeProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private final EmployeeProtoMapper protoMapper;
+
+    public EmployeeProtobufHttpMessageConverter(EmployeeProtoMapper protoMapper) {
+        super(APPLICATION_PROTOBUF);
+        this.protoMapper = protoMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return EmployeeResponse.class.isAssignableFrom(clazz) || PagedResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        toMessage(body).writeTo(outputMessage.getBody());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Message toMessage(Object body) {
+        if (body instanceof EmployeeResponse response) {
+            return protoMapper.toMessage(response);
+        }
+        PagedResponse<?> page = (PagedResponse<?>) body;
+        for (Object element : page.getContent()) {
+            if (!(element instanceof EmployeeResponse)) {
+                throw new HttpMessageNotWritableException("No protobuf schema for " + element.getClass().getName());
+            }
+        }
+        return protoMapper.toMessage((PagedResponse<EmployeeResponse>) page);
+    }
+
+}
@@ -11,10 +11,15 @@ public class JsonConfig {
 
     @Bean
     public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+        return configure(new ObjectMapper());
+    }
+
+    public static <T extends ObjectMapper> T configure(T mapper) {
         mapper.registerModule(new JavaTimeModule());
+        // Registered after JavaTimeModule so its serializers win for the employee payloads
+        mapper.registerModule(new EmployeeJsonModule());
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         return mapper;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,142 @@
+package com.example.employeemanagement.config;
+
+import com.example.employeemanagement.repository.EmployeeAuditRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.sharding.EmployeeEmailDirectory;
+import com.example.employeemanagement.sharding.ShardIdentities;
+import com.example.employeemanagement.sharding.ShardRouter;
+import com.example.employeemanagement.sharding.ShardRoutingDataSource;
+import com.example.employeemanagement.sharding.ShardRoutingInterceptor;
+import com.example.employeemanagement.sharding.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Spreads employees and their audit rows over the databases listed in {@code app.sharding.shards}
+ * when {@code app.sharding.enabled=true}. The regular {@code spring.datasource.*} settings then
+ * point at the database holding the global email directory.
+ * <p>
+ * The change feed, delta sync, upsert, CSV import and export and the manager hierarchy address a
+ * single database, so their beans and endpoints are not registered with sharding.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties properties, Environment environment) {
+        if (environment.getProperty("app.datasource.routing.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("Sharding and read replicas cannot be enabled together");
+        }
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            ShardingProperties.Shard shard = properties.getShards().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + i);
+            dataSource.setJdbcUrl(shard.getUrl());
+            dataSource.setUsername(shard.getUsername());
+            dataSource.setPassword(shard.getPassword());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            shards.add(dataSource);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    public DataSource employeeEmailDirectoryDataSource(DataSourceProperties dataSourceProperties, Environment environment) {
+        HikariDataSource directory = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(directory));
+        directory.setPoolName("directory");
+        return directory;
+    }
+
+    @Bean
+    public EmployeeEmailDirectory employeeEmailDirectory(@Qualifier("employeeEmailDirectoryDataSource") DataSource dataSource) {
+        return new EmployeeEmailDirectory(dataSource);
+    }
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties) {
+        return new ShardRouter(properties.getShards().size());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ShardRoutingInterceptor shardRoutingInterceptor(ShardRouter shardRouter, EmployeeEmailDirectory employeeEmailDirectory,
+                                                           ShardingProperties properties) {
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(properties.getScatterThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "shard-scatter-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new ShardRoutingInterceptor(shardRouter, employeeEmailDirectory, workers, properties.getScatterTimeout());
+    }
+
+    /**
+     * Migrates every shard with the regular Flyway settings and interleaves its ids, then
+     * migrates the directory database with its own scripts.
+     */
+    @Bean
+    public FlywayMigrationStrategy shardedFlywayMigrationStrategy(ShardRoutingDataSource shardRoutingDataSource,
+                                                                  @Qualifier("employeeEmailDirectoryDataSource") DataSource directory) {
+        return flyway -> {
+            List<DataSource> shards = shardRoutingDataSource.getShards();
+            for (int i = 0; i < shards.size(); i++) {
+                Flyway.configure().configuration(flyway.getConfiguration()).dataSource(shards.get(i)).load().migrate();
+                ShardIdentities.interleave(shards.get(i), i, shards.size());
+            }
+            Flyway.configure().dataSource(directory).locations("classpath:db/directory").load().migrate();
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor shardRoutingRepositoryPostProcessor(ObjectProvider<ShardRoutingInterceptor> interceptor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean && isSharded(factoryBean.getObjectType())) {
+                    ShardRoutingInterceptor.verify(factoryBean.getObjectType());
+                    // First advice, so the shard is chosen before the repository's transaction starts
+                    MethodInterceptor routing = invocation -> interceptor.getObject().invoke(invocation);
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(0, routing)));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static boolean isSharded(Class<?> repositoryInterface) {
+        return EmployeeRepository.class.isAssignableFrom(repositoryInterface)
+                || EmployeeAuditRepository.class.isAssignableFrom(repositoryInterface);
+    }
+
+}
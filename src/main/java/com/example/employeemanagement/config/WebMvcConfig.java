@@ -0,0 +1,32 @@
+package com.example.employeemanagement.config;
+
+import com.example.employeemanagement.mapper.EmployeeProtoMapper;
+import com.example.employeemanagement.monitoring.ServerTimingInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ServerTimingInterceptor serverTimingInterceptor;
+
+    private final EmployeeProtoMapper employeeProtoMapper;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(serverTimingInterceptor).addPathPatterns("/api/**");
+    }
+
+    // Appended last so JSON stays the default for Accept: */*
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new EmployeeProtobufHttpMessageConverter(employeeProtoMapper));
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.example.employeemanagement.controller;
+
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.dto.EmployeeImportResult;
+import com.example.employeemanagement.dto.EmployeeUpsertRequest;
+import com.example.employeemanagement.dto.EmployeeUpsertResponse;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.service.EmployeeExportService;
+import com.example.employeemanagement.service.EmployeeImportService;
+import com.example.employeemanagement.service.EmployeeUpsertService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Upsert and CSV import and export. They write and read with JDBC batches or COPY against a single
+ * database, so they are not available with sharding.
+ */
+@RestController
+@RequestMapping("/api/v1/employees")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@Tag(name = "Employee Management", description = "APIs for managing employees")
+public class EmployeeBulkController {
+
+    private final EmployeeUpsertService employeeUpsertService;
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeExportService employeeExportService;
+
+    @PostMapping("/upsert")
+    @Operation(summary = "Create or update many employees by email",
+            description = "Matches employees by email ignoring case. Rows whose content is unchanged are not written or audited. "
+                    + "Returns the outcome of every row in request order.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-row created, updated or unchanged results"),
+            @ApiResponse(responseCode = "400", description = "Invalid rows, a repeated email, or more than 1000 rows")
+    })
+    public ResponseEntity<EmployeeUpsertResponse> upsertEmployees(@Valid @RequestBody EmployeeUpsertRequest request) {
+        return ResponseEntity.ok(employeeUpsertService.upsertEmployees(request.getEmployees()));
+    }
+    @GetMapping("/export")
+    @Operation(summary = "Export employees to CSV")
+    @ApiResponse(responseCode = "200", description = "CSV file")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) EmployeeStatus status,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false, defaultValue = "false") boolean includeInactive) {
+        EmployeeFilter filter = EmployeeFilter.of(department, status, search, includeInactive);
+
+        // Rows are streamed from the database to the client without materializing the result
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            employeeExportService.exportEmployees(filter, writer);
+            writer.flush();
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_PLAIN);
+        headers.setContentDispositionFormData("attachment", "employees.csv");
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import employees from CSV", description = "Uses the export column layout. Returns a CSV report of the rejected rows.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, body lists rejected rows"),
+            @ApiResponse(responseCode = "400", description = "Unreadable CSV or unexpected header")
+    })
+    public ResponseEntity<Resource> importEmployees(@RequestParam("file") MultipartFile file) throws IOException {
+        EmployeeImportResult result;
+        try (InputStream inputStream = file.getInputStream()) {
+            result = employeeImportService.importEmployees(inputStream);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_PLAIN);
+        headers.setContentDispositionFormData("attachment", "employee-import-errors.csv");
+        headers.set("X-Import-Total-Rows", String.valueOf(result.getTotalRows()));
+        headers.set("X-Import-Imported-Rows", String.valueOf(result.getImportedRows()));
+        headers.set("X-Import-Rejected-Rows", String.valueOf(result.getRejectedRows()));
+
+        // The report is a temp file that goes away once it has been streamed
+        InputStream report = Files.newInputStream(result.getErrorReport(), StandardOpenOption.DELETE_ON_CLOSE);
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(new InputStreamResource(report));
+    }
+
+}
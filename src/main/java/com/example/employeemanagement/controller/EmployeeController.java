@@ -1,13 +1,22 @@
 package com.example.employeemanagement.controller;
 
+import com.example.employeemanagement.cache.EmployeePageCache;
+import com.example.employeemanagement.dto.EmployeeAuditEntry;
 import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.dto.EmployeeLookupRequest;
+import com.example.employeemanagement.dto.EmployeeLookupResponse;
 import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.EmployeeSuggestion;
 import com.example.employeemanagement.dto.EmployeeUpdateRequest;
 import com.example.employeemanagement.dto.PagedResponse;
 import com.example.employeemanagement.entity.Employee;
 import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.groupcommit.EmployeeCreateBatcher;
 import com.example.employeemanagement.mapper.EmployeeMapper;
+import com.example.employeemanagement.service.AuditService;
 import com.example.employeemanagement.service.EmployeeService;
+import com.example.employeemanagement.suggest.EmployeeSuggestIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -15,15 +24,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import com.opencsv.CSVWriter;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStreamWriter;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import jakarta.validation.Valid;
@@ -35,8 +42,14 @@ import java.net.URI;
 @Tag(name = "Employee Management", description = "APIs for managing employees")
 public class EmployeeController {
 
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
     private final EmployeeService employeeService;
     private final EmployeeMapper employeeMapper;
+    private final EmployeePageCache employeePageCache;
+    private final EmployeeSuggestIndex employeeSuggestIndex;
+    private final AuditService auditService;
+    private final EmployeeCreateBatcher employeeCreateBatcher;
 
     @PostMapping
     @Operation(summary = "Create a new employee")
@@ -46,7 +59,7 @@ public class EmployeeController {
             @ApiResponse(responseCode = "409", description = "Email already exists")
     })
     public ResponseEntity<EmployeeResponse> createEmployee(@Valid @RequestBody EmployeeCreateRequest request) {
-        Employee employee = employeeService.createEmployee(request);
+        Employee employee = employeeCreateBatcher.create(request);
         EmployeeResponse response = employeeMapper.toResponse(employee);
         URI location = ServletUriComponentsBuilder.fromCurrentRequest()
                 .path("/{id}")
@@ -56,33 +69,61 @@ public class EmployeeController {
     }
 
     @GetMapping
-    @Operation(summary = "Get all employees with pagination and filtering")
+    @Operation(summary = "Get all employees with pagination and filtering",
+            description = "Pages are cached until a write touches them. Send Cache-Control: no-cache to skip the cache.")
     @ApiResponse(responseCode = "200", description = "List of employees")
     public ResponseEntity<PagedResponse<EmployeeResponse>> getAllEmployees(
             Pageable pageable,
             @RequestParam(required = false) String department,
             @RequestParam(required = false) EmployeeStatus status,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false, defaultValue = "false") boolean includeInactive) {
-        Page<Employee> employees = employeeService.getAllEmployees(pageable, department, status, search, includeInactive);
-        Page<EmployeeResponse> responses = employees.map(employeeMapper::toResponse);
-        PagedResponse<EmployeeResponse> pagedResponse = PagedResponse.of(responses);
-        return ResponseEntity.ok(pagedResponse);
+            @RequestParam(required = false, defaultValue = "false") boolean includeInactive,
+            @RequestHeader(value = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
+        EmployeeFilter filter = EmployeeFilter.of(department, status, search, includeInactive);
+        boolean bypassCache = cacheControl != null && cacheControl.toLowerCase().contains("no-cache");
+        EmployeePageCache.Result result = employeePageCache.get(filter, pageable, bypassCache, () -> {
+            Page<EmployeeResponse> employees = employeeService.getEmployeeResponses(pageable, department, status, search, includeInactive);
+            return PagedResponse.of(employees);
+        });
+        return ResponseEntity.ok()
+                .header(CACHE_STATUS_HEADER, result.status().name())
+                .body(result.page());
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Get many employees by ID in one call",
+            description = "Returns the employees in request order and lists the ids that were not found. "
+                    + "Soft-deleted employees count as missing unless includeInactive is set.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found employees and missing ids"),
+            @ApiResponse(responseCode = "400", description = "No ids, or more than 1000")
+    })
+    public ResponseEntity<EmployeeLookupResponse> lookupEmployees(@Valid @RequestBody EmployeeLookupRequest request) {
+        return ResponseEntity.ok(employeeService.lookupEmployees(request.getIds(), request.isIncludeInactive()));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest active employees as a name or email is typed",
+            description = "Matches the start of the first name, last name, full name or email local part, ignoring case. "
+                    + "Served from an in-memory index ordered by last name, first name and id; limit is capped at app.suggest.top-k.")
+    @ApiResponse(responseCode = "200", description = "Matching employees, best first")
+    public ResponseEntity<List<EmployeeSuggestion>> suggestEmployees(
+            @RequestParam String q,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        return ResponseEntity.ok(employeeSuggestIndex.suggest(q, limit));
     }
 
-    @GetMapping("/{id}")
+    @GetMapping("/{id:\\d+}")
     @Operation(summary = "Get employee by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee found"),
             @ApiResponse(responseCode = "404", description = "Employee not found")
     })
     public ResponseEntity<EmployeeResponse> getEmployeeById(@PathVariable Long id) {
-        Employee employee = employeeService.getEmployeeById(id);
-        EmployeeResponse response = employeeMapper.toResponse(employee);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(employeeService.getEmployeeResponseById(id));
     }
 
-    @PutMapping("/{id}")
+    @PutMapping("/{id:\\d+}")
     @Operation(summary = "Update employee fully")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee updated"),
@@ -96,7 +137,7 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
-    @PatchMapping("/{id}")
+    @PatchMapping("/{id:\\d+}")
     @Operation(summary = "Update employee partially")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee updated"),
@@ -110,7 +151,7 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
-    @DeleteMapping("/{id}")
+    @DeleteMapping("/{id:\\d+}")
     @Operation(summary = "Delete employee (soft delete)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Employee deleted"),
@@ -121,7 +162,7 @@ public class EmployeeController {
         return ResponseEntity.noContent().build();
     }
 
-    @PutMapping("/{id}/restore")
+    @PutMapping("/{id:\\d+}/restore")
     @Operation(summary = "Restore a soft-deleted employee")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee restored"),
@@ -134,52 +175,15 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
-    @GetMapping("/export")
-    @Operation(summary = "Export employees to CSV")
-    @ApiResponse(responseCode = "200", description = "CSV file")
-    public ResponseEntity<byte[]> exportEmployees(
-            @RequestParam(required = false) String department,
-            @RequestParam(required = false) EmployeeStatus status,
-            @RequestParam(required = false) String search,
-            @RequestParam(required = false, defaultValue = "false") boolean includeInactive) {
-        List<Employee> employees = employeeService.getAllEmployees(Pageable.unpaged(), department, status, search, includeInactive).getContent();
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        try (CSVWriter writer = new CSVWriter(new OutputStreamWriter(outputStream))) {
-            // Header
-            writer.writeNext(new String[]{"ID", "First Name", "Last Name", "Email", "Phone", "Date of Birth", "Hire Date", "Job Title", "Department", "Salary", "Status", "Created At", "Updated At", "Deleted At", "Deleted By"});
-
-            // Data
-            for (Employee emp : employees) {
-                writer.writeNext(new String[]{
-                        emp.getId().toString(),
-                        emp.getFirstName(),
-                        emp.getLastName(),
-                        emp.getEmail(),
-                        emp.getPhone() != null ? emp.getPhone() : "",
-                        emp.getDateOfBirth() != null ? emp.getDateOfBirth().toString() : "",
-                        emp.getHireDate().toString(),
-                        emp.getJobTitle(),
-                        emp.getDepartment(),
-                        emp.getSalary().toString(),
-                        emp.getStatus().toString(),
-                        emp.getCreatedAt().toString(),
-                        emp.getUpdatedAt().toString(),
-                        emp.getDeletedAt() != null ? emp.getDeletedAt().toString() : "",
-                        emp.getDeletedBy() != null ? emp.getDeletedBy() : ""
-                });
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Error generating CSV", e);
-        }
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.TEXT_PLAIN);
-        headers.setContentDispositionFormData("attachment", "employees.csv");
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(outputStream.toByteArray());
+    @GetMapping("/{id:\\d+}/history")
+    @Operation(summary = "Get an employee's audit history",
+            description = "Newest first, including entries moved to the archive or to audit segments. With asOf, only "
+                    + "entries performed at or before it; the first one then holds the employee as of that time.")
+    @ApiResponse(responseCode = "200", description = "Audit entries, newest first")
+    public ResponseEntity<List<EmployeeAuditEntry>> getEmployeeHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        return ResponseEntity.ok(auditService.getEmployeeHistory(id, asOf));
     }
 
 }
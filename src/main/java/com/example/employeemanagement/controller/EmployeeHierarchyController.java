@@ -0,0 +1,79 @@
+package com.example.employeemanagement.controller;
+
+import com.example.employeemanagement.dto.EmployeeManagerRequest;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.PagedResponse;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.mapper.EmployeeMapper;
+import com.example.employeemanagement.service.EmployeeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Manager hierarchy. Manager paths are rewritten across the whole subtree, which may span shards,
+ * so the hierarchy is not available with sharding.
+ */
+@RestController
+@RequestMapping("/api/v1/employees")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@Tag(name = "Employee Management", description = "APIs for managing employees")
+public class EmployeeHierarchyController {
+
+    private final EmployeeService employeeService;
+    private final EmployeeMapper employeeMapper;
+
+    @PutMapping("/{id}/manager")
+    @Operation(summary = "Change an employee's manager",
+            description = "Moves the employee and everyone under them. A null managerId moves them to the top level.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Manager changed"),
+            @ApiResponse(responseCode = "400", description = "Unknown or deleted manager, or the move would create a cycle"),
+            @ApiResponse(responseCode = "404", description = "Employee not found")
+    })
+    public ResponseEntity<EmployeeResponse> changeManager(@PathVariable Long id, @RequestBody EmployeeManagerRequest request) {
+        Employee employee = employeeService.changeManager(id, request.getManagerId());
+        return ResponseEntity.ok(employeeMapper.toResponse(employee));
+    }
+
+    @GetMapping("/{id}/reports")
+    @Operation(summary = "Get an employee's direct reports", description = "Soft-deleted employees are left out.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Direct reports ordered by id"),
+            @ApiResponse(responseCode = "404", description = "Employee not found")
+    })
+    public ResponseEntity<List<EmployeeResponse>> getDirectReports(@PathVariable Long id) {
+        return ResponseEntity.ok(employeeService.getDirectReports(id));
+    }
+
+    @GetMapping("/{id}/reports/all")
+    @Operation(summary = "Get everyone under an employee, at any depth",
+            description = "Paged, ordered by id unless a sort is given. Soft-deleted employees are left out.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "A page of reports"),
+            @ApiResponse(responseCode = "404", description = "Employee not found")
+    })
+    public ResponseEntity<PagedResponse<EmployeeResponse>> getAllReports(@PathVariable Long id, Pageable pageable) {
+        return ResponseEntity.ok(PagedResponse.of(employeeService.getAllReports(id, pageable)));
+    }
+
+    @GetMapping("/{id}/chain")
+    @Operation(summary = "Get an employee's management chain", description = "From the direct manager up to the top of the organization.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Managers, nearest first"),
+            @ApiResponse(responseCode = "404", description = "Employee not found")
+    })
+    public ResponseEntity<List<EmployeeResponse>> getManagementChain(@PathVariable Long id) {
+        return ResponseEntity.ok(employeeService.getManagementChain(id));
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.example.employeemanagement.controller;
+
+import com.example.employeemanagement.changefeed.ChangeFeedBroadcaster;
+import com.example.employeemanagement.datasource.RoutingContext;
+import com.example.employeemanagement.dto.EmployeeDelta;
+import com.example.employeemanagement.service.EmployeeSyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Change feed and delta sync. Both follow the audit log of a single database, so they are not
+ * available with sharding.
+ */
+@RestController
+@RequestMapping("/api/v1/employees")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@Tag(name = "Employee Management", description = "APIs for managing employees")
+public class EmployeeSyncController {
+
+    private final EmployeeSyncService employeeSyncService;
+    private final ChangeFeedBroadcaster changeFeedBroadcaster;
+
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream employee changes as server-sent events",
+            description = "Emits create, update, delete and restore events after commit. Event ids are audit ids; "
+                    + "reconnect with Last-Event-ID to replay what was missed.")
+    @ApiResponse(responseCode = "200", description = "Event stream")
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeFeedBroadcaster.subscribe(lastEventId);
+    }
+
+    @GetMapping("/delta")
+    @Operation(summary = "Get employees changed since a delta token",
+            description = "Without since, pages through every current employee first. Follow nextToken while hasMore "
+                    + "is true and keep the last nextToken for the next sync. Deleted employees come back as tombstones.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changed employees, tombstones and the next token"),
+            @ApiResponse(responseCode = "400", description = "Malformed token")
+    })
+    public ResponseEntity<EmployeeDelta> getDelta(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false, defaultValue = "1000") int limit) {
+        // Tokens are primary watermarks; a lagging replica could be missing rows below them
+        return ResponseEntity.ok(RoutingContext.onPrimary(() -> employeeSyncService.getDelta(since, limit)));
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.example.employeemanagement.controller;
+
+import com.example.employeemanagement.dto.FlightRecordingResponse;
+import com.example.employeemanagement.monitoring.jfr.FlightRecordingManager;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/admin/flight-recordings")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.jfr", name = "admin-enabled", havingValue = "true")
+@Tag(name = "Flight Recordings", description = "On-demand JDK Flight Recorder recordings")
+public class FlightRecordingController {
+
+    private final FlightRecordingManager flightRecordingManager;
+
+    @GetMapping
+    @Operation(summary = "Get the current flight recording")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Current recording"),
+            @ApiResponse(responseCode = "204", description = "No recording")
+    })
+    public ResponseEntity<FlightRecordingResponse> getRecording() {
+        Recording recording = flightRecordingManager.current();
+        if (recording == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(toResponse(recording, null));
+    }
+
+    @PostMapping
+    @Operation(summary = "Start a bounded flight recording")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Recording started"),
+            @ApiResponse(responseCode = "400", description = "A recording is already running")
+    })
+    public ResponseEntity<FlightRecordingResponse> startRecording(@RequestParam(required = false) Long durationSeconds) {
+        Recording recording = flightRecordingManager.start(durationSeconds != null ? Duration.ofSeconds(durationSeconds) : null);
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(recording, null));
+    }
+
+    @PostMapping("/stop")
+    @Operation(summary = "Stop the running flight recording")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording stopped"),
+            @ApiResponse(responseCode = "400", description = "No recording is running")
+    })
+    public ResponseEntity<FlightRecordingResponse> stopRecording() {
+        Recording recording = flightRecordingManager.stop();
+        return ResponseEntity.ok(toResponse(recording, null));
+    }
+
+    @PostMapping("/dump")
+    @Operation(summary = "Dump the current flight recording to local disk")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording dumped"),
+            @ApiResponse(responseCode = "400", description = "No recording to dump")
+    })
+    public ResponseEntity<FlightRecordingResponse> dumpRecording() {
+        Path file = flightRecordingManager.dump();
+        return ResponseEntity.ok(toResponse(flightRecordingManager.current(), file));
+    }
+
+    private FlightRecordingResponse toResponse(Recording recording, Path dumpPath) {
+        return FlightRecordingResponse.builder()
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .startTime(recording.getStartTime())
+                .maxAgeSeconds(recording.getMaxAge() != null ? recording.getMaxAge().toSeconds() : 0)
+                .maxSizeBytes(recording.getMaxSize())
+                .dumpPath(dumpPath != null ? dumpPath.toString() : null)
+                .build();
+    }
+
+}
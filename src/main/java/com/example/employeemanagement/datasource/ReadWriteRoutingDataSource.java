@@ -0,0 +1,114 @@
+package com.example.employeemanagement.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica, round robin, and everything else to the
+ * primary. Reads fall back to the primary when the request is pinned after a write or when no
+ * replica is healthy. Must sit behind a {@code LazyConnectionDataSourceProxy} so the connection
+ * is only fetched once the transaction's read-only flag is known.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+
+    @Getter
+    private final List<Replica> replicas;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<Replica> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : this.replicas) {
+            targets.put(replica.getName(), replica.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                RoutingContext.markWrite();
+            }
+            return PRIMARY;
+        }
+        if (RoutingContext.isPrimaryPinned()) {
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica.getName();
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeQuietly(primary);
+        for (Replica replica : replicas) {
+            closeQuietly(replica.getDataSource());
+        }
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                log.warn("Unable to close datasource", e);
+            }
+        }
+    }
+
+    @Getter
+    public static final class Replica {
+
+        private final String name;
+
+        private final DataSource dataSource;
+
+        private final String lagQuery;
+
+        // Starts excluded until the first health check passes
+        private volatile boolean healthy;
+
+        private volatile long lagMillis = -1;
+
+        public Replica(String name, DataSource dataSource, String lagQuery) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.lagQuery = lagQuery;
+        }
+
+        void update(boolean healthy, long lagMillis) {
+            this.healthy = healthy;
+            this.lagMillis = lagMillis;
+        }
+
+    }
+
+}
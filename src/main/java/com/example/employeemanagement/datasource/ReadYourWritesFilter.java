@@ -0,0 +1,89 @@
+package com.example.employeemanagement.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Read-your-writes stickiness across requests. A request that writes to the primary gets a
+ * cookie holding the end of the stickiness window; requests carrying an unexpired cookie keep
+ * their reads on the primary until replicas have had time to catch up.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String READ_YOUR_WRITES_HEADER = "X-Read-Your-Writes";
+
+    private final RoutingDataSourceProperties properties;
+
+    public ReadYourWritesFilter(RoutingDataSourceProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RoutingContext.clear();
+        if (isSticky(request)) {
+            RoutingContext.pinPrimary();
+        }
+        try {
+            filterChain.doFilter(request, new StickyCookieResponseWrapper(response));
+        } finally {
+            if (!response.isCommitted()) {
+                addStickyCookie(response);
+            }
+            RoutingContext.clear();
+        }
+    }
+
+    private boolean isSticky(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (properties.getStickyCookieName().equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void addStickyCookie(HttpServletResponse response) {
+        if (!RoutingContext.wroteToPrimary() || response.containsHeader(READ_YOUR_WRITES_HEADER)) {
+            return;
+        }
+        long window = properties.getReadYourWritesWindow().toMillis();
+        Cookie cookie = new Cookie(properties.getStickyCookieName(), String.valueOf(System.currentTimeMillis() + window));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, window / 1000));
+        response.addCookie(cookie);
+        // Marks the cookie as sent so the fallback in doFilterInternal does not add it twice
+        response.setHeader(READ_YOUR_WRITES_HEADER, "primary");
+    }
+
+    private final class StickyCookieResponseWrapper extends OnCommittedResponseWrapper {
+
+        StickyCookieResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            addStickyCookie((HttpServletResponse) getResponse());
+        }
+
+    }
+
+}
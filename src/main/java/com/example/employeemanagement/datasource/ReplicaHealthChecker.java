@@ -0,0 +1,114 @@
+package com.example.employeemanagement.datasource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically pings each replica and measures its lag, excluding it from reads while it is
+ * unreachable or further behind than {@code app.datasource.routing.max-replica-lag}. Also
+ * reported as the {@code replicas} actuator health component.
+ */
+@Slf4j
+public class ReplicaHealthChecker implements HealthIndicator {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    private final RoutingDataSourceProperties properties;
+
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaHealthChecker(ReadWriteRoutingDataSource routingDataSource, RoutingDataSourceProperties properties) {
+        this.routingDataSource = routingDataSource;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        checkNow();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getHealthCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkNow, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public void checkNow() {
+        for (ReadWriteRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+            check(replica);
+        }
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        boolean anyHealthy = false;
+        for (ReadWriteRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+            details.put(replica.getName(), Map.of("healthy", replica.isHealthy(), "lagMillis", replica.getLagMillis()));
+            anyHealthy |= replica.isHealthy();
+        }
+        // Reads still work on the primary when every replica is out, so this is a warning state
+        Health.Builder builder = anyHealthy || details.isEmpty() ? Health.up() : Health.status("DEGRADED");
+        return builder.withDetails(details).build();
+    }
+
+    private void check(ReadWriteRoutingDataSource.Replica replica) {
+        boolean wasHealthy = replica.isHealthy();
+        boolean healthy;
+        long lagMillis = -1;
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            if (healthy && replica.getLagQuery() != null && !replica.getLagQuery().isBlank()) {
+                lagMillis = queryLagMillis(connection, replica.getLagQuery());
+                healthy = lagMillis <= properties.getMaxReplicaLag().toMillis();
+            }
+        } catch (SQLException | RuntimeException e) {
+            healthy = false;
+            log.debug("Replica {} health check failed", replica.getName(), e);
+        }
+        replica.update(healthy, lagMillis);
+        if (wasHealthy != healthy) {
+            if (healthy) {
+                log.info("Replica {} is back in rotation (lag {} ms)", replica.getName(), lagMillis);
+            } else {
+                log.warn("Replica {} excluded from reads (lag {} ms, max {})", replica.getName(), lagMillis, properties.getMaxReplicaLag());
+            }
+        }
+    }
+
+    private static long queryLagMillis(Connection connection, String lagQuery) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+            try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    throw new SQLException("Lag query returned no rows");
+                }
+                return Math.round(rs.getDouble(1) * 1000);
+            }
+        }
+    }
+
+}
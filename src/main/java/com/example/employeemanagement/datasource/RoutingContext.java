@@ -0,0 +1,76 @@
+package com.example.employeemanagement.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound routing state of the current request: whether its reads are pinned to the
+ * primary, and whether it has written to the primary.
+ * <p>
+ * Pooled threads serve many units of work, so every entry point clears the state around its work:
+ * {@link ReadYourWritesFilter} for HTTP requests, and {@link #isolated} for gRPC callbacks and
+ * background tasks.
+ */
+public final class RoutingContext {
+
+    private static final ThreadLocal<RoutingContext> CURRENT = ThreadLocal.withInitial(RoutingContext::new);
+
+    private boolean primaryPinned;
+
+    private boolean wroteToPrimary;
+
+    private RoutingContext() {
+    }
+
+    public static void pinPrimary() {
+        CURRENT.get().primaryPinned = true;
+    }
+
+    public static boolean isPrimaryPinned() {
+        return CURRENT.get().primaryPinned;
+    }
+
+    public static boolean wroteToPrimary() {
+        return CURRENT.get().wroteToPrimary;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps {@code task} so it starts with a fresh context and leaves none behind on its thread.
+     */
+    public static Runnable isolated(Runnable task) {
+        return () -> {
+            clear();
+            try {
+                task.run();
+            } finally {
+                clear();
+            }
+        };
+    }
+
+    /**
+     * Runs {@code reader} with reads pinned to the primary; the pin ends with it unless the
+     * request wrote meanwhile.
+     */
+    public static <T> T onPrimary(Supplier<T> reader) {
+        RoutingContext context = CURRENT.get();
+        boolean pinned = context.primaryPinned;
+        context.primaryPinned = true;
+        try {
+            return reader.get();
+        } finally {
+            context.primaryPinned = pinned || context.wroteToPrimary;
+        }
+    }
+
+    // Later reads in the same request must see the write too
+    static void markWrite() {
+        RoutingContext context = CURRENT.get();
+        context.wroteToPrimary = true;
+        context.primaryPinned = true;
+    }
+
+}
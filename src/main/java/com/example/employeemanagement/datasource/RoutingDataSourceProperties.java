@@ -0,0 +1,50 @@
+package com.example.employeemanagement.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class RoutingDataSourceProperties {
+
+    // Reports lag only while the replica is behind; an idle, caught-up standby reports 0
+    public static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+            + "THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replicas further behind than this are excluded until they catch up
+    private Duration maxReplicaLag = Duration.ofSeconds(5);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    // How long a client's reads stay on the primary after its own write
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private String stickyCookieName = "db-primary-until";
+
+    @Data
+    public static class Replica {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        // Returns the replication lag in seconds; left empty, only connectivity is checked
+        private String lagQuery = POSTGRES_LAG_QUERY;
+
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.example.employeemanagement.dto;
+
+import com.example.employeemanagement.entity.AuditType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeAuditEntry {
+
+    private Long id;
+
+    private Long employeeId;
+
+    private AuditType auditType;
+
+    private String performedBy;
+
+    private LocalDateTime performedAt;
+
+    // Stored as JSON, written out as-is
+    @JsonRawValue
+    private String beforeSnapshot;
+
+    @JsonRawValue
+    private String afterSnapshot;
+
+    private String description;
+
+}
@@ -0,0 +1,30 @@
+package com.example.employeemanagement.dto;
+
+import com.example.employeemanagement.entity.AuditType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeChange {
+
+    private Long eventId;
+
+    private AuditType type;
+
+    private Long employeeId;
+
+    private LocalDateTime performedAt;
+
+    // The audit snapshot of the employee after the change, already JSON
+    @JsonRawValue
+    private String employee;
+
+}
@@ -50,4 +50,6 @@ public class EmployeeCreateRequest {
     @NotNull
     private EmployeeStatus status;
 
+    private Long managerId;
+
 }
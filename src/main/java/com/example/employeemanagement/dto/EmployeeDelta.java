@@ -0,0 +1,25 @@
+package com.example.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeDelta {
+
+    private List<EmployeeResponse> changed;
+
+    private List<EmployeeTombstone> deleted;
+
+    // Pass back as ?since= on the next call
+    private String nextToken;
+
+    private boolean hasMore;
+
+}
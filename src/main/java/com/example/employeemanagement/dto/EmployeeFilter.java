@@ -0,0 +1,25 @@
+package com.example.employeemanagement.dto;
+
+import com.example.employeemanagement.entity.EmployeeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+@Value
+@AllArgsConstructor(staticName = "of")
+public class EmployeeFilter {
+
+    String department;
+
+    EmployeeStatus status;
+
+    String search;
+
+    boolean includeInactive;
+
+    // Same matching semantics, canonical form for use as a cache key
+    public EmployeeFilter normalized() {
+        return new EmployeeFilter(department != null ? department.toLowerCase() : null, status,
+                search != null ? search.toLowerCase() : null, includeInactive);
+    }
+
+}
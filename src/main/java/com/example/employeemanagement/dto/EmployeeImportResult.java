@@ -0,0 +1,21 @@
+package com.example.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.file.Path;
+
+@Data
+@AllArgsConstructor
+public class EmployeeImportResult {
+
+    private long totalRows;
+
+    private long importedRows;
+
+    private long rejectedRows;
+
+    // CSV of rejected rows with their errors, deleted once it has been read
+    private Path errorReport;
+
+}
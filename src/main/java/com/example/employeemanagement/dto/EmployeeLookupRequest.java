@@ -0,0 +1,24 @@
+package com.example.employeemanagement.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeLookupRequest {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull Long> ids;
+
+    // Soft-deleted employees are reported as missing unless this is set
+    private boolean includeInactive;
+
+}
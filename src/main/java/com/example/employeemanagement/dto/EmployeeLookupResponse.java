@@ -0,0 +1,19 @@
+package com.example.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeLookupResponse {
+
+    // In request order, each id once
+    private List<EmployeeResponse> employees;
+
+    private List<Long> missing;
+
+}
@@ -0,0 +1,15 @@
+package com.example.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeManagerRequest {
+
+    // Null moves the employee to the top level
+    private Long managerId;
+
+}
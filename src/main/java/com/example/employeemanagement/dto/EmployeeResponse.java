@@ -6,9 +6,13 @@ import java.time.LocalDateTime;
 
 import com.example.employeemanagement.entity.EmployeeStatus;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class EmployeeResponse {
 
     private Long id;
@@ -37,4 +41,6 @@ public class EmployeeResponse {
 
     private LocalDateTime updatedAt;
 
+    private Long managerId;
+
 }
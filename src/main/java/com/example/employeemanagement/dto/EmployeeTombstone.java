@@ -0,0 +1,19 @@
+package com.example.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeTombstone {
+
+    private Long id;
+
+    // Null when the row no longer exists at all
+    private Instant deletedAt;
+
+}
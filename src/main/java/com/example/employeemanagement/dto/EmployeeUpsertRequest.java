@@ -0,0 +1,23 @@
+package com.example.employeemanagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeUpsertRequest {
+
+    // Matched to existing employees by email, ignoring case
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid @NotNull EmployeeCreateRequest> employees;
+
+}
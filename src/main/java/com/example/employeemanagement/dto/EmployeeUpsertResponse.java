@@ -0,0 +1,26 @@
+package com.example.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeUpsertResponse {
+
+    // In request order
+    private List<EmployeeUpsertResult> results;
+
+    private int created;
+
+    private int updated;
+
+    private int unchanged;
+
+    // Matched soft-deleted employees, left as they are
+    private int conflicts;
+
+}
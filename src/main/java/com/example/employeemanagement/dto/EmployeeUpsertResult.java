@@ -0,0 +1,25 @@
+package com.example.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeUpsertResult {
+
+    private Long id;
+
+    private String email;
+
+    private Outcome outcome;
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        UNCHANGED,
+        CONFLICT
+    }
+
+}
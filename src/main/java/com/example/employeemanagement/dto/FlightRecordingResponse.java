@@ -0,0 +1,28 @@
+package com.example.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightRecordingResponse {
+
+    private String name;
+
+    private String state;
+
+    private Instant startTime;
+
+    private long maxAgeSeconds;
+
+    private long maxSizeBytes;
+
+    private String dumpPath;
+
+}
@@ -74,4 +74,10 @@ public class Employee {
 
     private String deletedBy;
 
+    private Long managerId;
+
+    // Ids from the top of the reporting chain down to the direct manager, e.g. "/1/5/"; "/" without a manager
+    @Builder.Default
+    private String managerPath = "/";
+
 }
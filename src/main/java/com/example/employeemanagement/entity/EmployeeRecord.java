@@ -0,0 +1,71 @@
+package com.example.employeemanagement.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view over {@code employees} and {@code employees_archive}, with the same property
+ * names as {@link Employee}, so reads that include soft-deleted employees also find archived ones.
+ */
+@Entity
+@Immutable
+@Subselect(EmployeeRecord.EMPLOYEES_AND_ARCHIVE)
+@Synchronize({"employees", "employees_archive"})
+@Data
+@NoArgsConstructor
+public class EmployeeRecord {
+
+    static final String COLUMNS = "id, first_name, last_name, email, phone, date_of_birth, hire_date, job_title, department, "
+            + "salary, status, created_at, updated_at, deleted_at, deleted_by, manager_id, manager_path";
+
+    static final String EMPLOYEES_AND_ARCHIVE = "SELECT " + COLUMNS + " FROM employees UNION ALL SELECT " + COLUMNS + " FROM employees_archive";
+
+    @Id
+    private Long id;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+
+    private String phone;
+
+    private LocalDate dateOfBirth;
+
+    private LocalDate hireDate;
+
+    private String jobTitle;
+
+    private String department;
+
+    private BigDecimal salary;
+
+    @Enumerated(EnumType.STRING)
+    private EmployeeStatus status;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private Instant deletedAt;
+
+    private String deletedBy;
+
+    private Long managerId;
+
+    private String managerPath;
+
+}
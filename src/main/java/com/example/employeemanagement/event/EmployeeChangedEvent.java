@@ -0,0 +1,29 @@
+package com.example.employeemanagement.event;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Published by the service layer for every committed write to employees. Listeners that must
+ * not observe rolled-back changes use {@code @TransactionalEventListener}.
+ *
+ * @param departments every department the change touched, before and after the write
+ */
+public record EmployeeChangedEvent(ChangeType type, List<Long> employeeIds, Set<String> departments) {
+
+    public enum ChangeType {
+        CREATE,
+        UPDATE,
+        DELETE,
+        RESTORE
+    }
+
+    public static EmployeeChangedEvent of(ChangeType type, Long employeeId, String... departments) {
+        return new EmployeeChangedEvent(type, List.of(employeeId),
+                Arrays.stream(departments).filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet()));
+    }
+
+}
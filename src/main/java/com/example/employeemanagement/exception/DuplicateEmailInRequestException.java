@@ -0,0 +1,9 @@
+package com.example.employeemanagement.exception;
+
+public class DuplicateEmailInRequestException extends RuntimeException {
+
+    public DuplicateEmailInRequestException(String email) {
+        super("Email appears more than once in the request: " + email);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.example.employeemanagement.exception;
+
+public class GroupCommitTimeoutException extends RuntimeException {
+
+    public GroupCommitTimeoutException(String email) {
+        super("No group commit result for " + email + " in time; the employee may still have been created");
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.example.employeemanagement.exception;
+
+public class InvalidDeltaTokenException extends RuntimeException {
+
+    public InvalidDeltaTokenException(String token) {
+        super("Invalid delta token: " + token);
+    }
+
+}
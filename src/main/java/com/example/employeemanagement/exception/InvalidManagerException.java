@@ -0,0 +1,9 @@
+package com.example.employeemanagement.exception;
+
+public class InvalidManagerException extends RuntimeException {
+
+    public InvalidManagerException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,192 @@
+package com.example.employeemanagement.groupcommit;
+
+import com.example.employeemanagement.datasource.RoutingContext;
+import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.exception.GroupCommitTimeoutException;
+import com.example.employeemanagement.service.EmployeeService;
+import com.example.employeemanagement.service.EmployeeService.CreateOutcome;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group commit for single-employee creates. With {@code app.group-commit.enabled}, concurrent
+ * creates queue up and a single committer thread takes up to {@code max-batch-size} of them, or
+ * whatever arrived within {@code max-wait} of the first, and creates them in one transaction
+ * through {@link EmployeeService#createEmployees}. Each caller waits for its own outcome, so a
+ * taken email fails only the request that asked for it.
+ * <p>
+ * If the batch transaction itself fails, for example because a create outside the batch took one
+ * of its emails between the check and the insert, the batch is retried one create at a time so
+ * every caller still gets the result it would have had on its own. Creates that name a manager,
+ * and every create when the queue is full or the batcher is stopping, take the regular path.
+ * <p>
+ * A caller waits at most {@code result-timeout}. If its create is still queued by then it runs on
+ * its own; if the committer already took it, the outcome is unknown and the caller gets a
+ * {@link GroupCommitTimeoutException}.
+ */
+@Component
+@Slf4j
+public class EmployeeCreateBatcher {
+
+    private record Pending(EmployeeCreateRequest request, CompletableFuture<Employee> result) {
+    }
+
+    private final EmployeeGroupCommitProperties properties;
+
+    private final EmployeeService employeeService;
+
+    private final boolean supported;
+
+    private final BlockingQueue<Pending> queue;
+
+    private final DistributionSummary batchSizes;
+
+    private Thread committer;
+
+    private volatile boolean running;
+
+    public EmployeeCreateBatcher(EmployeeGroupCommitProperties properties, EmployeeService employeeService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.sharding.enabled:false}") boolean sharded,
+                                 @Value("${app.datasource.routing.enabled:false}") boolean routed) {
+        this.properties = properties;
+        this.employeeService = employeeService;
+        // A batch is one transaction on one database, and its writes would not mark the callers' requests as writers
+        this.supported = !sharded && !routed;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSizes = DistributionSummary.builder("employee.create.batch.size")
+                .description("Creates committed per group-commit transaction")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!supported) {
+            log.warn("Group commit is not supported with sharding or read replicas and stays off");
+            return;
+        }
+        running = true;
+        committer = new Thread(this::commitLoop, "employee-group-commit");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (committer != null) {
+            committer.interrupt();
+        }
+    }
+
+    /**
+     * Creates the employee, in a group commit when enabled; throws what
+     * {@link EmployeeService#createEmployee} would.
+     */
+    public Employee create(EmployeeCreateRequest request) {
+        if (!running || request.getManagerId() != null) {
+            return employeeService.createEmployee(request);
+        }
+        Pending pending = new Pending(request, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            return employeeService.createEmployee(request);
+        }
+        // stop() may have come between the check and the offer, after the committer's last drain
+        if (!running && queue.remove(pending)) {
+            return employeeService.createEmployee(request);
+        }
+        try {
+            return pending.result().get(properties.getResultTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            if (queue.remove(pending)) {
+                return employeeService.createEmployee(request);
+            }
+            throw new GroupCommitTimeoutException(request.getEmail());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GroupCommitTimeoutException(request.getEmail());
+        }
+    }
+
+    private void commitLoop() {
+        List<Pending> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + properties.getMaxWait().toNanos();
+                while (batch.size() < properties.getMaxBatchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            RoutingContext.isolated(() -> commit(batch)).run();
+            batch.clear();
+        }
+        // Creates queued while stopping still get an answer
+        queue.drainTo(batch);
+        batch.forEach(this::createAlone);
+    }
+
+    private void commit(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<CreateOutcome> outcomes;
+        try {
+            outcomes = employeeService.createEmployees(batch.stream().map(Pending::request).toList());
+        } catch (RuntimeException e) {
+            log.debug("Group commit of {} creates failed, retrying them one by one", batch.size(), e);
+            batch.forEach(this::createAlone);
+            return;
+        }
+        batchSizes.record(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            CreateOutcome outcome = outcomes.get(i);
+            if (outcome.failure() != null) {
+                batch.get(i).result().completeExceptionally(outcome.failure());
+            } else {
+                batch.get(i).result().complete(outcome.employee());
+            }
+        }
+    }
+
+    private void createAlone(Pending pending) {
+        try {
+            pending.result().complete(employeeService.createEmployee(pending.request()));
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+}
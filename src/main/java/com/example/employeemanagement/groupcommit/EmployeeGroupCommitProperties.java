@@ -0,0 +1,26 @@
+package com.example.employeemanagement.groupcommit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.group-commit")
+public class EmployeeGroupCommitProperties {
+
+    private boolean enabled = false;
+
+    // A batch is committed once it holds this many creates...
+    private int maxBatchSize = 100;
+
+    // ...or this long after its first create arrived
+    private Duration maxWait = Duration.ofMillis(5);
+
+    // Creates waiting for a batch beyond this go through the regular path
+    private int queueCapacity = 10_000;
+
+    // How long a caller waits for its batch; one still queued then runs alone, one already taken fails
+    private Duration resultTimeout = Duration.ofSeconds(30);
+
+}
@@ -0,0 +1,224 @@
+package com.example.employeemanagement.grpc;
+
+import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.EmployeeUpdateRequest;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.groupcommit.EmployeeCreateBatcher;
+import com.example.employeemanagement.mapper.EmployeeMapper;
+import com.example.employeemanagement.mapper.EmployeeProtoMapper;
+import com.example.employeemanagement.proto.BulkCreateEmployeesResponse;
+import com.example.employeemanagement.proto.BulkCreateFailure;
+import com.example.employeemanagement.proto.CreateEmployeeRequest;
+import com.example.employeemanagement.proto.DeleteEmployeeRequest;
+import com.example.employeemanagement.proto.EmployeeDirectoryGrpc;
+import com.example.employeemanagement.proto.EmployeeMessage;
+import com.example.employeemanagement.proto.GetEmployeeRequest;
+import com.example.employeemanagement.proto.ListEmployeesRequest;
+import com.example.employeemanagement.proto.RestoreEmployeeRequest;
+import com.example.employeemanagement.proto.UpdateEmployeeRequest;
+import com.example.employeemanagement.service.EmployeeService;
+import com.google.protobuf.Empty;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeGrpcService extends EmployeeDirectoryGrpc.EmployeeDirectoryImplBase {
+
+    private final EmployeeService employeeService;
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeProtoMapper protoMapper;
+    private final Validator validator;
+    private final GrpcServerProperties properties;
+    private final EmployeeCreateBatcher employeeCreateBatcher;
+
+    @Override
+    public void getEmployee(GetEmployeeRequest request, StreamObserver<EmployeeMessage> responseObserver) {
+        unary(responseObserver, () -> protoMapper.toMessage(employeeService.getEmployeeResponseById(request.getId())));
+    }
+
+    @Override
+    public void createEmployee(CreateEmployeeRequest request, StreamObserver<EmployeeMessage> responseObserver) {
+        unary(responseObserver, () -> toMessage(employeeCreateBatcher.create(validate(protoMapper.toCreateRequest(request)))));
+    }
+
+    @Override
+    public void updateEmployee(UpdateEmployeeRequest request, StreamObserver<EmployeeMessage> responseObserver) {
+        unary(responseObserver, () -> {
+            EmployeeUpdateRequest update = validate(protoMapper.toUpdateRequest(request));
+            Employee employee = request.getPartial()
+                    ? employeeService.partialUpdateEmployee(request.getId(), update)
+                    : employeeService.updateEmployee(request.getId(), update);
+            return toMessage(employee);
+        });
+    }
+
+    @Override
+    public void deleteEmployee(DeleteEmployeeRequest request, StreamObserver<Empty> responseObserver) {
+        unary(responseObserver, () -> {
+            employeeService.deleteEmployee(request.getId());
+            return Empty.getDefaultInstance();
+        });
+    }
+
+    @Override
+    public void restoreEmployee(RestoreEmployeeRequest request, StreamObserver<EmployeeMessage> responseObserver) {
+        unary(responseObserver, () -> toMessage(employeeService.restoreEmployee(request.getId())));
+    }
+
+    @Override
+    public void listEmployees(ListEmployeesRequest request, StreamObserver<EmployeeMessage> responseObserver) {
+        EmployeeStatus status;
+        try {
+            status = protoMapper.toStatus(request.getStatus());
+            if (request.hasPageSize() && request.getPageSize() <= 0) {
+                throw new IllegalArgumentException("page_size must be positive: " + request.getPageSize());
+            }
+        } catch (RuntimeException e) {
+            responseObserver.onError(GrpcStatusTranslator.toStatus(e));
+            return;
+        }
+        // Capped like the REST page size, so one request cannot pull an unbounded page into memory
+        int pageSize = Math.min(request.hasPageSize() ? request.getPageSize() : properties.getListPageSize(),
+                properties.getListMaxPageSize());
+        new ListEmployeesStream((ServerCallStreamObserver<EmployeeMessage>) responseObserver, request, status, pageSize).start();
+    }
+
+    @Override
+    public StreamObserver<CreateEmployeeRequest> bulkCreateEmployees(StreamObserver<BulkCreateEmployeesResponse> responseObserver) {
+        BulkCreateEmployeesResponse.Builder response = BulkCreateEmployeesResponse.newBuilder();
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(CreateEmployeeRequest request) {
+                // Each employee goes through the same transactional create and audit as the REST API
+                int index = response.getReceived();
+                response.setReceived(index + 1);
+                try {
+                    response.addCreatedIds(create(request).getId());
+                    response.setCreated(response.getCreated() + 1);
+                } catch (RuntimeException e) {
+                    response.addFailures(BulkCreateFailure.newBuilder()
+                            .setIndex(index)
+                            .setEmail(request.getEmail())
+                            .setError(GrpcStatusTranslator.describe(e)));
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.warn("Bulk create stream failed after {} employees", response.getReceived(), t);
+            }
+
+            @Override
+            public void onCompleted() {
+                log.info("Bulk create finished: received={}, created={}", response.getReceived(), response.getCreated());
+                responseObserver.onNext(response.build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private Employee create(CreateEmployeeRequest request) {
+        EmployeeCreateRequest create = validate(protoMapper.toCreateRequest(request));
+        return employeeService.createEmployee(create);
+    }
+
+    private <T> T validate(T request) {
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return request;
+    }
+
+    private EmployeeMessage toMessage(Employee employee) {
+        return protoMapper.toMessage(employeeMapper.toResponse(employee));
+    }
+
+    private static <T> void unary(StreamObserver<T> responseObserver, Supplier<T> call) {
+        T response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(GrpcStatusTranslator.toStatus(e));
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Pages through the matches only while the transport reports the client ready for more,
+     * so at most one page is held in memory however slowly the client reads. Pages continue
+     * after the last id sent, so each is an index seek and writes during the stream do not
+     * shift it.
+     */
+    private final class ListEmployeesStream implements Runnable {
+
+        private final ServerCallStreamObserver<EmployeeMessage> call;
+        private final ListEmployeesRequest request;
+        private final EmployeeStatus status;
+        private final int pageSize;
+
+        private Iterator<EmployeeResponse> page = Collections.emptyIterator();
+        private long lastId;
+        private boolean lastPage;
+        private volatile boolean done;
+
+        private ListEmployeesStream(ServerCallStreamObserver<EmployeeMessage> call, ListEmployeesRequest request,
+                                    EmployeeStatus status, int pageSize) {
+            this.call = call;
+            this.request = request;
+            this.status = status;
+            this.pageSize = pageSize;
+        }
+
+        void start() {
+            call.setOnCancelHandler(() -> done = true);
+            call.setOnReadyHandler(this);
+        }
+
+        @Override
+        public synchronized void run() {
+            try {
+                while (!done && call.isReady()) {
+                    if (page.hasNext()) {
+                        call.onNext(protoMapper.toMessage(page.next()));
+                    } else if (lastPage) {
+                        done = true;
+                        call.onCompleted();
+                    } else {
+                        List<EmployeeResponse> next = employeeService.getEmployeeResponsesAfterId(
+                                request.hasDepartment() ? request.getDepartment() : null, status,
+                                request.hasSearch() ? request.getSearch() : null, request.getIncludeInactive(), lastId, pageSize);
+                        lastPage = next.size() < pageSize;
+                        if (!next.isEmpty()) {
+                            lastId = next.get(next.size() - 1).getId();
+                        }
+                        page = next.iterator();
+                    }
+                }
+            } catch (RuntimeException e) {
+                done = true;
+                call.onError(GrpcStatusTranslator.toStatus(e));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.example.employeemanagement.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC services next to the servlet container: a Netty listener on
+ * {@code app.grpc.port} and, optionally, an in-process server named {@code app.grpc.in-process-name}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.grpc", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final GrpcServerProperties properties;
+
+    private final List<BindableService> services;
+
+    private final List<Server> servers = new ArrayList<>();
+
+    private int port = -1;
+
+    @Override
+    public synchronized void start() {
+        try {
+            if (properties.getPort() >= 0) {
+                Server server = addServices(NettyServerBuilder.forPort(properties.getPort())).build().start();
+                servers.add(server);
+                port = server.getPort();
+                log.info("gRPC server listening on port {}", port);
+            }
+            if (properties.getInProcessName() != null) {
+                servers.add(addServices(InProcessServerBuilder.forName(properties.getInProcessName())).build().start());
+                log.info("gRPC in-process server started: {}", properties.getInProcessName());
+            }
+        } catch (IOException e) {
+            stop();
+            throw new UncheckedIOException("Unable to start gRPC server", e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        for (Server server : servers) {
+            server.shutdown();
+        }
+        for (Server server : servers) {
+            try {
+                if (!server.awaitTermination(properties.getShutdownGracePeriod().toMillis(), TimeUnit.MILLISECONDS)) {
+                    server.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                server.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        servers.clear();
+        port = -1;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return !servers.isEmpty();
+    }
+
+    // The bound TCP port, or -1 when the Netty listener is not running
+    public synchronized int getPort() {
+        return port;
+    }
+
+    private ServerBuilder<?> addServices(ServerBuilder<?> builder) {
+        for (BindableService service : services) {
+            builder.addService(service);
+        }
+        return builder.intercept(new RoutingContextServerInterceptor());
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.example.employeemanagement.grpc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.grpc")
+public class GrpcServerProperties {
+
+    private boolean enabled = true;
+
+    // TCP port of the Netty listener; 0 picks a free port and a negative value disables it
+    private int port = 9090;
+
+    // Also serve on the in-process transport under this name, for tests and co-located callers
+    private String inProcessName;
+
+    // Rows read from the database per page while streaming ListEmployees
+    private int listPageSize = 500;
+
+    // Upper bound for the page_size a client asks for; larger values are lowered to it
+    private int listMaxPageSize = 2000;
+
+    private Duration shutdownGracePeriod = Duration.ofSeconds(10);
+
+}
@@ -0,0 +1,59 @@
+package com.example.employeemanagement.grpc;
+
+import com.example.employeemanagement.exception.EmailAlreadyExistsException;
+import com.example.employeemanagement.exception.EmployeeNotFoundException;
+import com.example.employeemanagement.exception.GroupCommitTimeoutException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.stream.Collectors;
+
+/**
+ * gRPC counterpart of {@code GlobalExceptionHandler}: maps service exceptions to status codes.
+ */
+@Slf4j
+final class GrpcStatusTranslator {
+
+    private GrpcStatusTranslator() {
+    }
+
+    static StatusRuntimeException toStatus(RuntimeException ex) {
+        if (ex instanceof StatusRuntimeException status) {
+            return status;
+        }
+        if (ex instanceof EmployeeNotFoundException) {
+            return Status.NOT_FOUND.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof EmailAlreadyExistsException) {
+            return Status.ALREADY_EXISTS.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof DataIntegrityViolationException) {
+            return Status.ALREADY_EXISTS.withDescription("Data integrity violation").asRuntimeException();
+        }
+        if (ex instanceof GroupCommitTimeoutException) {
+            return Status.UNAVAILABLE.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        if (ex instanceof ConstraintViolationException || ex instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(describe(ex)).asRuntimeException();
+        }
+        if (ex instanceof IllegalStateException) {
+            return Status.FAILED_PRECONDITION.withDescription(ex.getMessage()).asRuntimeException();
+        }
+        log.error("Unexpected error in gRPC call", ex);
+        return Status.INTERNAL.withDescription("An unexpected error occurred").asRuntimeException();
+    }
+
+    static String describe(RuntimeException ex) {
+        if (ex instanceof ConstraintViolationException violations) {
+            return violations.getConstraintViolations().stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        return ex.getMessage();
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.example.employeemanagement.grpc;
+
+import com.example.employeemanagement.datasource.RoutingContext;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * Runs every gRPC callback with a fresh {@link RoutingContext}. Callbacks run on pooled executor
+ * threads, so a write's primary pin would otherwise stay with the thread and route every later
+ * call it serves to the primary. There is no read-your-writes cookie over gRPC; a write pins the
+ * reads that follow it within the same callback only.
+ */
+class RoutingContextServerInterceptor implements ServerInterceptor {
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        RoutingContext.clear();
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(call, headers);
+        } finally {
+            RoutingContext.clear();
+        }
+        return new SimpleForwardingServerCallListener<>(listener) {
+
+            @Override
+            public void onMessage(ReqT message) {
+                RoutingContext.isolated(() -> super.onMessage(message)).run();
+            }
+
+            @Override
+            public void onHalfClose() {
+                RoutingContext.isolated(super::onHalfClose).run();
+            }
+
+            @Override
+            public void onCancel() {
+                RoutingContext.isolated(super::onCancel).run();
+            }
+
+            @Override
+            public void onComplete() {
+                RoutingContext.isolated(super::onComplete).run();
+            }
+
+            @Override
+            public void onReady() {
+                RoutingContext.isolated(super::onReady).run();
+            }
+
+        };
+    }
+
+}
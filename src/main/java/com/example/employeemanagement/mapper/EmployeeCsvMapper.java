@@ -0,0 +1,112 @@
+package com.example.employeemanagement.mapper;
+
+import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * Column layout shared by the CSV export and import. Import reads the editable columns and
+ * ignores the generated ones (ID, timestamps and deletion metadata).
+ */
+@Component
+public class EmployeeCsvMapper {
+
+    public static final String[] HEADER = {"ID", "First Name", "Last Name", "Email", "Phone", "Date of Birth", "Hire Date", "Job Title", "Department", "Salary", "Status", "Created At", "Updated At", "Deleted At", "Deleted By"};
+
+    private static final int FIRST_NAME = 1;
+    private static final int LAST_NAME = 2;
+    private static final int EMAIL = 3;
+    private static final int PHONE = 4;
+    private static final int DATE_OF_BIRTH = 5;
+    private static final int HIRE_DATE = 6;
+    private static final int JOB_TITLE = 7;
+    private static final int DEPARTMENT = 8;
+    private static final int SALARY = 9;
+    private static final int STATUS = 10;
+
+    public String[] toRow(Employee emp) {
+        return new String[]{
+                emp.getId().toString(),
+                emp.getFirstName(),
+                emp.getLastName(),
+                emp.getEmail(),
+                emp.getPhone() != null ? emp.getPhone() : "",
+                emp.getDateOfBirth() != null ? emp.getDateOfBirth().toString() : "",
+                emp.getHireDate().toString(),
+                emp.getJobTitle(),
+                emp.getDepartment(),
+                emp.getSalary().toString(),
+                emp.getStatus().toString(),
+                emp.getCreatedAt().toString(),
+                emp.getUpdatedAt().toString(),
+                emp.getDeletedAt() != null ? emp.getDeletedAt().toString() : "",
+                emp.getDeletedBy() != null ? emp.getDeletedBy() : ""
+        };
+    }
+
+    public boolean isHeader(String[] row) {
+        return row != null && row.length >= STATUS + 1
+                && Arrays.equals(Arrays.copyOf(row, STATUS + 1), Arrays.copyOf(HEADER, STATUS + 1));
+    }
+
+    public String emailOf(String[] row) {
+        return row.length > EMAIL ? row[EMAIL].trim() : "";
+    }
+
+    public EmployeeCreateRequest fromRow(String[] row) {
+        if (row.length < STATUS + 1) {
+            throw new IllegalArgumentException("Expected at least " + (STATUS + 1) + " columns but found " + row.length);
+        }
+        return EmployeeCreateRequest.builder()
+                .firstName(text(row[FIRST_NAME]))
+                .lastName(text(row[LAST_NAME]))
+                .email(text(row[EMAIL]))
+                .phone(text(row[PHONE]))
+                .dateOfBirth(date(row[DATE_OF_BIRTH], "Date of Birth"))
+                .hireDate(date(row[HIRE_DATE], "Hire Date"))
+                .jobTitle(text(row[JOB_TITLE]))
+                .department(text(row[DEPARTMENT]))
+                .salary(decimal(row[SALARY]))
+                .status(status(row[STATUS]))
+                .build();
+    }
+
+    private static String text(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static LocalDate date(String value, String column) {
+        String trimmed = text(value);
+        try {
+            return trimmed != null ? LocalDate.parse(trimmed) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + ": invalid date '" + trimmed + "'");
+        }
+    }
+
+    private static BigDecimal decimal(String value) {
+        String trimmed = text(value);
+        try {
+            return trimmed != null ? new BigDecimal(trimmed) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Salary: invalid number '" + trimmed + "'");
+        }
+    }
+
+    private static EmployeeStatus status(String value) {
+        String trimmed = text(value);
+        try {
+            return trimmed != null ? EmployeeStatus.valueOf(trimmed.toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Status: invalid value '" + trimmed + "'");
+        }
+    }
+
+}
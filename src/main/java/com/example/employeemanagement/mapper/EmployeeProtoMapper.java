@@ -0,0 +1,161 @@
+package com.example.employeemanagement.mapper;
+
+import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.EmployeeUpdateRequest;
+import com.example.employeemanagement.dto.PagedResponse;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.proto.CreateEmployeeRequest;
+import com.example.employeemanagement.proto.EmployeeMessage;
+import com.example.employeemanagement.proto.EmployeePageMessage;
+import com.example.employeemanagement.proto.EmployeeStatusMessage;
+import com.example.employeemanagement.proto.UpdateEmployeeRequest;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Maps between the REST DTOs and the messages in {@code employee.proto} and
+ * {@code employee_service.proto}. Unset optional fields stay absent rather than being sent as
+ * empty strings, and empty strings in requests are treated as missing values.
+ */
+@Component
+public class EmployeeProtoMapper {
+
+    public EmployeeMessage toMessage(EmployeeResponse response) {
+        EmployeeMessage.Builder builder = EmployeeMessage.newBuilder();
+        if (response.getId() != null) {
+            builder.setId(response.getId());
+        }
+        if (response.getFirstName() != null) {
+            builder.setFirstName(response.getFirstName());
+        }
+        if (response.getLastName() != null) {
+            builder.setLastName(response.getLastName());
+        }
+        if (response.getEmail() != null) {
+            builder.setEmail(response.getEmail());
+        }
+        if (response.getPhone() != null) {
+            builder.setPhone(response.getPhone());
+        }
+        if (response.getDateOfBirth() != null) {
+            builder.setDateOfBirth(response.getDateOfBirth().toString());
+        }
+        if (response.getHireDate() != null) {
+            builder.setHireDate(response.getHireDate().toString());
+        }
+        if (response.getJobTitle() != null) {
+            builder.setJobTitle(response.getJobTitle());
+        }
+        if (response.getDepartment() != null) {
+            builder.setDepartment(response.getDepartment());
+        }
+        if (response.getSalary() != null) {
+            builder.setSalary(response.getSalary().toPlainString());
+        }
+        if (response.getStatus() != null) {
+            builder.setStatus(toMessage(response.getStatus()));
+        }
+        if (response.getCreatedAt() != null) {
+            builder.setCreatedAt(response.getCreatedAt().toString());
+        }
+        if (response.getUpdatedAt() != null) {
+            builder.setUpdatedAt(response.getUpdatedAt().toString());
+        }
+        if (response.getManagerId() != null) {
+            builder.setManagerId(response.getManagerId());
+        }
+        return builder.build();
+    }
+
+    public EmployeePageMessage toMessage(PagedResponse<EmployeeResponse> page) {
+        EmployeePageMessage.Builder builder = EmployeePageMessage.newBuilder()
+                .setPage(page.getPage())
+                .setSize(page.getSize())
+                .setTotalElements(page.getTotalElements())
+                .setTotalPages(page.getTotalPages())
+                .setFirst(page.isFirst())
+                .setLast(page.isLast());
+        for (EmployeeResponse response : page.getContent()) {
+            builder.addContent(toMessage(response));
+        }
+        return builder.build();
+    }
+
+    public EmployeeStatusMessage toMessage(EmployeeStatus status) {
+        return switch (status) {
+            case ACTIVE -> EmployeeStatusMessage.EMPLOYEE_STATUS_ACTIVE;
+            case INACTIVE -> EmployeeStatusMessage.EMPLOYEE_STATUS_INACTIVE;
+        };
+    }
+
+    public EmployeeCreateRequest toCreateRequest(CreateEmployeeRequest request) {
+        return EmployeeCreateRequest.builder()
+                .firstName(text(request.getFirstName()))
+                .lastName(text(request.getLastName()))
+                .email(text(request.getEmail()))
+                .phone(request.hasPhone() ? text(request.getPhone()) : null)
+                .dateOfBirth(request.hasDateOfBirth() ? date(request.getDateOfBirth(), "dateOfBirth") : null)
+                .hireDate(date(request.getHireDate(), "hireDate"))
+                .jobTitle(text(request.getJobTitle()))
+                .department(text(request.getDepartment()))
+                .salary(decimal(request.getSalary()))
+                .status(toStatus(request.getStatus()))
+                .managerId(request.hasManagerId() ? request.getManagerId() : null)
+                .build();
+    }
+
+    public EmployeeUpdateRequest toUpdateRequest(UpdateEmployeeRequest request) {
+        return EmployeeUpdateRequest.builder()
+                .firstName(request.hasFirstName() ? text(request.getFirstName()) : null)
+                .lastName(request.hasLastName() ? text(request.getLastName()) : null)
+                .email(request.hasEmail() ? text(request.getEmail()) : null)
+                .phone(request.hasPhone() ? text(request.getPhone()) : null)
+                .dateOfBirth(request.hasDateOfBirth() ? date(request.getDateOfBirth(), "dateOfBirth") : null)
+                .hireDate(request.hasHireDate() ? date(request.getHireDate(), "hireDate") : null)
+                .jobTitle(request.hasJobTitle() ? text(request.getJobTitle()) : null)
+                .department(request.hasDepartment() ? text(request.getDepartment()) : null)
+                .salary(request.hasSalary() ? decimal(request.getSalary()) : null)
+                .status(toStatus(request.getStatus()))
+                .build();
+    }
+
+    public EmployeeStatus toStatus(EmployeeStatusMessage status) {
+        return switch (status) {
+            case EMPLOYEE_STATUS_ACTIVE -> EmployeeStatus.ACTIVE;
+            case EMPLOYEE_STATUS_INACTIVE -> EmployeeStatus.INACTIVE;
+            case EMPLOYEE_STATUS_UNSPECIFIED -> null;
+            case UNRECOGNIZED -> throw new IllegalArgumentException("status: unknown value");
+        };
+    }
+
+    private static String text(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate date(String value, String field) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + ": invalid date '" + value + "'");
+        }
+    }
+
+    private static BigDecimal decimal(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("salary: invalid number '" + value + "'");
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.example.employeemanagement.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private final QueryCountProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        try {
+            // The header has to go out before the body commits the response
+            HttpServletResponse target = properties.isExposeHeader() ? new QueryCountResponseWrapper(response) : response;
+            filterChain.doFilter(request, target);
+        } finally {
+            SqlStatementCounter.Stats stats = SqlStatementCounter.stop();
+            if (properties.isExposeHeader() && !response.isCommitted()) {
+                response.setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.getStatements()));
+            }
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementCounter.Stats stats) {
+        if (stats.getStatements() > properties.getBudget()) {
+            log.warn("{} {} executed {} SQL statements, over the budget of {}",
+                    request.getMethod(), request.getRequestURI(), stats.getStatements(), properties.getBudget());
+        }
+        for (Map.Entry<String, Integer> entry : stats.getExecutionsBySql().entrySet()) {
+            if (entry.getValue() >= properties.getRepeatedStatementThreshold()) {
+                log.warn("Possible N+1 in {} {}: statement executed {} times: {}",
+                        request.getMethod(), request.getRequestURI(), entry.getValue(), entry.getKey());
+            }
+        }
+    }
+
+    private static final class QueryCountResponseWrapper extends OnCommittedResponseWrapper {
+
+        QueryCountResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setHeader(QUERY_COUNT_HEADER, String.valueOf(SqlStatementCounter.currentCount()));
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.example.employeemanagement.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.query-count")
+public class QueryCountProperties {
+
+    private boolean enabled = true;
+
+    // Requests executing more statements than this are logged
+    private int budget = 10;
+
+    // The same statement running this many times in one request is reported as a likely N+1
+    private int repeatedStatementThreshold = 5;
+
+    // Adds the X-Query-Count header to responses; disabled in prod
+    private boolean exposeHeader = true;
+
+}
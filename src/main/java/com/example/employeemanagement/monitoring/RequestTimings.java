@@ -0,0 +1,145 @@
+package com.example.employeemanagement.monitoring;
+
+import java.util.Arrays;
+
+/**
+ * Thread-bound latency breakdown of the current request. One instance is reused per thread
+ * and phases are plain {@code long} accumulators, so timing a phase allocates nothing.
+ */
+public final class RequestTimings {
+
+    public enum Phase {
+        FILTERS("filters"),
+        QUERY("db"),
+        COUNT_QUERY("db-count"),
+        MAPPING("map"),
+        AUDIT("audit"),
+        SERIALIZATION("serialize");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private static final ThreadLocal<RequestTimings> CURRENT = ThreadLocal.withInitial(RequestTimings::new);
+
+    private final long[] elapsedNanos = new long[PHASES.length];
+
+    private boolean active;
+
+    private long requestStart;
+
+    private long sqlStart;
+
+    private long serializationStart;
+
+    private RequestTimings() {
+    }
+
+    public static RequestTimings start() {
+        RequestTimings timings = CURRENT.get();
+        Arrays.fill(timings.elapsedNanos, 0L);
+        timings.requestStart = System.nanoTime();
+        timings.serializationStart = 0L;
+        timings.active = true;
+        return timings;
+    }
+
+    public static RequestTimings stop() {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active && timings.serializationStart != 0L) {
+            timings.elapsedNanos[Phase.SERIALIZATION.ordinal()] = System.nanoTime() - timings.serializationStart;
+        }
+        timings.active = false;
+        return timings;
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static long begin() {
+        return System.nanoTime();
+    }
+
+    public static void end(Phase phase, long startNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.elapsedNanos[phase.ordinal()] += System.nanoTime() - startNanos;
+        }
+    }
+
+    // Marks the end of a phase that started when the request entered the first filter
+    public static void endSinceRequestStart(Phase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.elapsedNanos[phase.ordinal()] = System.nanoTime() - timings.requestStart;
+        }
+    }
+
+    // Serialization runs until the response is complete, so it is closed by stop()
+    public static void beginSerialization() {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.serializationStart = System.nanoTime();
+        }
+    }
+
+    static void beginSql() {
+        CURRENT.get().sqlStart = System.nanoTime();
+    }
+
+    static void endSql(boolean countQuery) {
+        RequestTimings timings = CURRENT.get();
+        end(countQuery ? Phase.COUNT_QUERY : Phase.QUERY, timings.sqlStart);
+    }
+
+    public long elapsedNanos(Phase phase) {
+        return elapsedNanos[phase.ordinal()];
+    }
+
+    public long totalNanos() {
+        return System.nanoTime() - requestStart;
+    }
+
+    public String toServerTimingHeader(boolean includeSerialization) {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : PHASES) {
+            if (phase == Phase.SERIALIZATION && !includeSerialization) {
+                continue;
+            }
+            long nanos = elapsedNanos[phase.ordinal()];
+            if (nanos > 0) {
+                appendMetric(header, phase.getMetricName(), nanos);
+            }
+        }
+        appendMetric(header, "total", totalNanos());
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        if (header.length() > 0) {
+            header.append(", ");
+        }
+        // Durations are milliseconds with microsecond precision
+        long micros = nanos / 1_000;
+        header.append(name).append(";dur=").append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+
+}
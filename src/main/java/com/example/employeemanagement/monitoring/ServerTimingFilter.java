@@ -0,0 +1,79 @@
+package com.example.employeemanagement.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+import com.example.employeemanagement.monitoring.RequestTimings.Phase;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final ServerTimingProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings.start();
+        try {
+            HttpServletResponse target = properties.isExposeHeader() ? new ServerTimingResponseWrapper(response) : response;
+            filterChain.doFilter(request, target);
+        } finally {
+            RequestTimings timings = RequestTimings.stop();
+            if (properties.isExposeHeader() && !response.isCommitted()) {
+                response.setHeader(SERVER_TIMING_HEADER, timings.toServerTimingHeader(true));
+            }
+            if (properties.isLogEnabled() && log.isInfoEnabled()) {
+                log.info("request method={} path={} status={} total_ms={} filters_ms={} db_ms={} db_count_ms={} map_ms={} audit_ms={} serialize_ms={} sql_statements={}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        millis(timings.totalNanos()),
+                        millis(timings.elapsedNanos(Phase.FILTERS)),
+                        millis(timings.elapsedNanos(Phase.QUERY)),
+                        millis(timings.elapsedNanos(Phase.COUNT_QUERY)),
+                        millis(timings.elapsedNanos(Phase.MAPPING)),
+                        millis(timings.elapsedNanos(Phase.AUDIT)),
+                        millis(timings.elapsedNanos(Phase.SERIALIZATION)),
+                        SqlStatementCounter.currentCount());
+            }
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000L / 1_000.0;
+    }
+
+    private static final class ServerTimingResponseWrapper extends OnCommittedResponseWrapper {
+
+        ServerTimingResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            // Serialization is still running when the body starts to commit the response
+            setHeader(SERVER_TIMING_HEADER, RequestTimings.current().toServerTimingHeader(false));
+        }
+
+    }
+
+}
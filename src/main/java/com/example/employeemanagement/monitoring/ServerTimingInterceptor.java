@@ -0,0 +1,18 @@
+package com.example.employeemanagement.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+public class ServerTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Everything between the first filter and the handler, including Spring Security
+        RequestTimings.endSinceRequestStart(RequestTimings.Phase.FILTERS);
+        return true;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.example.employeemanagement.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.server-timing")
+public class ServerTimingProperties {
+
+    private boolean enabled = true;
+
+    // Adds the Server-Timing header to responses
+    private boolean exposeHeader = true;
+
+    // Writes one structured log line per request
+    private boolean logEnabled = true;
+
+}
@@ -0,0 +1,64 @@
+package com.example.employeemanagement.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Thread-bound count of the SQL statements executed while serving the current request.
+ * Counting is only active between {@link #start()} and {@link #stop()}, so statements run
+ * by background jobs or at startup are ignored.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Stats> CURRENT = ThreadLocal.withInitial(Stats::new);
+
+    private SqlStatementCounter() {
+    }
+
+    public static void start() {
+        CURRENT.get().reset(true);
+    }
+
+    public static Stats stop() {
+        Stats stats = CURRENT.get();
+        stats.active = false;
+        return stats;
+    }
+
+    public static int currentCount() {
+        return CURRENT.get().statements;
+    }
+
+    static void record(String sql) {
+        Stats stats = CURRENT.get();
+        if (stats.active) {
+            stats.statements++;
+            stats.executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public static final class Stats {
+
+        private boolean active;
+
+        private int statements;
+
+        private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+        private void reset(boolean active) {
+            this.active = active;
+            this.statements = 0;
+            this.executionsBySql.clear();
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public Map<String, Integer> getExecutionsBySql() {
+            return executionsBySql;
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.example.employeemanagement.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+public class SqlStatementCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // One execution is one round trip, even for a JDBC batch
+        SqlStatementCounter.record(queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery());
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.employeemanagement.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+public class SqlTimingListener implements QueryExecutionListener {
+
+    private static final String COUNT_PREFIX = "select count(";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTimings.beginSql();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        RequestTimings.endSql(sql.regionMatches(true, 0, COUNT_PREFIX, 0, COUNT_PREFIX.length()));
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.example.employeemanagement.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.employeemanagement.AuditWrite")
+@Label("Audit Write")
+@Category({"Employee Management", "Audit"})
+@Description("An employee_audit record written by AuditService")
+@StackTrace(false)
+public class AuditWriteEvent extends Event {
+
+    @Label("Audit Type")
+    public String auditType;
+
+    @Label("Employee Id")
+    public long employeeId;
+
+    @Label("Snapshot Size")
+    @Description("UTF-8 size of the before and after snapshots")
+    @DataAmount
+    public long snapshotBytes;
+
+}
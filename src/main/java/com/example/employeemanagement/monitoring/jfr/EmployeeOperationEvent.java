@@ -0,0 +1,30 @@
+package com.example.employeemanagement.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.employeemanagement.EmployeeOperation")
+@Label("Employee Operation")
+@Category({"Employee Management", "Service"})
+@Description("An EmployeeService operation")
+@StackTrace(false)
+public class EmployeeOperationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Employee Id")
+    public long employeeId;
+
+    @Label("Filter Shape")
+    @Description("Filters applied to a listing, e.g. department+status")
+    public String filterShape;
+
+    @Label("Rows Returned")
+    public long rowsReturned;
+
+}
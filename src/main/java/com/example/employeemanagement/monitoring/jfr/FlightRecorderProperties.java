@@ -0,0 +1,28 @@
+package com.example.employeemanagement.monitoring.jfr;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.jfr")
+public class FlightRecorderProperties {
+
+    // Exposes the /api/v1/admin/flight-recordings endpoint
+    private boolean adminEnabled = false;
+
+    // Keeps a recording of the employee events running from startup
+    private boolean continuous = false;
+
+    // Operations faster than this are not recorded by the continuous recording
+    private Duration continuousThreshold = Duration.ofMillis(20);
+
+    private String dumpDirectory = "jfr";
+
+    private Duration maxAge = Duration.ofMinutes(10);
+
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+
+}
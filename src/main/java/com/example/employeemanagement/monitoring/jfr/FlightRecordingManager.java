@@ -0,0 +1,132 @@
+package com.example.employeemanagement.monitoring.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FlightRecordingManager {
+
+    private static final String ON_DEMAND_NAME = "employee-on-demand";
+
+    private static final String CONTINUOUS_NAME = "employee-continuous";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final FlightRecorderProperties properties;
+
+    private Recording onDemand;
+
+    private Recording continuous;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void startContinuousRecording() {
+        if (!properties.isContinuous() || continuous != null) {
+            return;
+        }
+        // Only the application events, above a threshold, so it is cheap enough to leave running
+        Recording recording = new Recording();
+        recording.setName(CONTINUOUS_NAME);
+        recording.enable(EmployeeOperationEvent.class).withThreshold(properties.getContinuousThreshold());
+        recording.enable(AuditWriteEvent.class).withThreshold(properties.getContinuousThreshold());
+        applyBounds(recording);
+        recording.start();
+        continuous = recording;
+        log.info("Continuous flight recording started: threshold={}, maxAge={}, maxSize={}",
+                properties.getContinuousThreshold(), properties.getMaxAge(), properties.getMaxSize());
+    }
+
+    public synchronized Recording start(Duration duration) {
+        if (isRunning(onDemand)) {
+            throw new IllegalStateException("A flight recording is already running: " + onDemand.getName());
+        }
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration("profile"));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Unable to load the JFR 'profile' configuration", e);
+        }
+        recording.setName(ON_DEMAND_NAME);
+        recording.enable(EmployeeOperationEvent.class).withoutThreshold();
+        recording.enable(AuditWriteEvent.class).withoutThreshold();
+        applyBounds(recording);
+        if (duration != null) {
+            recording.setDuration(duration);
+        }
+        recording.start();
+        if (onDemand != null) {
+            onDemand.close();
+        }
+        onDemand = recording;
+        return recording;
+    }
+
+    public synchronized Recording stop() {
+        if (!isRunning(onDemand)) {
+            throw new IllegalStateException("No flight recording is running");
+        }
+        onDemand.stop();
+        return onDemand;
+    }
+
+    public synchronized Path dump() {
+        Recording recording = onDemand != null && onDemand.getState() != RecordingState.CLOSED ? onDemand : continuous;
+        if (recording == null) {
+            throw new IllegalStateException("No flight recording to dump");
+        }
+        try {
+            Path directory = Paths.get(properties.getDumpDirectory());
+            Files.createDirectories(directory);
+            Path file = directory.resolve(recording.getName() + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr").toAbsolutePath();
+            recording.dump(file);
+            log.info("Flight recording {} dumped to {}", recording.getName(), file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to dump flight recording", e);
+        }
+    }
+
+    public synchronized Recording current() {
+        return onDemand != null ? onDemand : continuous;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (onDemand != null) {
+            onDemand.close();
+        }
+        if (continuous != null) {
+            continuous.close();
+        }
+    }
+
+    private void applyBounds(Recording recording) {
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+    }
+
+    private static boolean isRunning(Recording recording) {
+        return recording != null && (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED);
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.entity.EmployeeAudit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Moves soft-deleted employees between {@code employees} and {@code employees_archive}, and their
+ * audit rows between {@code employee_audit} and {@code employee_audit_archive}. Rows keep their
+ * ids both ways. Each method is meant to run inside the caller's transaction, so a move either
+ * happens completely or not at all.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeArchiveRepository {
+
+    public record Candidate(long id, Instant deletedAt) {
+    }
+
+    private static final String COLUMNS = "id, first_name, last_name, email, phone, date_of_birth, hire_date, job_title, department, "
+            + "salary, status, created_at, updated_at, deleted_at, deleted_by, manager_id, manager_path";
+
+    private static final String AUDIT_COLUMNS = "id, employee_id, audit_type, performed_by, performed_at, before_snapshot, after_snapshot, description";
+
+    // Keyset over the (deleted_at, id) index, oldest first. Managers of anyone stay, so every
+    // reporting chain still resolves in employees. Rows locked by a user transaction are left for the next chunk.
+    private static final String LOCK_CANDIDATES_SQL = "SELECT id, deleted_at FROM employees e "
+            + "WHERE e.deleted_at < :cutoff AND (e.deleted_at, e.id) > (:afterDeletedAt, :afterId) "
+            + "AND NOT EXISTS (SELECT 1 FROM employees r WHERE r.manager_id = e.id) "
+            + "ORDER BY e.deleted_at, e.id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String ARCHIVE_EMPLOYEES_SQL = "INSERT INTO employees_archive (" + COLUMNS + ", archived_at) "
+            + "SELECT " + COLUMNS + ", :archivedAt FROM employees WHERE id IN (:ids)";
+
+    private static final String ARCHIVE_AUDITS_SQL = "INSERT INTO employee_audit_archive (" + AUDIT_COLUMNS + ") "
+            + "SELECT " + AUDIT_COLUMNS + " FROM employee_audit WHERE employee_id IN (:ids)";
+
+    private static final String DELETE_AUDITS_SQL = "DELETE FROM employee_audit WHERE employee_id IN (:ids)";
+
+    private static final String DELETE_EMPLOYEES_SQL = "DELETE FROM employees WHERE id IN (:ids)";
+
+    private static final String FIND_ARCHIVED_AUDITS_SQL = "SELECT " + AUDIT_COLUMNS + " FROM employee_audit_archive WHERE employee_id = :employeeId";
+
+    private static final String LOCK_ARCHIVED_EMAIL_SQL = "SELECT email FROM employees_archive WHERE id = :id FOR UPDATE";
+
+    private static final String RESTORE_EMPLOYEE_SQL = "INSERT INTO employees (" + COLUMNS + ") "
+            + "SELECT " + COLUMNS + " FROM employees_archive WHERE id = :id";
+
+    private static final String RESTORE_AUDITS_SQL = "INSERT INTO employee_audit (" + AUDIT_COLUMNS + ") "
+            + "SELECT " + AUDIT_COLUMNS + " FROM employee_audit_archive WHERE employee_id = :id";
+
+    private static final String DELETE_ARCHIVED_AUDITS_SQL = "DELETE FROM employee_audit_archive WHERE employee_id = :id";
+
+    private static final String DELETE_ARCHIVED_EMPLOYEE_SQL = "DELETE FROM employees_archive WHERE id = :id";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Locks up to {@code limit} employees soft-deleted before {@code cutoff} that come after the
+     * given position in {@code (deleted_at, id)} order.
+     */
+    public List<Candidate> lockCandidates(Instant cutoff, Candidate after, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.from(cutoff))
+                .addValue("afterDeletedAt", Timestamp.from(after.deletedAt()))
+                .addValue("afterId", after.id())
+                .addValue("limit", limit);
+        return namedParameterJdbcTemplate.query(LOCK_CANDIDATES_SQL, parameters,
+                (rs, rowNum) -> new Candidate(rs.getLong("id"), rs.getTimestamp("deleted_at").toInstant()));
+    }
+
+    /**
+     * Moves the given, already locked, employees to the archive; returns how many moved.
+     */
+    public int archive(Collection<Long> ids, boolean includeAudit, Instant archivedAt) {
+        Map<String, Object> parameters = Map.of("ids", ids, "archivedAt", Timestamp.from(archivedAt));
+        int moved = namedParameterJdbcTemplate.update(ARCHIVE_EMPLOYEES_SQL, parameters);
+        if (includeAudit) {
+            namedParameterJdbcTemplate.update(ARCHIVE_AUDITS_SQL, parameters);
+            namedParameterJdbcTemplate.update(DELETE_AUDITS_SQL, parameters);
+        }
+        namedParameterJdbcTemplate.update(DELETE_EMPLOYEES_SQL, parameters);
+        return moved;
+    }
+
+    public List<EmployeeAudit> findArchivedAudits(Long employeeId) {
+        return namedParameterJdbcTemplate.query(FIND_ARCHIVED_AUDITS_SQL, Map.of("employeeId", employeeId),
+                new BeanPropertyRowMapper<>(EmployeeAudit.class));
+    }
+
+    /**
+     * Locks an archived employee and returns their email, or empty when {@code id} is not archived.
+     */
+    public Optional<String> lockArchivedEmail(Long id) {
+        return namedParameterJdbcTemplate.queryForList(LOCK_ARCHIVED_EMAIL_SQL, Map.of("id", id), String.class)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Moves an archived employee, and any archived audit rows of theirs, back to the live tables.
+     */
+    public void restore(Long id) {
+        Map<String, Object> parameters = Map.of("id", id);
+        namedParameterJdbcTemplate.update(RESTORE_EMPLOYEE_SQL, parameters);
+        namedParameterJdbcTemplate.update(RESTORE_AUDITS_SQL, parameters);
+        namedParameterJdbcTemplate.update(DELETE_ARCHIVED_AUDITS_SQL, parameters);
+        namedParameterJdbcTemplate.update(DELETE_ARCHIVED_EMPLOYEE_SQL, parameters);
+    }
+
+}
@@ -1,11 +1,36 @@
 package com.example.employeemanagement.repository;
 
 import com.example.employeemanagement.entity.EmployeeAudit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface EmployeeAuditRepository extends JpaRepository<EmployeeAudit, Long> {
 
     List<EmployeeAudit> findByEmployeeIdOrderByPerformedAtDesc(Long employeeId);
 
-}
\ No newline at end of file
+    List<EmployeeAudit> findByPerformedAtBeforeOrderByPerformedAtAscIdAsc(LocalDateTime cutoff, Pageable pageable);
+
+    List<EmployeeAudit> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<EmployeeAudit> findByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(Long after, Long upTo, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM EmployeeAudit a")
+    long findMaxId();
+
+    @Query("SELECT a.id AS id, a.employeeId AS employeeId FROM EmployeeAudit a WHERE a.id > :after AND a.id <= :upTo ORDER BY a.id")
+    List<ChangeRef> findChangeRefs(@Param("after") Long after, @Param("upTo") Long upTo, Pageable pageable);
+
+    interface ChangeRef {
+
+        Long getId();
+
+        Long getEmployeeId();
+
+    }
+
+}
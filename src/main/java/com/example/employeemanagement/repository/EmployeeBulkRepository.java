@@ -0,0 +1,48 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeAudit;
+
+import java.io.Writer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based JDBC access for bulk paths, bypassing the persistence context.
+ */
+public interface EmployeeBulkRepository {
+
+    /**
+     * Returns the lower-cased emails from {@code emails} that already belong to an employee.
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Inserts the employees in one JDBC batch and assigns their generated ids.
+     */
+    void insertEmployees(List<Employee> employees);
+
+    /**
+     * Returns the employees whose email matches one of {@code emails} ignoring case, keyed by lower-cased
+     * email. The rows stay locked until the transaction ends.
+     */
+    Map<String, Employee> lockByEmails(Collection<String> emails);
+
+    /**
+     * Inserts or updates the employees in one statement batch, matching existing rows on case-insensitive
+     * email, and assigns their ids. Matched rows keep their email spelling, creation time and deletion state.
+     * Returns the lower-cased emails of the rows that were inserted.
+     */
+    Set<String> upsertEmployees(List<Employee> employees);
+
+    void insertAudits(List<EmployeeAudit> audits);
+
+    /**
+     * Writes the matching employees to {@code writer} in the {@code EmployeeCsvMapper} layout, ordered by id.
+     */
+    void exportCsv(EmployeeFilter filter, Writer writer);
+
+}
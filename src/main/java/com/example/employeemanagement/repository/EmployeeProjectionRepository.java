@@ -0,0 +1,52 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.entity.Employee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads that select straight into {@link EmployeeResponse} without loading managed entities.
+ * Reads that include soft-deleted employees also see archived ones.
+ */
+public interface EmployeeProjectionRepository {
+
+    /**
+     * The employee with this id, from {@code employees_archive} if not in {@code employees}.
+     */
+    Optional<EmployeeResponse> findResponseById(Long id);
+
+    Page<EmployeeResponse> findResponses(EmployeeFilter filter, Pageable pageable);
+
+    /**
+     * Up to {@code limit} matches with an id above {@code afterId}, in id order, without a count.
+     * Rows inserted or deleted meanwhile do not shift the next call's position, unlike an offset.
+     */
+    List<EmployeeResponse> findResponsesAfterId(EmployeeFilter filter, long afterId, int limit);
+
+    /**
+     * The managed-entity counterpart of {@link #findResponses}, from the same query templates.
+     * Soft-deleted employees are included with {@code includeInactive}; archived ones never are.
+     */
+    Page<Employee> findEmployees(EmployeeFilter filter, Pageable pageable);
+
+    /**
+     * Loads the given ids with as few {@code IN} queries as the chunk size allows, in no
+     * particular order.
+     */
+    List<EmployeeResponse> findResponsesByIds(Collection<Long> ids, boolean includeInactive);
+
+    /**
+     * Employees that are not soft-deleted and whose manager path starts with {@code pathPrefix},
+     * such as {@code "/1/5/"} for everyone under employee 5.
+     */
+    Page<EmployeeResponse> findResponsesUnderPath(String pathPrefix, Pageable pageable);
+
+    List<EmployeeResponse> findLiveResponsesByManagerId(Long managerId);
+
+}
@@ -0,0 +1,271 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.entity.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Constructor-expression queries: each row becomes one {@link EmployeeResponse}, with no entity
+ * instance, persistence-context entry or dirty-checking snapshot behind it.
+ * <p>
+ * Queries are HQL strings rather than Criteria so Hibernate's query plan cache keeps their
+ * translation. The listing queries, and their counts, are built once for each of the 16
+ * combinations of filters; a request picks its template, appends a cached ORDER BY and binds its
+ * values, so it yields one of a few fixed strings per sort order without building any.
+ */
+public class EmployeeProjectionRepositoryImpl implements EmployeeProjectionRepository {
+
+    // Argument order matches the EmployeeResponse all-args constructor
+    private static final String RESPONSE = "SELECT new com.example.employeemanagement.dto.EmployeeResponse("
+            + "e.id, e.firstName, e.lastName, e.email, e.phone, e.dateOfBirth, e.hireDate, e.jobTitle, e.department, "
+            + "e.salary, e.status, e.createdAt, e.updatedAt, e.managerId)";
+
+    private static final String SELECT_RESPONSE = RESPONSE + " FROM Employee e";
+
+    // Also covers employees the archival job has moved to employees_archive
+    private static final String SELECT_ANY_RESPONSE = RESPONSE + " FROM EmployeeRecord e";
+
+    private static final String FIND_BY_ID = SELECT_RESPONSE + " WHERE e.id = :id";
+
+    private static final String FIND_ANY_BY_ID = SELECT_ANY_RESPONSE + " WHERE e.id = :id";
+
+    private static final String FIND_ANY_BY_IDS = SELECT_ANY_RESPONSE + " WHERE e.id IN :ids";
+
+    private static final String FIND_LIVE_BY_IDS = SELECT_RESPONSE + " WHERE e.id IN :ids AND e.deletedAt IS NULL";
+
+    private static final String FIND_LIVE_BY_MANAGER_ID = SELECT_RESPONSE + " WHERE e.managerId = :managerId AND e.deletedAt IS NULL ORDER BY e.id";
+
+    // A range rather than LIKE, so the path index is used whatever the bind value
+    private static final String UNDER_PATH = " WHERE e.managerPath >= :from AND e.managerPath < :to AND e.deletedAt IS NULL";
+
+    // Well below the bind parameter limits of H2 and PostgreSQL; padding keeps the plan count small
+    static final int IN_CHUNK_SIZE = 500;
+
+    private static final String COUNT = "SELECT COUNT(e) FROM Employee e";
+
+    private static final String COUNT_ANY = "SELECT COUNT(e) FROM EmployeeRecord e";
+
+    // Bits of a filter's template index, the same as the filter shapes EmployeeService reports
+    private static final int DEPARTMENT = 1;
+    private static final int STATUS = 2;
+    private static final int SEARCH = 4;
+    private static final int INCLUDE_INACTIVE = 8;
+
+    private static final FilterTemplate[] FILTER_TEMPLATES = new FilterTemplate[16];
+
+    static {
+        for (int mask = 0; mask < FILTER_TEMPLATES.length; mask++) {
+            String where = whereClause(mask);
+            boolean includeInactive = (mask & INCLUDE_INACTIVE) != 0;
+            String responses = (includeInactive ? SELECT_ANY_RESPONSE : SELECT_RESPONSE) + where;
+            FILTER_TEMPLATES[mask] = new FilterTemplate(
+                    "SELECT e FROM Employee e" + where,
+                    responses,
+                    responses + (where.isEmpty() ? " WHERE " : " AND ") + "e.id > :afterId ORDER BY e.id",
+                    COUNT + where,
+                    (includeInactive ? COUNT_ANY : COUNT) + where);
+        }
+    }
+
+    // Requests choose their sort, so only this many (query, sort) pairs are kept
+    private static final int SORTED_QUERY_CACHE_SIZE = 512;
+
+    private static final Map<SortedQuery, String> SORTED_QUERIES = new ConcurrentHashMap<>();
+
+    private record FilterTemplate(String entities, String responses, String responsesAfterId, String countEntities,
+                                  String countResponses) {
+    }
+
+    private record SortedQuery(String select, Sort sort) {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<EmployeeResponse> findResponseById(Long id) {
+        Optional<EmployeeResponse> employee = query(FIND_BY_ID, EmployeeResponse.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+        // Only misses pay for the archive lookup
+        return employee.isPresent() ? employee : query(FIND_ANY_BY_ID, EmployeeResponse.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public Page<EmployeeResponse> findResponses(EmployeeFilter filter, Pageable pageable) {
+        FilterTemplate template = FILTER_TEMPLATES[templateIndex(filter)];
+        TypedQuery<EmployeeResponse> query = bind(query(sorted(template.responses(), pageable.getSort()), EmployeeResponse.class), filter);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<EmployeeResponse> content = query.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> bind(query(template.countResponses(), Long.class), filter).getSingleResult());
+    }
+
+    @Override
+    public List<EmployeeResponse> findResponsesAfterId(EmployeeFilter filter, long afterId, int limit) {
+        return bind(query(FILTER_TEMPLATES[templateIndex(filter)].responsesAfterId(), EmployeeResponse.class), filter)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Page<Employee> findEmployees(EmployeeFilter filter, Pageable pageable) {
+        FilterTemplate template = FILTER_TEMPLATES[templateIndex(filter)];
+        TypedQuery<Employee> query = bind(query(sorted(template.entities(), pageable.getSort()), Employee.class), filter);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Employee> content = query.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> bind(query(template.countEntities(), Long.class), filter).getSingleResult());
+    }
+
+    @Override
+    public List<EmployeeResponse> findResponsesByIds(Collection<Long> ids, boolean includeInactive) {
+        List<Long> remaining = List.copyOf(ids);
+        List<EmployeeResponse> found = new ArrayList<>(remaining.size());
+        for (int from = 0; from < remaining.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = remaining.subList(from, Math.min(from + IN_CHUNK_SIZE, remaining.size()));
+            found.addAll(query(includeInactive ? FIND_ANY_BY_IDS : FIND_LIVE_BY_IDS, EmployeeResponse.class)
+                    .setParameter("ids", chunk)
+                    .getResultList());
+        }
+        return found;
+    }
+
+    @Override
+    public Page<EmployeeResponse> findResponsesUnderPath(String pathPrefix, Pageable pageable) {
+        String to = ManagerPaths.upperBound(pathPrefix);
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : Sort.by("id");
+        TypedQuery<EmployeeResponse> query = query(SELECT_RESPONSE + UNDER_PATH + orderBy(sort), EmployeeResponse.class)
+                .setParameter("from", pathPrefix)
+                .setParameter("to", to);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<EmployeeResponse> content = query.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> query(COUNT + UNDER_PATH, Long.class)
+                .setParameter("from", pathPrefix)
+                .setParameter("to", to)
+                .getSingleResult());
+    }
+
+    @Override
+    public List<EmployeeResponse> findLiveResponsesByManagerId(Long managerId) {
+        return query(FIND_LIVE_BY_MANAGER_ID, EmployeeResponse.class)
+                .setParameter("managerId", managerId)
+                .getResultList();
+    }
+
+    private <T> TypedQuery<T> query(String hql, Class<T> resultType) {
+        TypedQuery<T> query = entityManager.createQuery(hql, resultType);
+        // A read-only transaction has nothing to flush; inside a writing one, the read must see its pending changes
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? query.setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                : query;
+    }
+
+    private static int templateIndex(EmployeeFilter filter) {
+        return (filter.getDepartment() != null ? DEPARTMENT : 0)
+                | (filter.getStatus() != null ? STATUS : 0)
+                | (filter.getSearch() != null ? SEARCH : 0)
+                | (filter.isIncludeInactive() ? INCLUDE_INACTIVE : 0);
+    }
+
+    private static String whereClause(int mask) {
+        StringBuilder where = new StringBuilder();
+        if ((mask & DEPARTMENT) != 0) {
+            and(where).append("LOWER(e.department) = :department");
+        }
+        if ((mask & STATUS) != 0) {
+            and(where).append("e.status = :status");
+        }
+        if ((mask & INCLUDE_INACTIVE) == 0) {
+            and(where).append("e.deletedAt IS NULL");
+        }
+        if ((mask & SEARCH) != 0) {
+            and(where).append("(LOWER(e.firstName) LIKE :search OR LOWER(e.lastName) LIKE :search OR LOWER(e.email) LIKE :search)");
+        }
+        return where.toString();
+    }
+
+    private static <T> TypedQuery<T> bind(TypedQuery<T> query, EmployeeFilter filter) {
+        if (filter.getDepartment() != null) {
+            query.setParameter("department", filter.getDepartment().toLowerCase());
+        }
+        if (filter.getStatus() != null) {
+            query.setParameter("status", filter.getStatus());
+        }
+        if (filter.getSearch() != null) {
+            query.setParameter("search", "%" + filter.getSearch().toLowerCase() + "%");
+        }
+        return query;
+    }
+
+    private static StringBuilder and(StringBuilder where) {
+        return where.append(where.isEmpty() ? " WHERE " : " AND ");
+    }
+
+    private static String sorted(String select, Sort sort) {
+        if (sort.isUnsorted()) {
+            return select;
+        }
+        SortedQuery key = new SortedQuery(select, sort);
+        String hql = SORTED_QUERIES.get(key);
+        if (hql == null) {
+            // orderBy rejects unknown properties, so only valid sorts are ever kept
+            hql = select + orderBy(sort);
+            if (SORTED_QUERIES.size() < SORTED_QUERY_CACHE_SIZE) {
+                SORTED_QUERIES.put(key, hql);
+            }
+        }
+        return hql;
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        for (Sort.Order order : sort) {
+            // Rejects unknown properties the same way the repository methods do, and keeps input out of the HQL
+            PropertyPath path = PropertyPath.from(order.getProperty(), Employee.class);
+            if (orderBy.length() > " ORDER BY ".length()) {
+                orderBy.append(", ");
+            }
+            String property = "e." + path.toDotPath();
+            orderBy.append(order.isIgnoreCase() ? "LOWER(" + property + ")" : property)
+                    .append(order.isAscending() ? " ASC" : " DESC");
+        }
+        return orderBy.toString();
+    }
+
+}
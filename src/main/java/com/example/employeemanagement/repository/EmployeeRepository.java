@@ -2,11 +2,20 @@ package com.example.employeemanagement.repository;
 
 import com.example.employeemanagement.entity.Employee;
 import com.example.employeemanagement.entity.EmployeeStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>, EmployeeProjectionRepository {
 
     List<Employee> findByStatus(EmployeeStatus status);
 
@@ -16,4 +25,28 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSp
 
     Employee findByEmailIgnoreCase(String email);
 
+    List<Employee> findByIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(Long id, Limit limit);
+
+    // A scalar read, so the entity is only loaded once it is locked
+    @Query("SELECT e.managerPath FROM Employee e WHERE e.id = :id")
+    Optional<String> findManagerPathById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Employee e WHERE e.id = :id")
+    Optional<Employee> lockById(@Param("id") Long id);
+
+    // Ordered by id so that concurrent hierarchy writes take their row locks in the same order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Employee e WHERE e.id IN :ids ORDER BY e.id")
+    List<Employee> lockAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Replaces the leading {@code from} of every manager path in {@code [from, to)} with {@code replacement}.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Employee e SET e.managerPath = CONCAT(:replacement, SUBSTRING(e.managerPath, :keepFrom)) "
+            + "WHERE e.managerPath >= :from AND e.managerPath < :to")
+    int rebaseManagerPaths(@Param("from") String from, @Param("to") String to, @Param("keepFrom") int keepFrom,
+                           @Param("replacement") String replacement);
+
 }
@@ -0,0 +1,308 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeAudit;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.mapper.EmployeeCsvMapper;
+import com.opencsv.CSVWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+@RequiredArgsConstructor
+public class JdbcEmployeeBulkRepository implements EmployeeBulkRepository {
+
+    static final String INSERT_EMPLOYEE_SQL = "INSERT INTO employees (first_name, last_name, email, phone, date_of_birth, hire_date, job_title, department, salary, status, created_at, updated_at, deleted_at, deleted_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String INSERT_AUDIT_SQL = "INSERT INTO employee_audit (employee_id, audit_type, performed_by, performed_at, before_snapshot, after_snapshot, description) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // Matched rows keep email, created_at and the soft-delete columns
+    static final String MERGE_EMPLOYEE_SQL = "MERGE INTO employees t USING (VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)) "
+            + "AS s (first_name, last_name, email, phone, date_of_birth, hire_date, job_title, department, salary, status, created_at, updated_at, deleted_at, deleted_by) "
+            + "ON UPPER(t.email) = UPPER(s.email) "
+            + "WHEN MATCHED THEN UPDATE SET first_name = s.first_name, last_name = s.last_name, phone = s.phone, date_of_birth = s.date_of_birth, "
+            + "hire_date = s.hire_date, job_title = s.job_title, department = s.department, salary = s.salary, status = s.status, updated_at = s.updated_at "
+            + "WHEN NOT MATCHED THEN INSERT (first_name, last_name, email, phone, date_of_birth, hire_date, job_title, department, salary, status, created_at, updated_at, deleted_at, deleted_by) "
+            + "VALUES (s.first_name, s.last_name, s.email, s.phone, s.date_of_birth, s.hire_date, s.job_title, s.department, s.salary, s.status, s.created_at, s.updated_at, s.deleted_at, s.deleted_by)";
+
+    private static final String EXPORT_SELECT_SQL = "SELECT id, first_name, last_name, email, phone, date_of_birth, hire_date, job_title, department, salary, status, created_at, updated_at, deleted_at, deleted_by, manager_id, manager_path FROM employees";
+
+    private static final String LOCK_BY_EMAILS_SQL = EXPORT_SELECT_SQL + " WHERE UPPER(email) IN (:emails) FOR UPDATE";
+
+    private static final String FIND_IDS_BY_EMAILS_SQL = "SELECT id, email FROM employees WHERE UPPER(email) IN (:emails)";
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    // Matches the expression index on UPPER(email), which also serves findByEmailIgnoreCase
+    private static final String FIND_EXISTING_EMAILS_SQL = "SELECT email FROM employees WHERE UPPER(email) IN (:emails)";
+
+    protected final JdbcTemplate jdbcTemplate;
+
+    protected final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    protected final EmployeeCsvMapper csvMapper;
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        Set<String> existing = new HashSet<>();
+        if (emails.isEmpty()) {
+            return existing;
+        }
+        namedParameterJdbcTemplate.query(FIND_EXISTING_EMAILS_SQL, Map.of("emails", upperCase(emails)),
+                rs -> {
+                    existing.add(rs.getString(1).toLowerCase(Locale.ROOT));
+                });
+        return existing;
+    }
+
+    @Override
+    public void insertEmployees(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        stampTimestamps(employees);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_EMPLOYEE_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        setEmployeeValues(ps, employees.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return employees.size();
+                    }
+                }, keyHolder);
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < employees.size(); i++) {
+            employees.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    @Override
+    public Map<String, Employee> lockByEmails(Collection<String> emails) {
+        Map<String, Employee> employees = new HashMap<>();
+        if (emails.isEmpty()) {
+            return employees;
+        }
+        namedParameterJdbcTemplate.query(LOCK_BY_EMAILS_SQL, Map.of("emails", upperCase(emails)), rs -> {
+            Employee employee = mapEmployee(rs);
+            employees.put(employee.getEmail().toLowerCase(Locale.ROOT), employee);
+        });
+        return employees;
+    }
+
+    @Override
+    public Set<String> upsertEmployees(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return new HashSet<>();
+        }
+        List<String> emails = employees.stream().map(Employee::getEmail).toList();
+        Set<String> existing = findExistingEmails(emails);
+        stampTimestamps(employees);
+        jdbcTemplate.batchUpdate(MERGE_EMPLOYEE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setEmployeeValues(ps, employees.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return employees.size();
+            }
+        });
+
+        // MERGE returns no keys for matched rows, so every id is read back by email
+        Map<String, Long> idsByEmail = new HashMap<>(employees.size() * 2);
+        namedParameterJdbcTemplate.query(FIND_IDS_BY_EMAILS_SQL, Map.of("emails", upperCase(emails)), rs -> {
+            idsByEmail.put(rs.getString(2).toLowerCase(Locale.ROOT), rs.getLong(1));
+        });
+        Set<String> inserted = new HashSet<>();
+        for (Employee employee : employees) {
+            String email = employee.getEmail().toLowerCase(Locale.ROOT);
+            employee.setId(idsByEmail.get(email));
+            if (!existing.contains(email)) {
+                inserted.add(email);
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public void insertAudits(List<EmployeeAudit> audits) {
+        if (audits.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_AUDIT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EmployeeAudit audit = audits.get(i);
+                if (audit.getPerformedAt() == null) {
+                    audit.setPerformedAt(now);
+                }
+                ps.setLong(1, audit.getEmployeeId());
+                ps.setString(2, audit.getAuditType().name());
+                ps.setString(3, audit.getPerformedBy());
+                ps.setTimestamp(4, Timestamp.valueOf(audit.getPerformedAt()));
+                ps.setString(5, audit.getBeforeSnapshot());
+                ps.setString(6, audit.getAfterSnapshot());
+                ps.setString(7, audit.getDescription());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return audits.size();
+            }
+        });
+    }
+
+    @Override
+    public void exportCsv(EmployeeFilter filter, Writer writer) {
+        List<Object> parameters = new ArrayList<>();
+        String sql = EXPORT_SELECT_SQL + whereClause(filter, value -> {
+            parameters.add(value);
+            return "?";
+        }) + " ORDER BY id";
+
+        CSVWriter csvWriter = new CSVWriter(writer);
+        csvWriter.writeNext(EmployeeCsvMapper.HEADER);
+        // Rows are written as they are fetched instead of being collected first
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setFetchSize(EXPORT_FETCH_SIZE);
+            for (int i = 0; i < parameters.size(); i++) {
+                ps.setObject(i + 1, parameters.get(i));
+            }
+            return ps;
+        }, rs -> {
+            csvWriter.writeNext(csvMapper.toRow(mapEmployee(rs)));
+        });
+        try {
+            csvWriter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write CSV export", e);
+        }
+    }
+
+    /**
+     * Builds the export WHERE clause with the same semantics as the listing query templates.
+     * {@code bind} turns a value into SQL, either a placeholder or an inlined literal.
+     */
+    protected static String whereClause(EmployeeFilter filter, Function<Object, String> bind) {
+        List<String> predicates = new ArrayList<>();
+        if (filter.getDepartment() != null) {
+            predicates.add("LOWER(department) = " + bind.apply(filter.getDepartment().toLowerCase()));
+        }
+        if (filter.getStatus() != null) {
+            predicates.add("status = " + bind.apply(filter.getStatus().name()));
+        }
+        if (!filter.isIncludeInactive()) {
+            predicates.add("deleted_at IS NULL");
+        }
+        if (filter.getSearch() != null) {
+            String pattern = "%" + filter.getSearch().toLowerCase() + "%";
+            predicates.add("(LOWER(first_name) LIKE " + bind.apply(pattern)
+                    + " OR LOWER(last_name) LIKE " + bind.apply(pattern)
+                    + " OR LOWER(email) LIKE " + bind.apply(pattern) + ")");
+        }
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+
+    protected static List<String> upperCase(Collection<String> emails) {
+        return emails.stream().map(email -> email.toUpperCase(Locale.ROOT)).toList();
+    }
+
+    protected static void stampTimestamps(List<Employee> employees) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Employee employee : employees) {
+            if (employee.getCreatedAt() == null) {
+                employee.setCreatedAt(now);
+            }
+            employee.setUpdatedAt(now);
+        }
+    }
+
+    protected static Employee mapEmployee(ResultSet rs) throws SQLException {
+        Timestamp deletedAt = rs.getTimestamp("deleted_at");
+        return Employee.builder()
+                .id(rs.getLong("id"))
+                .firstName(rs.getString("first_name"))
+                .lastName(rs.getString("last_name"))
+                .email(rs.getString("email"))
+                .phone(rs.getString("phone"))
+                .dateOfBirth(rs.getObject("date_of_birth", LocalDate.class))
+                .hireDate(rs.getObject("hire_date", LocalDate.class))
+                .jobTitle(rs.getString("job_title"))
+                .department(rs.getString("department"))
+                .salary(rs.getBigDecimal("salary"))
+                .status(EmployeeStatus.valueOf(rs.getString("status")))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .deletedAt(deletedAt != null ? deletedAt.toInstant() : null)
+                .deletedBy(rs.getString("deleted_by"))
+                .managerId(rs.getObject("manager_id", Long.class))
+                .managerPath(rs.getString("manager_path"))
+                .build();
+    }
+
+    protected static void setEmployeeValues(PreparedStatement ps, Employee employee) throws SQLException {
+        setEmployeeValues(ps, 0, employee);
+    }
+
+    /**
+     * Binds the {@link #INSERT_EMPLOYEE_SQL} columns to parameters {@code offset + 1} through {@code offset + 14}.
+     */
+    protected static void setEmployeeValues(PreparedStatement ps, int offset, Employee employee) throws SQLException {
+        ps.setString(offset + 1, employee.getFirstName());
+        ps.setString(offset + 2, employee.getLastName());
+        ps.setString(offset + 3, employee.getEmail());
+        ps.setString(offset + 4, employee.getPhone());
+        if (employee.getDateOfBirth() != null) {
+            ps.setObject(offset + 5, employee.getDateOfBirth());
+        } else {
+            ps.setNull(offset + 5, Types.DATE);
+        }
+        ps.setObject(offset + 6, employee.getHireDate());
+        ps.setString(offset + 7, employee.getJobTitle());
+        ps.setString(offset + 8, employee.getDepartment());
+        ps.setBigDecimal(offset + 9, employee.getSalary());
+        ps.setString(offset + 10, employee.getStatus().name());
+        ps.setTimestamp(offset + 11, Timestamp.valueOf(employee.getCreatedAt()));
+        ps.setTimestamp(offset + 12, Timestamp.valueOf(employee.getUpdatedAt()));
+        if (employee.getDeletedAt() != null) {
+            ps.setTimestamp(offset + 13, Timestamp.from(employee.getDeletedAt()));
+        } else {
+            ps.setNull(offset + 13, Types.TIMESTAMP);
+        }
+        ps.setString(offset + 14, employee.getDeletedBy());
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.example.employeemanagement.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helpers for {@code Employee.managerPath}: the ids from the top of the reporting chain down to
+ * the direct manager, as in {@code "/1/5/"}, or {@code "/"} for an employee without a manager.
+ */
+public final class ManagerPaths {
+
+    public static final String ROOT = "/";
+
+    private ManagerPaths() {
+    }
+
+    /**
+     * The path of the employees that report directly to {@code managerId}, which is also the
+     * prefix shared by everyone under that manager.
+     */
+    public static String childPath(String managerPath, Long managerId) {
+        return managerPath + managerId + "/";
+    }
+
+    /**
+     * The smallest path greater than every path that starts with {@code prefix}. Paths hold only
+     * digits and {@code '/'}, and {@code '0'} follows {@code '/'}.
+     */
+    public static String upperBound(String prefix) {
+        return prefix.substring(0, prefix.length() - 1) + '0';
+    }
+
+    public static boolean contains(String path, Long id) {
+        return path.contains("/" + id + "/");
+    }
+
+    // Top of the chain first
+    public static List<Long> ancestorIds(String path) {
+        List<Long> ids = new ArrayList<>();
+        for (String part : path.split("/")) {
+            if (!part.isEmpty()) {
+                ids.add(Long.valueOf(part));
+            }
+        }
+        return ids;
+    }
+
+}
@@ -0,0 +1,244 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeAudit;
+import com.example.employeemanagement.mapper.EmployeeCsvMapper;
+import com.opencsv.CSVWriter;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.Utils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PostgreSQL variant that moves bulk rows with {@code COPY} instead of batched INSERTs, and streams
+ * the export straight out of the server with {@code COPY ... TO STDOUT}. Upserts are multi-row
+ * {@code INSERT ... ON CONFLICT DO UPDATE} statements.
+ */
+public class PostgresCopyEmployeeBulkRepository extends JdbcEmployeeBulkRepository {
+
+    static final String COPY_EMPLOYEES_SQL = "COPY employees (first_name, last_name, email, phone, date_of_birth, hire_date, job_title, department, salary, status, created_at, updated_at, deleted_at, deleted_by) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    static final String COPY_AUDITS_SQL = "COPY employee_audit (employee_id, audit_type, performed_by, performed_at, before_snapshot, after_snapshot, description) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    // Columns are rendered by the server in the same text form EmployeeCsvMapper produces. Every date and
+    // time goes through TO_CHAR, so the output does not depend on DateStyle. deleted_at holds the wall
+    // clock of the session time zone, which the driver sets to the JVM zone that Timestamp.from used.
+    private static final String EXPORT_SELECT_SQL = "SELECT id, first_name, last_name, email, COALESCE(phone, ''), "
+            + "COALESCE(TO_CHAR(date_of_birth, 'YYYY-MM-DD'), ''), TO_CHAR(hire_date, 'YYYY-MM-DD'), job_title, department, salary, status, "
+            + localDateTimeText("created_at") + ", " + localDateTimeText("updated_at") + ", "
+            + "COALESCE(" + instantText("deleted_at AT TIME ZONE current_setting('TimeZone') AT TIME ZONE 'UTC'") + ", ''), "
+            + "COALESCE(deleted_by, '') FROM employees";
+
+    private static final String COPY_OUT_SQL = "COPY (%s ORDER BY id) TO STDOUT WITH (FORMAT csv, FORCE_QUOTE *)";
+
+    private static final String FIND_IDS_BY_EMAIL_SQL = "SELECT id, email FROM employees WHERE email IN (:emails)";
+
+    private static final String UPSERT_INSERT_SQL = "INSERT INTO employees (first_name, last_name, email, phone, date_of_birth, hire_date, job_title, department, salary, status, created_at, updated_at, deleted_at, deleted_by) VALUES ";
+
+    private static final String UPSERT_ROW_SQL = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // The conflict target is the unique index on UPPER(email); xmax is 0 only for freshly inserted rows
+    private static final String UPSERT_CONFLICT_SQL = " ON CONFLICT ((UPPER(email))) DO UPDATE SET first_name = EXCLUDED.first_name, "
+            + "last_name = EXCLUDED.last_name, phone = EXCLUDED.phone, date_of_birth = EXCLUDED.date_of_birth, hire_date = EXCLUDED.hire_date, "
+            + "job_title = EXCLUDED.job_title, department = EXCLUDED.department, salary = EXCLUDED.salary, status = EXCLUDED.status, "
+            + "updated_at = EXCLUDED.updated_at RETURNING id, email, (xmax = 0) AS inserted";
+
+    private static final int EMPLOYEE_COLUMNS = 14;
+
+    // Keeps a statement well below the 32767 bind parameter limit of the wire protocol
+    private static final int UPSERT_ROWS_PER_STATEMENT = 1000;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    public PostgresCopyEmployeeBulkRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                              EmployeeCsvMapper csvMapper) {
+        super(jdbcTemplate, namedParameterJdbcTemplate, csvMapper);
+    }
+
+    @Override
+    public void insertEmployees(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        stampTimestamps(employees);
+        copyIn(COPY_EMPLOYEES_SQL, writer -> {
+            for (Employee employee : employees) {
+                writeRow(writer, employee.getFirstName(), employee.getLastName(), employee.getEmail(), employee.getPhone(),
+                        employee.getDateOfBirth(), employee.getHireDate(), employee.getJobTitle(), employee.getDepartment(),
+                        employee.getSalary() != null ? employee.getSalary().toPlainString() : null, employee.getStatus().name(),
+                        employee.getCreatedAt(), employee.getUpdatedAt(),
+                        employee.getDeletedAt() != null ? Timestamp.from(employee.getDeletedAt()) : null, employee.getDeletedBy());
+            }
+        });
+
+        // COPY does not return generated keys; emails are unique so they identify the new rows
+        Map<String, Long> idsByEmail = new HashMap<>(employees.size() * 2);
+        namedParameterJdbcTemplate.query(FIND_IDS_BY_EMAIL_SQL,
+                Map.of("emails", employees.stream().map(Employee::getEmail).toList()),
+                rs -> {
+                    idsByEmail.put(rs.getString(2), rs.getLong(1));
+                });
+        for (Employee employee : employees) {
+            employee.setId(idsByEmail.get(employee.getEmail()));
+        }
+    }
+
+    @Override
+    public Set<String> upsertEmployees(List<Employee> employees) {
+        Set<String> inserted = new HashSet<>();
+        stampTimestamps(employees);
+        for (int from = 0; from < employees.size(); from += UPSERT_ROWS_PER_STATEMENT) {
+            List<Employee> rows = employees.subList(from, Math.min(from + UPSERT_ROWS_PER_STATEMENT, employees.size()));
+            Map<String, Employee> byEmail = new HashMap<>(rows.size() * 2);
+            for (Employee employee : rows) {
+                byEmail.put(employee.getEmail().toLowerCase(Locale.ROOT), employee);
+            }
+            String sql = UPSERT_INSERT_SQL + String.join(", ", Collections.nCopies(rows.size(), UPSERT_ROW_SQL)) + UPSERT_CONFLICT_SQL;
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql);
+                for (int i = 0; i < rows.size(); i++) {
+                    setEmployeeValues(ps, i * EMPLOYEE_COLUMNS, rows.get(i));
+                }
+                return ps;
+            }, rs -> {
+                String email = rs.getString("email").toLowerCase(Locale.ROOT);
+                byEmail.get(email).setId(rs.getLong("id"));
+                if (rs.getBoolean("inserted")) {
+                    inserted.add(email);
+                }
+            });
+        }
+        return inserted;
+    }
+
+    @Override
+    public void insertAudits(List<EmployeeAudit> audits) {
+        if (audits.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        copyIn(COPY_AUDITS_SQL, writer -> {
+            for (EmployeeAudit audit : audits) {
+                if (audit.getPerformedAt() == null) {
+                    audit.setPerformedAt(now);
+                }
+                writeRow(writer, audit.getEmployeeId(), audit.getAuditType().name(), audit.getPerformedBy(), audit.getPerformedAt(),
+                        audit.getBeforeSnapshot(), audit.getAfterSnapshot(), audit.getDescription());
+            }
+        });
+    }
+
+    @Override
+    public void exportCsv(EmployeeFilter filter, Writer writer) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            BaseConnection connection = con.unwrap(BaseConnection.class);
+            // COPY cannot take bind parameters, so filter values are inlined as escaped literals
+            String where = whereClause(filter, value -> literal(connection, value.toString()));
+            try {
+                CSVWriter header = new CSVWriter(writer);
+                header.writeNext(EmployeeCsvMapper.HEADER);
+                header.flush();
+                connection.getCopyAPI().copyOut(String.format(COPY_OUT_SQL, EXPORT_SELECT_SQL + where), writer);
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to write CSV export", e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * SQL for {@link LocalDateTime#toString()}: seconds only when the time has any, and the fraction in
+     * milli- or microseconds, whichever is exact. Stored timestamps have no finer precision.
+     */
+    private static String localDateTimeText(String column) {
+        return "TO_CHAR(" + column + ", 'YYYY-MM-DD\"T\"HH24:MI') || CASE "
+                + "WHEN TO_CHAR(" + column + ", 'SS.US') = '00.000000' THEN '' "
+                + fractionCases(column) + " END";
+    }
+
+    /**
+     * SQL for {@link java.time.Instant#toString()} of a UTC timestamp: seconds always, and the fraction in
+     * milli- or microseconds, whichever is exact.
+     */
+    private static String instantText(String utcTimestamp) {
+        return "TO_CHAR(" + utcTimestamp + ", 'YYYY-MM-DD\"T\"HH24:MI') || CASE "
+                + fractionCases(utcTimestamp) + " END || 'Z'";
+    }
+
+    private static String fractionCases(String timestamp) {
+        return "WHEN TO_CHAR(" + timestamp + ", 'US') = '000000' THEN TO_CHAR(" + timestamp + ", ':SS') "
+                + "WHEN TO_CHAR(" + timestamp + ", 'US') LIKE '%000' THEN TO_CHAR(" + timestamp + ", ':SS.MS') "
+                + "ELSE TO_CHAR(" + timestamp + ", ':SS.US')";
+    }
+
+    private void copyIn(String sql, CopyWriter rows) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            PGConnection connection = con.unwrap(PGConnection.class);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(connection, sql, COPY_BUFFER_SIZE), StandardCharsets.UTF_8))) {
+                rows.write(writer);
+            } catch (IOException e) {
+                throw new DataAccessResourceFailureException("COPY into the database failed: " + e.getMessage(), e);
+            }
+            return null;
+        });
+    }
+
+    // NULL is an unquoted empty field in COPY csv format; every value is quoted so an empty string stays empty
+    private static void writeRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values[i];
+            if (value != null) {
+                writer.write('"');
+                writer.write(value.toString().replace("\"", "\"\""));
+                writer.write('"');
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static String literal(BaseConnection connection, String value) {
+        try {
+            return "'" + Utils.escapeLiteral(null, value, connection.getStandardConformingStrings()) + "'";
+        } catch (SQLException e) {
+            throw new IllegalArgumentException("Unable to escape filter value", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface CopyWriter {
+
+        void write(Writer writer) throws IOException;
+
+    }
+
+}
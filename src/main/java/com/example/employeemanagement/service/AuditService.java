@@ -1,16 +1,34 @@
 package com.example.employeemanagement.service;
 
+import com.example.employeemanagement.dto.EmployeeAuditEntry;
 import com.example.employeemanagement.entity.AuditType;
 import com.example.employeemanagement.entity.Employee;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface AuditService {
 
     void auditEmployeeAction(Employee beforeEmployee, Employee afterEmployee, AuditType auditType, String performedBy);
 
     void auditEmployeeCreate(Employee employee, String performedBy);
 
+    void auditEmployeeCreates(List<Employee> employees, String performedBy);
+
+    /**
+     * Audits {@code afterEmployees.get(i)} as an update of {@code beforeEmployees.get(i)}, in one batch.
+     */
+    void auditEmployeeUpdates(List<Employee> beforeEmployees, List<Employee> afterEmployees, String performedBy);
+
     void auditEmployeeDelete(Employee employee, String performedBy);
 
     void auditEmployeeRestore(Employee beforeEmployee, Employee afterEmployee, String performedBy);
 
-}
\ No newline at end of file
+    /**
+     * The employee's audit entries, newest first, from {@code employee_audit}, the employee
+     * archive and the audit segments; only those performed at or before {@code asOf} when given,
+     * so the first entry then holds the employee as of that time.
+     */
+    List<EmployeeAuditEntry> getEmployeeHistory(Long employeeId, LocalDateTime asOf);
+
+}
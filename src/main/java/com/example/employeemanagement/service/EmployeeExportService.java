@@ -0,0 +1,11 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeFilter;
+
+import java.io.Writer;
+
+public interface EmployeeExportService {
+
+    void exportEmployees(EmployeeFilter filter, Writer writer);
+
+}
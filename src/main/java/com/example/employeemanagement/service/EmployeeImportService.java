@@ -0,0 +1,11 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeImportResult;
+
+import java.io.InputStream;
+
+public interface EmployeeImportService {
+
+    EmployeeImportResult importEmployees(InputStream csv);
+
+}
@@ -1,22 +1,47 @@
 package com.example.employeemanagement.service;
 
 import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.dto.EmployeeLookupResponse;
+import com.example.employeemanagement.dto.EmployeeResponse;
 import com.example.employeemanagement.dto.EmployeeUpdateRequest;
 import com.example.employeemanagement.entity.Employee;
 import com.example.employeemanagement.entity.EmployeeStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface EmployeeService {
 
     Employee createEmployee(EmployeeCreateRequest request);
 
+    /**
+     * Creates the employees in one transaction, with one email check, one insert batch and one audit
+     * batch. A request whose email belongs to an existing employee, or to an earlier request in the
+     * list, fails on its own with {@link com.example.employeemanagement.exception.EmailAlreadyExistsException}.
+     * Outcomes are in request order. Requests must not name a manager.
+     */
+    List<CreateOutcome> createEmployees(List<EmployeeCreateRequest> requests);
+
     Employee getEmployeeById(Long id);
 
     Page<Employee> getAllEmployees(Pageable pageable, String department, EmployeeStatus status, String search);
 
     Page<Employee> getAllEmployees(Pageable pageable, String department, EmployeeStatus status, String search, boolean includeInactive);
 
+    EmployeeResponse getEmployeeResponseById(Long id);
+
+    Page<EmployeeResponse> getEmployeeResponses(Pageable pageable, String department, EmployeeStatus status, String search, boolean includeInactive);
+
+    /**
+     * Up to {@code limit} matches with an id above {@code afterId}, in id order, for walking
+     * every match. Not coalesced or cached, and no total is counted.
+     */
+    List<EmployeeResponse> getEmployeeResponsesAfterId(String department, EmployeeStatus status, String search, boolean includeInactive,
+                                                       long afterId, int limit);
+
+    EmployeeLookupResponse lookupEmployees(List<Long> ids, boolean includeInactive);
+
     Employee updateEmployee(Long id, EmployeeUpdateRequest request);
 
     Employee partialUpdateEmployee(Long id, EmployeeUpdateRequest request);
@@ -25,4 +50,23 @@ public interface EmployeeService {
 
     Employee restoreEmployee(Long id);
 
+    // Employees that are not soft-deleted, ordered by id
+    List<EmployeeResponse> getDirectReports(Long id);
+
+    Page<EmployeeResponse> getAllReports(Long id, Pageable pageable);
+
+    // From the direct manager up to the top of the chain, including soft-deleted managers
+    List<EmployeeResponse> getManagementChain(Long id);
+
+    /**
+     * Moves the employee, with everyone under them, below {@code managerId}, or to the top level when it is null.
+     */
+    Employee changeManager(Long id, Long managerId);
+
+    /**
+     * Either the created employee or the exception its request failed with.
+     */
+    record CreateOutcome(Employee employee, RuntimeException failure) {
+    }
+
 }
@@ -0,0 +1,13 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeDelta;
+
+public interface EmployeeSyncService {
+
+    /**
+     * Returns the employees changed after {@code since}, or a page of the full directory when no
+     * token is given, together with the token for the next call.
+     */
+    EmployeeDelta getDelta(String since, int limit);
+
+}
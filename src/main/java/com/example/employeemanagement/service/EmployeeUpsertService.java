@@ -0,0 +1,12 @@
+package com.example.employeemanagement.service;
+
+import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.dto.EmployeeUpsertResponse;
+
+import java.util.List;
+
+public interface EmployeeUpsertService {
+
+    EmployeeUpsertResponse upsertEmployees(List<EmployeeCreateRequest> requests);
+
+}
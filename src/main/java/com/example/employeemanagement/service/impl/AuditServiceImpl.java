@@ -1,9 +1,14 @@
 package com.example.employeemanagement.service.impl;
 
+import com.example.employeemanagement.audit.AuditSegmentStore;
+import com.example.employeemanagement.dto.EmployeeAuditEntry;
 import com.example.employeemanagement.entity.AuditType;
 import com.example.employeemanagement.entity.Employee;
 import com.example.employeemanagement.entity.EmployeeAudit;
+import com.example.employeemanagement.monitoring.jfr.AuditWriteEvent;
+import com.example.employeemanagement.repository.EmployeeArchiveRepository;
 import com.example.employeemanagement.repository.EmployeeAuditRepository;
+import com.example.employeemanagement.repository.EmployeeBulkRepository;
 import com.example.employeemanagement.service.AuditService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,22 +17,123 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuditServiceImpl implements AuditService {
 
+    private static final Comparator<EmployeeAudit> NEWEST_FIRST = Comparator
+            .comparing(EmployeeAudit::getPerformedAt)
+            .thenComparing(EmployeeAudit::getId)
+            .reversed();
+
     private final EmployeeAuditRepository auditRepository;
+    private final EmployeeBulkRepository bulkRepository;
+    private final EmployeeArchiveRepository archiveRepository;
+    private final AuditSegmentStore segmentStore;
     private final ObjectMapper objectMapper;
 
     @Override
     @Transactional
     public void auditEmployeeAction(Employee beforeEmployee, Employee afterEmployee, AuditType auditType, String performedBy) {
+        AuditWriteEvent event = new AuditWriteEvent();
+        event.begin();
+        EmployeeAudit audit = buildAudit(beforeEmployee, afterEmployee, auditType, performedBy);
+        auditRepository.save(audit);
+        log.debug("Audit record created: type={}, employeeId={}, performedBy={}", 
+                 auditType, audit.getEmployeeId(), performedBy);
+        commitEvent(event, audit);
+    }
+
+    @Override
+    @Transactional
+    public void auditEmployeeCreates(List<Employee> employees, String performedBy) {
+        AuditWriteEvent event = new AuditWriteEvent();
+        event.begin();
+        List<EmployeeAudit> audits = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            audits.add(buildAudit(null, employee, AuditType.CREATE, performedBy));
+        }
+        insertAudits(event, audits, AuditType.CREATE, performedBy);
+    }
+
+    @Override
+    @Transactional
+    public void auditEmployeeUpdates(List<Employee> beforeEmployees, List<Employee> afterEmployees, String performedBy) {
+        AuditWriteEvent event = new AuditWriteEvent();
+        event.begin();
+        List<EmployeeAudit> audits = new ArrayList<>(afterEmployees.size());
+        for (int i = 0; i < afterEmployees.size(); i++) {
+            audits.add(buildAudit(beforeEmployees.get(i), afterEmployees.get(i), AuditType.UPDATE, performedBy));
+        }
+        insertAudits(event, audits, AuditType.UPDATE, performedBy);
+    }
+
+    @Override
+    @Transactional
+    public void auditEmployeeCreate(Employee employee, String performedBy) {
+        auditEmployeeAction(null, employee, AuditType.CREATE, performedBy);
+    }
+
+    @Override
+    @Transactional
+    public void auditEmployeeDelete(Employee employee, String performedBy) {
+        auditEmployeeAction(employee, employee, AuditType.DELETE, performedBy);
+    }
+
+    @Override
+    @Transactional
+    public void auditEmployeeRestore(Employee beforeEmployee, Employee afterEmployee, String performedBy) {
+        auditEmployeeAction(beforeEmployee, afterEmployee, AuditType.RESTORE, performedBy);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeAuditEntry> getEmployeeHistory(Long employeeId, LocalDateTime asOf) {
+        // Keyed by audit id: a row can sit in a segment and the table at once after an interrupted archival
+        Map<Long, EmployeeAudit> audits = new HashMap<>();
+        segmentStore.findByEmployeeId(employeeId, asOf).forEach(audit -> audits.put(audit.getId(), audit));
+        archiveRepository.findArchivedAudits(employeeId).forEach(audit -> audits.put(audit.getId(), audit));
+        auditRepository.findByEmployeeIdOrderByPerformedAtDesc(employeeId).forEach(audit -> audits.put(audit.getId(), audit));
+        return audits.values().stream()
+                .filter(audit -> asOf == null || !audit.getPerformedAt().isAfter(asOf))
+                .sorted(NEWEST_FIRST)
+                .map(AuditServiceImpl::toEntry)
+                .toList();
+    }
+
+    private static EmployeeAuditEntry toEntry(EmployeeAudit audit) {
+        return new EmployeeAuditEntry(audit.getId(), audit.getEmployeeId(), audit.getAuditType(), audit.getPerformedBy(),
+                audit.getPerformedAt(), audit.getBeforeSnapshot(), audit.getAfterSnapshot(), audit.getDescription());
+    }
+
+    private void insertAudits(AuditWriteEvent event, List<EmployeeAudit> audits, AuditType auditType, String performedBy) {
+        bulkRepository.insertAudits(audits);
+        log.debug("Audit records created: type={}, count={}, performedBy={}", auditType, audits.size(), performedBy);
+        event.end();
+        if (event.shouldCommit()) {
+            event.auditType = auditType.name();
+            event.snapshotBytes = audits.stream()
+                    .mapToLong(audit -> snapshotLength(audit.getBeforeSnapshot()) + snapshotLength(audit.getAfterSnapshot()))
+                    .sum();
+            event.commit();
+        }
+    }
+
+    private EmployeeAudit buildAudit(Employee beforeEmployee, Employee afterEmployee, AuditType auditType, String performedBy) {
         try {
             String beforeSnapshot = beforeEmployee != null ? objectMapper.writeValueAsString(createAuditSnapshot(beforeEmployee)) : null;
             String afterSnapshot = afterEmployee != null ? objectMapper.writeValueAsString(createAuditSnapshot(afterEmployee)) : null;
 
-            EmployeeAudit audit = EmployeeAudit.builder()
+            return EmployeeAudit.builder()
                     .employeeId(afterEmployee != null ? afterEmployee.getId() : beforeEmployee.getId())
                     .auditType(auditType)
                     .performedBy(performedBy)
@@ -35,39 +141,30 @@ public class AuditServiceImpl implements AuditService {
                     .afterSnapshot(afterSnapshot)
                     .description(generateDescription(auditType, beforeEmployee, afterEmployee))
                     .build();
-
-            auditRepository.save(audit);
-            log.debug("Audit record created: type={}, employeeId={}, performedBy={}", 
-                     auditType, audit.getEmployeeId(), performedBy);
         } catch (JsonProcessingException e) {
             log.error("Error serializing employee data for audit", e);
             // We'll still create an audit record without snapshots
-            EmployeeAudit audit = EmployeeAudit.builder()
+            return EmployeeAudit.builder()
                     .employeeId(afterEmployee != null ? afterEmployee.getId() : beforeEmployee.getId())
                     .auditType(auditType)
                     .performedBy(performedBy)
                     .description("Error serializing snapshots: " + generateDescription(auditType, beforeEmployee, afterEmployee))
                     .build();
-            auditRepository.save(audit);
         }
     }
 
-    @Override
-    @Transactional
-    public void auditEmployeeCreate(Employee employee, String performedBy) {
-        auditEmployeeAction(null, employee, AuditType.CREATE, performedBy);
-    }
-
-    @Override
-    @Transactional
-    public void auditEmployeeDelete(Employee employee, String performedBy) {
-        auditEmployeeAction(employee, employee, AuditType.DELETE, performedBy);
+    private static long snapshotLength(String snapshot) {
+        return snapshot != null ? snapshot.getBytes(StandardCharsets.UTF_8).length : 0;
     }
 
-    @Override
-    @Transactional
-    public void auditEmployeeRestore(Employee beforeEmployee, Employee afterEmployee, String performedBy) {
-        auditEmployeeAction(beforeEmployee, afterEmployee, AuditType.RESTORE, performedBy);
+    private static void commitEvent(AuditWriteEvent event, EmployeeAudit audit) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.auditType = audit.getAuditType().name();
+            event.employeeId = audit.getEmployeeId();
+            event.snapshotBytes = snapshotLength(audit.getBeforeSnapshot()) + snapshotLength(audit.getAfterSnapshot());
+            event.commit();
+        }
     }
 
     private EmployeeAuditSnapshot createAuditSnapshot(Employee employee) {
@@ -83,6 +180,7 @@ public class AuditServiceImpl implements AuditService {
                 .department(employee.getDepartment())
                 .salary(employee.getSalary())
                 .status(employee.getStatus())
+                .managerId(employee.getManagerId())
                 .deletedAt(employee.getDeletedAt())
                 .deletedBy(employee.getDeletedBy())
                 .createdAt(employee.getCreatedAt())
@@ -23,6 +23,7 @@ public class EmployeeAuditSnapshot {
     private String department;
     private BigDecimal salary;
     private EmployeeStatus status;
+    private Long managerId;
     private Instant deletedAt;
     private String deletedBy;
     private LocalDateTime createdAt;
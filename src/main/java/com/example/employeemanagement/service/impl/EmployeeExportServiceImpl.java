@@ -0,0 +1,29 @@
+package com.example.employeemanagement.service.impl;
+
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.repository.EmployeeBulkRepository;
+import com.example.employeemanagement.service.EmployeeExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Writer;
+
+@Service
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeExportServiceImpl implements EmployeeExportService {
+
+    private final EmployeeBulkRepository bulkRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEmployees(EmployeeFilter filter, Writer writer) {
+        log.debug("Exporting employees with filter: {}", filter);
+        bulkRepository.exportCsv(filter, writer);
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.example.employeemanagement.service.impl;
+
+import com.example.employeemanagement.config.EmployeeImportProperties;
+import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.dto.EmployeeImportResult;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.example.employeemanagement.exception.InvalidImportFileException;
+import com.example.employeemanagement.mapper.EmployeeCsvMapper;
+import com.example.employeemanagement.mapper.EmployeeMapper;
+import com.example.employeemanagement.repository.EmployeeBulkRepository;
+import com.example.employeemanagement.service.AuditService;
+import com.example.employeemanagement.service.EmployeeImportService;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    private static final String[] ERROR_REPORT_HEADER = {"Row", "Email", "Error"};
+
+    private final EmployeeBulkRepository bulkRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeCsvMapper csvMapper;
+    private final AuditService auditService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployeeImportProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public EmployeeImportResult importEmployees(InputStream csv) {
+        Path errorReport = createErrorReport();
+        ImportProgress progress = new ImportProgress();
+        try (CSVReader reader = new CSVReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+             CSVWriter errors = new CSVWriter(Files.newBufferedWriter(errorReport, StandardCharsets.UTF_8))) {
+            errors.writeNext(ERROR_REPORT_HEADER);
+            if (!csvMapper.isHeader(reader.readNext())) {
+                throw new InvalidImportFileException("CSV header must match the export layout: " + String.join(",", EmployeeCsvMapper.HEADER));
+            }
+
+            // Only one chunk of rows is held in memory at a time
+            int chunkSize = properties.getChunkSize();
+            List<CsvRow> chunk = new ArrayList<>(chunkSize);
+            long rowNumber = 1;
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                rowNumber++;
+                if (row.length == 1 && row[0].isBlank()) {
+                    continue;
+                }
+                chunk.add(new CsvRow(rowNumber, row));
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, progress, errors);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, progress, errors);
+            }
+        } catch (IOException | CsvValidationException e) {
+            deleteQuietly(errorReport);
+            throw new InvalidImportFileException("Unable to read CSV: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            deleteQuietly(errorReport);
+            throw e;
+        }
+
+        log.info("Employee import finished: rows={}, imported={}, rejected={}", progress.totalRows, progress.importedRows, progress.rejectedRows);
+        return new EmployeeImportResult(progress.totalRows, progress.importedRows, progress.rejectedRows, errorReport);
+    }
+
+    private void importChunk(List<CsvRow> chunk, ImportProgress progress, CSVWriter errors) {
+        progress.totalRows += chunk.size();
+
+        // Parsing and bean validation are CPU bound and independent per row
+        List<ParsedRow> parsedRows = chunk.parallelStream().map(this::parse).toList();
+
+        // Earlier chunks are already committed, so repeats of their emails are caught by the database check
+        Set<String> seenEmails = new HashSet<>();
+        List<ParsedRow> accepted = new ArrayList<>(parsedRows.size());
+        for (ParsedRow parsed : parsedRows) {
+            if (parsed.error() != null) {
+                reject(parsed, parsed.error(), progress, errors);
+            } else if (!seenEmails.add(parsed.normalizedEmail())) {
+                reject(parsed, "Duplicate email in file", progress, errors);
+            } else {
+                accepted.add(parsed);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<ParsedRow> duplicates = transactionTemplate.execute(status -> insertChunk(accepted));
+            for (ParsedRow duplicate : duplicates) {
+                reject(duplicate, "Email already exists", progress, errors);
+            }
+            progress.importedRows += accepted.size() - duplicates.size();
+        } catch (DataAccessException e) {
+            String message = "Insert failed: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            log.warn("Employee import chunk ending at row {} failed", chunk.get(chunk.size() - 1).rowNumber(), e);
+            for (ParsedRow parsed : accepted) {
+                reject(parsed, message, progress, errors);
+            }
+        }
+    }
+
+    private List<ParsedRow> insertChunk(List<ParsedRow> accepted) {
+        Set<String> existing = bulkRepository.findExistingEmails(accepted.stream().map(ParsedRow::normalizedEmail).toList());
+        List<ParsedRow> duplicates = new ArrayList<>();
+        List<Employee> employees = new ArrayList<>(accepted.size());
+        for (ParsedRow parsed : accepted) {
+            if (existing.contains(parsed.normalizedEmail())) {
+                duplicates.add(parsed);
+            } else {
+                employees.add(employeeMapper.toEntity(parsed.request()));
+            }
+        }
+        bulkRepository.insertEmployees(employees);
+        auditService.auditEmployeeCreates(employees, getCurrentUser());
+        if (!employees.isEmpty()) {
+            eventPublisher.publishEvent(new EmployeeChangedEvent(EmployeeChangedEvent.ChangeType.CREATE,
+                    employees.stream().map(Employee::getId).toList(),
+                    employees.stream().map(Employee::getDepartment).collect(Collectors.toUnmodifiableSet())));
+        }
+        return duplicates;
+    }
+
+    private ParsedRow parse(CsvRow row) {
+        String email = csvMapper.emailOf(row.values());
+        try {
+            EmployeeCreateRequest request = csvMapper.fromRow(row.values());
+            Set<ConstraintViolation<EmployeeCreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String error = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                return new ParsedRow(row.rowNumber(), email, null, null, error);
+            }
+            return new ParsedRow(row.rowNumber(), email, request.getEmail().toLowerCase(Locale.ROOT), request, null);
+        } catch (IllegalArgumentException e) {
+            return new ParsedRow(row.rowNumber(), email, null, null, e.getMessage());
+        }
+    }
+
+    private void reject(ParsedRow row, String error, ImportProgress progress, CSVWriter errors) {
+        progress.rejectedRows++;
+        errors.writeNext(new String[]{String.valueOf(row.rowNumber()), row.email(), error});
+    }
+
+    private Path createErrorReport() {
+        try {
+            return Files.createTempFile("employee-import-errors-", ".csv");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create import error report", e);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Unable to delete {}", file, e);
+        }
+    }
+
+    private String getCurrentUser() {
+        // For now, return "system" - in a real application, this would get the current authenticated user
+        return "system";
+    }
+
+    private record CsvRow(long rowNumber, String[] values) {
+    }
+
+    private record ParsedRow(long rowNumber, String email, String normalizedEmail, EmployeeCreateRequest request, String error) {
+    }
+
+    private static final class ImportProgress {
+
+        private long totalRows;
+
+        private long importedRows;
+
+        private long rejectedRows;
+
+    }
+
+}
@@ -1,91 +1,269 @@
 package com.example.employeemanagement.service.impl;
 
+import com.example.employeemanagement.concurrency.SingleFlight;
+import com.example.employeemanagement.datasource.RoutingContext;
 import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.dto.EmployeeLookupResponse;
+import com.example.employeemanagement.dto.EmployeeResponse;
 import com.example.employeemanagement.dto.EmployeeUpdateRequest;
 import com.example.employeemanagement.entity.AuditType;
 import com.example.employeemanagement.entity.Employee;
 import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.example.employeemanagement.event.EmployeeChangedEvent.ChangeType;
 import com.example.employeemanagement.exception.EmployeeNotFoundException;
 import com.example.employeemanagement.exception.EmailAlreadyExistsException;
+import com.example.employeemanagement.exception.InvalidManagerException;
 import com.example.employeemanagement.mapper.EmployeeMapper;
+import com.example.employeemanagement.monitoring.RequestTimings;
+import com.example.employeemanagement.monitoring.jfr.EmployeeOperationEvent;
+import com.example.employeemanagement.repository.EmployeeArchiveRepository;
+import com.example.employeemanagement.repository.EmployeeBulkRepository;
 import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.repository.ManagerPaths;
 import com.example.employeemanagement.service.AuditService;
 import com.example.employeemanagement.service.EmployeeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import jakarta.persistence.criteria.Predicate;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
 
+    private static final String[] FILTER_SHAPES = new String[16];
+
+    static {
+        for (int mask = 0; mask < FILTER_SHAPES.length; mask++) {
+            List<String> filters = new ArrayList<>();
+            if ((mask & 1) != 0) {
+                filters.add("department");
+            }
+            if ((mask & 2) != 0) {
+                filters.add("status");
+            }
+            if ((mask & 4) != 0) {
+                filters.add("search");
+            }
+            if ((mask & 8) != 0) {
+                filters.add("includeInactive");
+            }
+            FILTER_SHAPES[mask] = filters.isEmpty() ? "none" : String.join("+", filters);
+        }
+    }
+
     private final EmployeeRepository employeeRepository;
+    private final EmployeeArchiveRepository archiveRepository;
+    private final EmployeeBulkRepository bulkRepository;
     private final EmployeeMapper employeeMapper;
     private final AuditService auditService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private final SingleFlight<ResponseKey, EmployeeResponse> responseFlights = new SingleFlight<>();
+    private final SingleFlight<PageKey, Page<EmployeeResponse>> pageFlights = new SingleFlight<>();
+
+    // Replica and primary reads of the same employee are different calls
+    private record ResponseKey(Long id, boolean primary) {
+    }
+
+    private record PageKey(EmployeeFilter filter, Pageable pageable, boolean primary) {
+    }
 
     @Override
     @Transactional
     public Employee createEmployee(EmployeeCreateRequest request) {
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
         if (employeeRepository.findByEmailIgnoreCase(request.getEmail()) != null) {
             throw new EmailAlreadyExistsException("Email already exists: " + request.getEmail());
         }
         Employee employee = employeeMapper.toEntity(request);
+        if (employee.getManagerId() != null) {
+            Employee manager = liveManager(lockChains(null, employee.getManagerId()).get(employee.getManagerId()), employee.getManagerId());
+            employee.setManagerPath(ManagerPaths.childPath(manager.getManagerPath(), manager.getId()));
+        }
         Employee savedEmployee = employeeRepository.save(employee);
         
         // Audit the creation
+        long auditStart = RequestTimings.begin();
         auditService.auditEmployeeCreate(savedEmployee, getCurrentUser());
+        RequestTimings.end(RequestTimings.Phase.AUDIT, auditStart);
         
+        eventPublisher.publishEvent(EmployeeChangedEvent.of(ChangeType.CREATE, savedEmployee.getId(), savedEmployee.getDepartment()));
+        commitEvent(event, "CREATE", savedEmployee.getId(), null, 1);
         return savedEmployee;
     }
 
     @Override
+    @Transactional
+    public List<CreateOutcome> createEmployees(List<EmployeeCreateRequest> requests) {
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        Set<String> taken = new HashSet<>(bulkRepository.findExistingEmails(requests.stream()
+                .map(request -> request.getEmail().toLowerCase(Locale.ROOT))
+                .toList()));
+        List<Employee> employees = new ArrayList<>(requests.size());
+        List<CreateOutcome> outcomes = new ArrayList<>(requests.size());
+        for (EmployeeCreateRequest request : requests) {
+            if (request.getManagerId() != null) {
+                throw new IllegalArgumentException("Batched creates cannot name a manager");
+            }
+            // add() also claims the email against later requests in the batch
+            if (!taken.add(request.getEmail().toLowerCase(Locale.ROOT))) {
+                outcomes.add(new CreateOutcome(null, new EmailAlreadyExistsException("Email already exists: " + request.getEmail())));
+                continue;
+            }
+            Employee employee = employeeMapper.toEntity(request);
+            employees.add(employee);
+            outcomes.add(new CreateOutcome(employee, null));
+        }
+        if (!employees.isEmpty()) {
+            bulkRepository.insertEmployees(employees);
+            long auditStart = RequestTimings.begin();
+            auditService.auditEmployeeCreates(employees, getCurrentUser());
+            RequestTimings.end(RequestTimings.Phase.AUDIT, auditStart);
+            eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.CREATE,
+                    employees.stream().map(Employee::getId).toList(),
+                    employees.stream().map(Employee::getDepartment).collect(Collectors.toUnmodifiableSet())));
+        }
+        commitEvent(event, "CREATE_BATCH", null, null, employees.size());
+        return outcomes;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Employee getEmployeeById(Long id) {
-        return employeeRepository.findById(id)
-                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        Employee employee = findEmployee(id);
+        commitEvent(event, "GET", id, null, 1);
+        return employee;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Employee> getAllEmployees(Pageable pageable, String department, EmployeeStatus status, String search) {
         return getAllEmployees(pageable, department, status, search, false);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Employee> getAllEmployees(Pageable pageable, String department, EmployeeStatus status, String search, boolean includeInactive) {
-        Specification<Employee> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            if (department != null) {
-                predicates.add(criteriaBuilder.equal(criteriaBuilder.lower(root.get("department")), department.toLowerCase()));
-            }
-            if (status != null) {
-                predicates.add(criteriaBuilder.equal(root.get("status"), status));
-            }
-            if (!includeInactive) {
-                // Only show active employees (not soft-deleted) by default
-                predicates.add(criteriaBuilder.isNull(root.get("deletedAt")));
-            }
-            if (search != null) {
-                Predicate firstName = criteriaBuilder.like(criteriaBuilder.lower(root.get("firstName")), "%" + search.toLowerCase() + "%");
-                Predicate lastName = criteriaBuilder.like(criteriaBuilder.lower(root.get("lastName")), "%" + search.toLowerCase() + "%");
-                Predicate email = criteriaBuilder.like(criteriaBuilder.lower(root.get("email")), "%" + search.toLowerCase() + "%");
-                predicates.add(criteriaBuilder.or(firstName, lastName, email));
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        Page<Employee> employees = employeeRepository.findEmployees(EmployeeFilter.of(department, status, search, includeInactive), pageable);
+        commitEvent(event, "LIST", null, filterShape(department, status, search, includeInactive), employees.getNumberOfElements());
+        return employees;
+    }
+
+    // Concurrent identical reads share the leader's call; only the leader opens a transaction
+    @Override
+    public EmployeeResponse getEmployeeResponseById(Long id) {
+        return coalesced(responseFlights, new ResponseKey(id, RoutingContext.isPrimaryPinned()), () -> {
+            EmployeeOperationEvent event = new EmployeeOperationEvent();
+            event.begin();
+            EmployeeResponse employee = employeeRepository.findResponseById(id)
+                    .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
+            commitEvent(event, "GET", id, null, 1);
+            return employee;
+        });
+    }
+
+    @Override
+    public Page<EmployeeResponse> getEmployeeResponses(Pageable pageable, String department, EmployeeStatus status, String search, boolean includeInactive) {
+        EmployeeFilter filter = EmployeeFilter.of(department, status, search, includeInactive).normalized();
+        return coalesced(pageFlights, new PageKey(filter, pageable, RoutingContext.isPrimaryPinned()), () -> {
+            EmployeeOperationEvent event = new EmployeeOperationEvent();
+            event.begin();
+            Page<EmployeeResponse> employees = employeeRepository.findResponses(filter, pageable);
+            commitEvent(event, "LIST", null, filterShape(department, status, search, includeInactive), employees.getNumberOfElements());
+            return employees;
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> getEmployeeResponsesAfterId(String department, EmployeeStatus status, String search, boolean includeInactive,
+                                                              long afterId, int limit) {
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        EmployeeFilter filter = EmployeeFilter.of(department, status, search, includeInactive);
+        List<EmployeeResponse> employees = new ArrayList<>(employeeRepository.findResponsesAfterId(filter, afterId, limit));
+        // With sharding every shard returns its own first rows; only the lowest ids overall are complete
+        employees.sort(Comparator.comparing(EmployeeResponse::getId));
+        if (employees.size() > limit) {
+            employees = employees.subList(0, limit);
+        }
+        commitEvent(event, "LIST", null, filterShape(department, status, search, includeInactive), employees.size());
+        return employees;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeLookupResponse lookupEmployees(List<Long> ids, boolean includeInactive) {
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        Map<Long, EmployeeResponse> found = new HashMap<>();
+        for (EmployeeResponse employee : employeeRepository.findResponsesByIds(requested, includeInactive)) {
+            found.put(employee.getId(), employee);
+        }
+        List<EmployeeResponse> employees = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            EmployeeResponse employee = found.get(id);
+            if (employee != null) {
+                employees.add(employee);
+            } else {
+                missing.add(id);
             }
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
-        return employeeRepository.findAll(spec, pageable);
+        }
+        commitEvent(event, "LOOKUP", null, null, employees.size());
+        return new EmployeeLookupResponse(employees, missing);
+    }
+
+    // Reads arriving after a commit must not join a flight that may have started before it
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        for (Long id : event.employeeIds()) {
+            responseFlights.forget(new ResponseKey(id, false));
+            responseFlights.forget(new ResponseKey(id, true));
+        }
+        pageFlights.forgetAll();
     }
 
     @Override
     @Transactional
     public Employee updateEmployee(Long id, EmployeeUpdateRequest request) {
-        Employee beforeEmployee = getEmployeeById(id);
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        Employee beforeEmployee = findEmployee(id);
         if (request.getEmail() != null && !beforeEmployee.getEmail().equalsIgnoreCase(request.getEmail()) && employeeRepository.findByEmailIgnoreCase(request.getEmail()) != null) {
             throw new EmailAlreadyExistsException("Email already exists: " + request.getEmail());
         }
@@ -97,15 +275,21 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee savedEmployee = employeeRepository.save(beforeEmployee);
         
         // Audit the update
+        long auditStart = RequestTimings.begin();
         auditService.auditEmployeeAction(beforeCopy, savedEmployee, AuditType.UPDATE, getCurrentUser());
+        RequestTimings.end(RequestTimings.Phase.AUDIT, auditStart);
         
+        eventPublisher.publishEvent(EmployeeChangedEvent.of(ChangeType.UPDATE, id, beforeCopy.getDepartment(), savedEmployee.getDepartment()));
+        commitEvent(event, "UPDATE", id, null, 1);
         return savedEmployee;
     }
 
     @Override
     @Transactional
     public Employee partialUpdateEmployee(Long id, EmployeeUpdateRequest request) {
-        Employee beforeEmployee = getEmployeeById(id);
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        Employee beforeEmployee = findEmployee(id);
         if (request.getEmail() != null && !beforeEmployee.getEmail().equalsIgnoreCase(request.getEmail()) && employeeRepository.findByEmailIgnoreCase(request.getEmail()) != null) {
             throw new EmailAlreadyExistsException("Email already exists: " + request.getEmail());
         }
@@ -117,15 +301,21 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee savedEmployee = employeeRepository.save(beforeEmployee);
         
         // Audit the update
+        long auditStart = RequestTimings.begin();
         auditService.auditEmployeeAction(beforeCopy, savedEmployee, AuditType.UPDATE, getCurrentUser());
+        RequestTimings.end(RequestTimings.Phase.AUDIT, auditStart);
         
+        eventPublisher.publishEvent(EmployeeChangedEvent.of(ChangeType.UPDATE, id, beforeCopy.getDepartment(), savedEmployee.getDepartment()));
+        commitEvent(event, "PARTIAL_UPDATE", id, null, 1);
         return savedEmployee;
     }
 
     @Override
     @Transactional
     public void deleteEmployee(Long id) {
-        Employee employee = getEmployeeById(id);
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        Employee employee = findEmployee(id);
         
         // Create a copy for audit purposes (before soft-delete)
         Employee beforeCopy = createEmployeeCopy(employee);
@@ -138,13 +328,20 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee savedEmployee = employeeRepository.save(employee);
         
         // Audit the deletion
+        long auditStart = RequestTimings.begin();
         auditService.auditEmployeeDelete(beforeCopy, getCurrentUser());
+        RequestTimings.end(RequestTimings.Phase.AUDIT, auditStart);
+
+        eventPublisher.publishEvent(EmployeeChangedEvent.of(ChangeType.DELETE, id, savedEmployee.getDepartment()));
+        commitEvent(event, "DELETE", id, null, 1);
     }
 
     @Override
     @Transactional
     public Employee restoreEmployee(Long id) {
-        Employee employee = getEmployeeById(id);
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        Employee employee = lockForRestore(id);
         
         if (employee.getDeletedAt() == null) {
             throw new IllegalStateException("Employee is not deleted and cannot be restored: " + id);
@@ -161,11 +358,190 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee savedEmployee = employeeRepository.save(employee);
         
         // Audit the restoration
+        long auditStart = RequestTimings.begin();
         auditService.auditEmployeeRestore(beforeCopy, savedEmployee, getCurrentUser());
+        RequestTimings.end(RequestTimings.Phase.AUDIT, auditStart);
         
+        eventPublisher.publishEvent(EmployeeChangedEvent.of(ChangeType.RESTORE, id, savedEmployee.getDepartment()));
+        commitEvent(event, "RESTORE", id, null, 1);
+        return savedEmployee;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> getDirectReports(Long id) {
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        findManagerPath(id);
+        List<EmployeeResponse> reports = employeeRepository.findLiveResponsesByManagerId(id);
+        commitEvent(event, "DIRECT_REPORTS", id, null, reports.size());
+        return reports;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmployeeResponse> getAllReports(Long id, Pageable pageable) {
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        String prefix = ManagerPaths.childPath(findManagerPath(id), id);
+        Page<EmployeeResponse> reports = employeeRepository.findResponsesUnderPath(prefix, pageable);
+        commitEvent(event, "ALL_REPORTS", id, null, reports.getNumberOfElements());
+        return reports;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> getManagementChain(Long id) {
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        List<Long> ancestors = ManagerPaths.ancestorIds(findManagerPath(id));
+        Map<Long, EmployeeResponse> found = new HashMap<>();
+        for (EmployeeResponse manager : employeeRepository.findResponsesByIds(ancestors, true)) {
+            found.put(manager.getId(), manager);
+        }
+        List<EmployeeResponse> chain = new ArrayList<>(ancestors.size());
+        for (int i = ancestors.size() - 1; i >= 0; i--) {
+            chain.add(found.get(ancestors.get(i)));
+        }
+        commitEvent(event, "MANAGEMENT_CHAIN", id, null, chain.size());
+        return chain;
+    }
+
+    @Override
+    @Transactional
+    public Employee changeManager(Long id, Long managerId) {
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        if (id.equals(managerId)) {
+            throw new InvalidManagerException("An employee cannot be their own manager: " + id);
+        }
+        Map<Long, Employee> locked = lockChains(id, managerId);
+        Employee employee = locked.get(id);
+        if (Objects.equals(employee.getManagerId(), managerId)) {
+            return employee;
+        }
+        String path = ManagerPaths.ROOT;
+        if (managerId != null) {
+            Employee manager = liveManager(locked.get(managerId), managerId);
+            if (ManagerPaths.contains(manager.getManagerPath(), id)) {
+                throw new InvalidManagerException("Employee " + managerId + " reports to employee " + id);
+            }
+            path = ManagerPaths.childPath(manager.getManagerPath(), managerId);
+        }
+
+        Employee beforeCopy = createEmployeeCopy(employee);
+        String oldPrefix = ManagerPaths.childPath(employee.getManagerPath(), id);
+        employee.setManagerId(managerId);
+        employee.setManagerPath(path);
+        Employee savedEmployee = employeeRepository.save(employee);
+        // One statement moves the whole subtree; the reports keep their managerId
+        employeeRepository.rebaseManagerPaths(oldPrefix, ManagerPaths.upperBound(oldPrefix), oldPrefix.length() + 1,
+                ManagerPaths.childPath(path, id));
+
+        long auditStart = RequestTimings.begin();
+        auditService.auditEmployeeAction(beforeCopy, savedEmployee, AuditType.UPDATE, getCurrentUser());
+        RequestTimings.end(RequestTimings.Phase.AUDIT, auditStart);
+
+        eventPublisher.publishEvent(EmployeeChangedEvent.of(ChangeType.UPDATE, id, savedEmployee.getDepartment()));
+        commitEvent(event, "CHANGE_MANAGER", id, null, 1);
         return savedEmployee;
     }
 
+    /**
+     * Locks {@code id}, {@code managerId} and everyone above either of them; either may be null. Moves and inserts
+     * that touch the same chain therefore run one after the other, and no subtree is rebased
+     * while a path below it is being derived.
+     */
+    private Map<Long, Employee> lockChains(Long id, Long managerId) {
+        while (true) {
+            Map<Long, String> paths = new HashMap<>();
+            Set<Long> ids = new LinkedHashSet<>();
+            for (Long member : Arrays.asList(id, managerId)) {
+                if (member == null) {
+                    continue;
+                }
+                String path = member.equals(id) ? findManagerPath(member) : employeeRepository.findManagerPathById(member)
+                        .orElseThrow(() -> new InvalidManagerException("Manager not found: " + member));
+                paths.put(member, path);
+                ids.addAll(ManagerPaths.ancestorIds(path));
+                ids.add(member);
+            }
+            Map<Long, Employee> locked = new HashMap<>();
+            for (Employee employee : employeeRepository.lockAllByIdIn(ids)) {
+                locked.put(employee.getId(), employee);
+            }
+            // A concurrent move between the read and the lock means other ancestors need locking
+            if (paths.entrySet().stream().allMatch(entry -> locked.containsKey(entry.getKey())
+                    && locked.get(entry.getKey()).getManagerPath().equals(entry.getValue()))) {
+                return locked;
+            }
+        }
+    }
+
+    /**
+     * Locks the employee, so the archival job cannot move them mid-restore. An archived employee
+     * is moved back first, unless their email has been taken since.
+     */
+    private Employee lockForRestore(Long id) {
+        Optional<Employee> employee = employeeRepository.lockById(id);
+        if (employee.isPresent()) {
+            return employee.get();
+        }
+        Optional<String> archivedEmail = archiveRepository.lockArchivedEmail(id);
+        if (archivedEmail.isPresent()) {
+            if (employeeRepository.findByEmailIgnoreCase(archivedEmail.get()) != null) {
+                throw new EmailAlreadyExistsException("Email already exists: " + archivedEmail.get());
+            }
+            archiveRepository.restore(id);
+        }
+        // Also covers a concurrent restore that moved the employee back while this one waited
+        return employeeRepository.lockById(id)
+                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
+    }
+
+    private static Employee liveManager(Employee manager, Long managerId) {
+        if (manager.getDeletedAt() != null) {
+            throw new InvalidManagerException("Manager is deleted: " + managerId);
+        }
+        return manager;
+    }
+
+    private String findManagerPath(Long id) {
+        return employeeRepository.findManagerPathById(id)
+                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
+    }
+
+    private <K, V> V coalesced(SingleFlight<K, V> flights, K key, Supplier<V> read) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Inside a caller's transaction the read has to see that transaction's own writes
+            return read.get();
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return flights.execute(key, () -> transaction.execute(status -> read.get()));
+    }
+
+    private Employee findEmployee(Long id) {
+        return employeeRepository.findById(id)
+                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with id: " + id));
+    }
+
+    private static String filterShape(String department, EmployeeStatus status, String search, boolean includeInactive) {
+        int mask = (department != null ? 1 : 0) | (status != null ? 2 : 0) | (search != null ? 4 : 0) | (includeInactive ? 8 : 0);
+        return FILTER_SHAPES[mask];
+    }
+
+    private static void commitEvent(EmployeeOperationEvent event, String operation, Long employeeId, String filterShape, long rowsReturned) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.employeeId = employeeId != null ? employeeId : 0L;
+            event.filterShape = filterShape;
+            event.rowsReturned = rowsReturned;
+            event.commit();
+        }
+    }
+
     private Employee createEmployeeCopy(Employee original) {
         return Employee.builder()
                 .id(original.getId())
@@ -179,6 +555,8 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .department(original.getDepartment())
                 .salary(original.getSalary())
                 .status(original.getStatus())
+                .managerId(original.getManagerId())
+                .managerPath(original.getManagerPath())
                 .deletedAt(original.getDeletedAt())
                 .deletedBy(original.getDeletedBy())
                 .createdAt(original.getCreatedAt())
@@ -0,0 +1,156 @@
+package com.example.employeemanagement.service.impl;
+
+import com.example.employeemanagement.audit.AuditSegmentStore;
+import com.example.employeemanagement.changefeed.ChangeFeedBroadcaster;
+import com.example.employeemanagement.dto.EmployeeDelta;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.EmployeeTombstone;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.exception.InvalidDeltaTokenException;
+import com.example.employeemanagement.mapper.EmployeeMapper;
+import com.example.employeemanagement.repository.EmployeeAuditRepository;
+import com.example.employeemanagement.repository.EmployeeAuditRepository.ChangeRef;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.EmployeeSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Delta sync over the audit log. A token is an audit id, the same id the change feed uses as its
+ * event id, so the scan is an index range over {@code employee_audit} and the response carries
+ * only the employees touched since the token, in their current state.
+ * <p>
+ * The upper bound of each scan is the change feed's published watermark rather than the latest
+ * audit id: an audit row whose transaction has not committed yet would otherwise be skipped for
+ * good once the token moves past it. The feed never moves that watermark past an id whose
+ * transaction is still open, so no token does either.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeSyncServiceImpl implements EmployeeSyncService {
+
+    static final int MAX_LIMIT = 10_000;
+
+    private static final int SCAN_BATCH_SIZE = 1_000;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeAuditRepository auditRepository;
+    private final EmployeeMapper employeeMapper;
+    private final ChangeFeedBroadcaster changeFeedBroadcaster;
+    private final AuditSegmentStore auditSegmentStore;
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeDelta getDelta(String since, int limit) {
+        int max = Math.max(1, Math.min(limit, MAX_LIMIT));
+        if (since == null || since.isBlank()) {
+            return snapshot(changeFeedBroadcaster.getLastPublishedId(), 0, max);
+        }
+        DeltaToken token = DeltaToken.parse(since);
+        if (token.watermark() < auditSegmentStore.getArchivedUpToId()) {
+            // Changes after the token may have moved to audit segments; the client has to sync from scratch
+            throw new InvalidDeltaTokenException(since);
+        }
+        return token.afterEmployeeId() != null
+                ? snapshot(token.watermark(), token.afterEmployeeId(), max)
+                : changesAfter(token.watermark(), max);
+    }
+
+    // Initial sync: every live employee by id, then deltas from the watermark taken at the start
+    private EmployeeDelta snapshot(long watermark, long afterEmployeeId, int limit) {
+        List<Employee> employees = employeeRepository.findByIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(afterEmployeeId, Limit.of(limit));
+        boolean hasMore = employees.size() == limit;
+        Long lastId = hasMore ? employees.get(limit - 1).getId() : null;
+        return EmployeeDelta.builder()
+                .changed(employees.stream().map(employeeMapper::toResponse).toList())
+                .deleted(List.of())
+                .nextToken(new DeltaToken(watermark, lastId).toString())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private EmployeeDelta changesAfter(long after, int limit) {
+        long upTo = changeFeedBroadcaster.getLastPublishedId();
+        long cursor = after;
+        Set<Long> employeeIds = new LinkedHashSet<>();
+        boolean hasMore = false;
+        while (!hasMore && cursor < upTo) {
+            List<ChangeRef> refs = auditRepository.findChangeRefs(cursor, upTo, PageRequest.of(0, SCAN_BATCH_SIZE));
+            for (ChangeRef ref : refs) {
+                if (employeeIds.size() == limit && !employeeIds.contains(ref.getEmployeeId())) {
+                    hasMore = true;
+                    break;
+                }
+                employeeIds.add(ref.getEmployeeId());
+                cursor = ref.getId();
+            }
+            if (!hasMore && refs.size() < SCAN_BATCH_SIZE) {
+                cursor = upTo;
+            }
+        }
+
+        List<EmployeeResponse> changed = new ArrayList<>();
+        List<EmployeeTombstone> deleted = new ArrayList<>();
+        List<Employee> employees = new ArrayList<>(employeeRepository.findAllById(employeeIds));
+        employees.sort(Comparator.comparing(Employee::getId));
+        for (Employee employee : employees) {
+            employeeIds.remove(employee.getId());
+            if (employee.getDeletedAt() != null) {
+                deleted.add(new EmployeeTombstone(employee.getId(), employee.getDeletedAt()));
+            } else {
+                changed.add(employeeMapper.toResponse(employee));
+            }
+        }
+        // Audited but gone from the table
+        employeeIds.forEach(id -> deleted.add(new EmployeeTombstone(id, null)));
+        log.debug("Delta after {}: {} changed, {} deleted, next {}", after, changed.size(), deleted.size(), cursor);
+
+        return EmployeeDelta.builder()
+                .changed(changed)
+                .deleted(deleted)
+                .nextToken(new DeltaToken(cursor, null).toString())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * {@code <auditId>} for deltas; {@code <auditId>.<employeeId>} while paging through the
+     * initial snapshot taken at that audit id.
+     */
+    record DeltaToken(long watermark, Long afterEmployeeId) {
+
+        static DeltaToken parse(String token) {
+            int dot = token.indexOf('.');
+            try {
+                long watermark = Long.parseLong(dot < 0 ? token : token.substring(0, dot));
+                Long afterEmployeeId = dot < 0 ? null : Long.parseLong(token.substring(dot + 1));
+                if (watermark < 0 || (afterEmployeeId != null && afterEmployeeId < 0)) {
+                    throw new InvalidDeltaTokenException(token);
+                }
+                return new DeltaToken(watermark, afterEmployeeId);
+            } catch (NumberFormatException e) {
+                throw new InvalidDeltaTokenException(token);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return afterEmployeeId == null ? String.valueOf(watermark) : watermark + "." + afterEmployeeId;
+        }
+
+    }
+
+}
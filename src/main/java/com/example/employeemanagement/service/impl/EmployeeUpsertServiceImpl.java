@@ -0,0 +1,138 @@
+package com.example.employeemanagement.service.impl;
+
+import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.dto.EmployeeUpsertResponse;
+import com.example.employeemanagement.dto.EmployeeUpsertResult;
+import com.example.employeemanagement.dto.EmployeeUpsertResult.Outcome;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.example.employeemanagement.event.EmployeeChangedEvent.ChangeType;
+import com.example.employeemanagement.exception.DuplicateEmailInRequestException;
+import com.example.employeemanagement.mapper.EmployeeMapper;
+import com.example.employeemanagement.repository.EmployeeBulkRepository;
+import com.example.employeemanagement.service.AuditService;
+import com.example.employeemanagement.service.EmployeeUpsertService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeUpsertServiceImpl implements EmployeeUpsertService {
+
+    private final EmployeeBulkRepository bulkRepository;
+    private final EmployeeMapper employeeMapper;
+    private final AuditService auditService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public EmployeeUpsertResponse upsertEmployees(List<EmployeeCreateRequest> requests) {
+        Map<String, EmployeeCreateRequest> requestsByEmail = new LinkedHashMap<>();
+        for (EmployeeCreateRequest request : requests) {
+            if (requestsByEmail.putIfAbsent(request.getEmail().toLowerCase(Locale.ROOT), request) != null) {
+                throw new DuplicateEmailInRequestException(request.getEmail());
+            }
+        }
+
+        // Locks the matched rows so nothing changes between the comparison and the write
+        Map<String, Employee> existing = bulkRepository.lockByEmails(requestsByEmail.keySet());
+        Map<String, Employee> changed = new LinkedHashMap<>();
+        for (Map.Entry<String, EmployeeCreateRequest> entry : requestsByEmail.entrySet()) {
+            Employee current = existing.get(entry.getKey());
+            Employee incoming = employeeMapper.toEntity(entry.getValue());
+            // The hierarchy is maintained by EmployeeService only
+            incoming.setManagerId(current != null ? current.getManagerId() : null);
+            if (current == null) {
+                changed.put(entry.getKey(), incoming);
+            } else if (current.getDeletedAt() == null && !sameContent(current, incoming)) {
+                // Matched rows keep what the upsert does not write, so the audit snapshot shows the stored row
+                incoming.setEmail(current.getEmail());
+                incoming.setCreatedAt(current.getCreatedAt());
+                incoming.setManagerPath(current.getManagerPath());
+                changed.put(entry.getKey(), incoming);
+            }
+        }
+        Set<String> inserted = bulkRepository.upsertEmployees(new ArrayList<>(changed.values()));
+
+        List<Employee> created = new ArrayList<>();
+        List<Employee> beforeUpdates = new ArrayList<>();
+        List<Employee> updated = new ArrayList<>();
+        Set<String> updatedDepartments = new HashSet<>();
+        List<EmployeeUpsertResult> results = new ArrayList<>(requestsByEmail.size());
+        for (Map.Entry<String, EmployeeCreateRequest> entry : requestsByEmail.entrySet()) {
+            String email = entry.getValue().getEmail();
+            Employee current = existing.get(entry.getKey());
+            Employee written = changed.get(entry.getKey());
+            if (written == null && current.getDeletedAt() != null) {
+                // Soft-deleted employees are only brought back by a restore, never by an upsert
+                results.add(new EmployeeUpsertResult(current.getId(), email, Outcome.CONFLICT));
+            } else if (written == null) {
+                results.add(new EmployeeUpsertResult(current.getId(), email, Outcome.UNCHANGED));
+            } else if (inserted.contains(entry.getKey())) {
+                created.add(written);
+                results.add(new EmployeeUpsertResult(written.getId(), email, Outcome.CREATED));
+            } else {
+                // current is null only if a concurrent insert of the same email won the race
+                beforeUpdates.add(current);
+                updated.add(written);
+                if (current != null) {
+                    updatedDepartments.add(current.getDepartment());
+                }
+                updatedDepartments.add(written.getDepartment());
+                results.add(new EmployeeUpsertResult(written.getId(), email, Outcome.UPDATED));
+            }
+        }
+
+        if (!created.isEmpty()) {
+            auditService.auditEmployeeCreates(created, getCurrentUser());
+            eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.CREATE,
+                    created.stream().map(Employee::getId).toList(),
+                    created.stream().map(Employee::getDepartment).collect(Collectors.toUnmodifiableSet())));
+        }
+        if (!updated.isEmpty()) {
+            auditService.auditEmployeeUpdates(beforeUpdates, updated, getCurrentUser());
+            eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.UPDATE,
+                    updated.stream().map(Employee::getId).toList(), Set.copyOf(updatedDepartments)));
+        }
+
+        int conflicts = (int) results.stream().filter(result -> result.getOutcome() == Outcome.CONFLICT).count();
+        int unchanged = results.size() - created.size() - updated.size() - conflicts;
+        log.info("Employee upsert finished: rows={}, created={}, updated={}, unchanged={}, conflicts={}",
+                results.size(), created.size(), updated.size(), unchanged, conflicts);
+        return new EmployeeUpsertResponse(results, created.size(), updated.size(), unchanged, conflicts);
+    }
+
+    private static boolean sameContent(Employee current, Employee incoming) {
+        return Objects.equals(current.getFirstName(), incoming.getFirstName())
+                && Objects.equals(current.getLastName(), incoming.getLastName())
+                && Objects.equals(current.getPhone(), incoming.getPhone())
+                && Objects.equals(current.getDateOfBirth(), incoming.getDateOfBirth())
+                && Objects.equals(current.getHireDate(), incoming.getHireDate())
+                && Objects.equals(current.getJobTitle(), incoming.getJobTitle())
+                && Objects.equals(current.getDepartment(), incoming.getDepartment())
+                && current.getSalary().compareTo(incoming.getSalary()) == 0
+                && current.getStatus() == incoming.getStatus();
+    }
+
+    private String getCurrentUser() {
+        // For now, return "system" - in a real application, this would get the current authenticated user
+        return "system";
+    }
+
+}
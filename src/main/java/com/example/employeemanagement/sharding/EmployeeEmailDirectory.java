@@ -0,0 +1,78 @@
+package com.example.employeemanagement.sharding;
+
+import com.example.employeemanagement.exception.EmailAlreadyExistsException;
+import lombok.Getter;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Global email lookup table kept in its own database. It keeps emails unique across shards and
+ * tells which shard holds an email. Entries are written in autocommit mode before the shard
+ * transaction that uses them, and released again if that transaction rolls back.
+ */
+public class EmployeeEmailDirectory {
+
+    @Getter
+    private final DataSource dataSource;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeEmailDirectory(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public Optional<Integer> findShard(String email) {
+        List<Integer> shards = jdbcTemplate.queryForList(
+                "SELECT shard FROM employee_email_directory WHERE email_key = ?", Integer.class, ShardRouter.emailKey(email));
+        return shards.stream().findFirst();
+    }
+
+    /**
+     * Claims {@code email} for the employee, or for a new employee when {@code employeeId} is
+     * null. Returns false when the employee already holds it.
+     *
+     * @throws EmailAlreadyExistsException if another employee holds it
+     */
+    public boolean reserve(String email, int shard, Long employeeId) {
+        String key = ShardRouter.emailKey(email);
+        try {
+            jdbcTemplate.update("INSERT INTO employee_email_directory (email_key, shard, employee_id) VALUES (?, ?, ?)",
+                    key, shard, employeeId);
+            return true;
+        } catch (DuplicateKeyException e) {
+            List<Long> holders = jdbcTemplate.queryForList(
+                    "SELECT employee_id FROM employee_email_directory WHERE email_key = ?", Long.class, key);
+            if (employeeId != null && holders.size() == 1 && Objects.equals(holders.get(0), employeeId)) {
+                return false;
+            }
+            throw new EmailAlreadyExistsException("Email already exists: " + email);
+        }
+    }
+
+    public void assign(String email, long employeeId) {
+        jdbcTemplate.update("UPDATE employee_email_directory SET employee_id = ? WHERE email_key = ? AND employee_id IS NULL",
+                employeeId, ShardRouter.emailKey(email));
+    }
+
+    public void release(String email, Long employeeId) {
+        jdbcTemplate.update("DELETE FROM employee_email_directory WHERE email_key = ? AND (employee_id IS NULL OR employee_id = ?)",
+                ShardRouter.emailKey(email), employeeId);
+    }
+
+    // Drops the emails the employee held before a committed email change
+    public void releaseOthers(long employeeId, String email) {
+        jdbcTemplate.update("DELETE FROM employee_email_directory WHERE employee_id = ? AND email_key <> ?",
+                employeeId, ShardRouter.emailKey(email));
+    }
+
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM employee_email_directory");
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.example.employeemanagement.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+/**
+ * Makes shard {@code index} of {@code count} hand out only ids congruent to {@code index}, so
+ * ids never collide across shards and {@link ShardRouter#shardOf(long)} can find a row by id.
+ * Audit ids are interleaved the same way.
+ */
+@Slf4j
+public final class ShardIdentities {
+
+    private static final List<String> TABLES = List.of("employees", "employee_audit");
+
+    private ShardIdentities() {
+    }
+
+    public static void interleave(DataSource dataSource, int index, int count) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        String product;
+        try {
+            product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Unable to detect the database of shard " + index, e);
+        }
+        for (String table : TABLES) {
+            if ("PostgreSQL".equals(product)) {
+                interleavePostgres(jdbcTemplate, table, index, count);
+            } else if ("H2".equals(product)) {
+                long next = nextId(max(jdbcTemplate, table), index, count);
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id SET INCREMENT BY " + count);
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            } else {
+                throw new IllegalStateException("Sharding does not support " + product);
+            }
+        }
+        log.info("Shard {} of {} hands out ids congruent to {}", index, count, index);
+    }
+
+    private static void interleavePostgres(JdbcTemplate jdbcTemplate, String table, int index, int count) {
+        String sequence = jdbcTemplate.queryForObject("SELECT pg_get_serial_sequence(?, 'id')", String.class, table);
+        Long increment = jdbcTemplate.queryForObject("SELECT seqincrement FROM pg_sequence WHERE seqrelid = ?::regclass",
+                Long.class, sequence);
+        if (increment != null && increment == count) {
+            // Already interleaved; other instances may be drawing ids from it right now
+            return;
+        }
+        Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+        long next = nextId(Math.max(max(jdbcTemplate, table), lastValue != null ? lastValue : 0), index, count);
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " INCREMENT BY " + count);
+        jdbcTemplate.queryForObject("SELECT setval(?::regclass, ?, false)", Long.class, sequence, next);
+    }
+
+    private static long max(JdbcTemplate jdbcTemplate, String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+
+    // Smallest id above current that is congruent to index
+    static long nextId(long current, int index, int count) {
+        long next = current + 1;
+        next += Math.floorMod(index - next, (long) count);
+        return next > 0 ? next : next + count;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.example.employeemanagement.sharding;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * Maps employees to shards. Ids are interleaved across shards, every shard handing out ids
+ * congruent to its index, so an id alone names its shard. New employees are placed by a hash of
+ * their email.
+ */
+public class ShardRouter {
+
+    @Getter
+    private final int shardCount;
+
+    public ShardRouter(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    public int shardOf(long employeeId) {
+        return (int) Math.floorMod(employeeId, (long) shardCount);
+    }
+
+    public int shardForEmail(String email) {
+        // String.hashCode is specified, so placement is stable across restarts and JVMs
+        return Math.floorMod(emailKey(email).hashCode(), shardCount);
+    }
+
+    public static String emailKey(String email) {
+        return email.toUpperCase(Locale.ROOT);
+    }
+
+}
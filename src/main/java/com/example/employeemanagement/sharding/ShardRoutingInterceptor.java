@@ -0,0 +1,582 @@
+package com.example.employeemanagement.sharding;
+
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeAudit;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Routes employee and audit repository calls to shards. Calls naming an employee, by id, email or
+ * entity, run on that employee's shard, and audit rows follow their employee. Other queries are
+ * sent to every shard in parallel. List and page results are merged in the order the query
+ * declares, by its name, its {@code ORDER BY} or a {@code Sort} or {@code Pageable} argument, and
+ * cut to its limit; single results are taken from the one shard that has them. Queries of the
+ * custom projection fragment declare no order, so their callers sort what comes back.
+ * {@link #verify} rejects a repository at startup when one of its queries cannot be combined.
+ * <p>
+ * Inside a transaction the first routed call binds the shard. Later reads of another shard run on
+ * a worker outside the transaction; writes to another shard are rejected, as there are no
+ * cross-shard transactions.
+ */
+public class ShardRoutingInterceptor implements MethodInterceptor {
+
+    private static final Set<String> BY_ID = Set.of("findById", "existsById", "getReferenceById", "getById", "getOne",
+            "deleteById", "lockById", "findResponseById", "findManagerPathById", "findByEmployeeIdOrderByPerformedAtDesc");
+
+    private static final Set<String> BY_IDS = Set.of("findAllById", "findResponsesByIds", "deleteAllById", "deleteAllByIdInBatch",
+            "lockAllByIdIn");
+
+    private static final Set<String> BY_ENTITY = Set.of("save", "saveAndFlush", "delete");
+
+    private static final Set<String> BY_ENTITIES = Set.of("saveAll", "saveAllAndFlush", "deleteAll", "deleteAllInBatch");
+
+    private static final List<String> READ_PREFIXES = List.of("find", "get", "exists", "count", "read", "query", "search", "stream");
+
+    private static final Pattern ORDER_BY = Pattern.compile("\\bORDER\\s+BY\\s+(.+)$", Pattern.CASE_INSENSITIVE);
+
+    private static final Map<Method, DeclaredOrder> DECLARED_ORDERS = new ConcurrentHashMap<>();
+
+    private final ShardRouter router;
+
+    private final EmployeeEmailDirectory directory;
+
+    private final ExecutorService workers;
+
+    private final Duration timeout;
+
+    public ShardRoutingInterceptor(ShardRouter router, EmployeeEmailDirectory directory, ExecutorService workers, Duration timeout) {
+        this.router = router;
+        this.directory = directory;
+        this.workers = workers;
+        this.timeout = timeout;
+    }
+
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Checks that every query declared on {@code repositoryInterface} either runs on one shard or
+     * has results that can be combined across shards.
+     */
+    public static void verify(Class<?> repositoryInterface) {
+        for (Method method : repositoryInterface.getMethods()) {
+            if (method.isDefault() || method.getDeclaringClass().getPackageName().startsWith("org.springframework.data")) {
+                continue;
+            }
+            if (!isSingleShard(method) && !isCombinable(method)) {
+                throw new IllegalStateException(repositoryInterface.getSimpleName() + "." + method.getName()
+                        + " cannot be combined across shards");
+            }
+        }
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        String name = method.getName();
+        Object[] args = invocation.getArguments();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        if (BY_ID.contains(name) && args[0] instanceof Number id) {
+            return onShard(router.shardOf(id.longValue()), invocation, args);
+        }
+        if (name.equals("findByEmailIgnoreCase") && args[0] instanceof String email) {
+            int shard = directory.findShard(email).orElseGet(() -> router.shardForEmail(email));
+            return onShard(shard, invocation, args);
+        }
+        if (BY_ENTITY.contains(name) && args.length == 1 && args[0] != null) {
+            return byEntities(invocation, List.of(args[0])).get(0);
+        }
+        if (BY_ENTITIES.contains(name) && args.length == 1 && args[0] instanceof Iterable<?> entities) {
+            return combine(method, args, byEntities(invocation, entities));
+        }
+        if (BY_IDS.contains(name) && args[0] instanceof Iterable<?> ids) {
+            return byIds(invocation, ids);
+        }
+        int pageable = pageableIndex(method);
+        if (pageable >= 0 && (Page.class.isAssignableFrom(method.getReturnType()) || List.class.isAssignableFrom(method.getReturnType()))) {
+            return scatterPage(invocation, pageable);
+        }
+        Map<Integer, Object[]> calls = new TreeMap<>();
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            calls.put(shard, args);
+        }
+        Object result = combine(method, args, route(invocation, calls));
+        if (name.startsWith("deleteAll") && args.length == 0 && ownsEmails(invocation)) {
+            directory.clear();
+        }
+        return result;
+    }
+
+    private Object onShard(int shard, MethodInvocation invocation, Object[] args) throws Throwable {
+        Integer bound = ShardContext.current();
+        if (bound == null) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                ShardContext.bindToTransaction(shard);
+                return proceed(invocation, args);
+            }
+            ShardContext.set(shard);
+            try {
+                return proceed(invocation, args);
+            } finally {
+                ShardContext.clear();
+            }
+        }
+        if (bound == shard) {
+            return proceed(invocation, args);
+        }
+        if (!isRead(invocation.getMethod())) {
+            throw new IllegalStateException("Transaction bound to shard " + bound + " cannot write to shard " + shard);
+        }
+        return scatter(invocation, Map.of(shard, args)).get(0);
+    }
+
+    private List<Object> route(MethodInvocation invocation, Map<Integer, Object[]> calls) throws Throwable {
+        if (calls.size() == 1) {
+            Map.Entry<Integer, Object[]> call = calls.entrySet().iterator().next();
+            return Collections.singletonList(onShard(call.getKey(), invocation, call.getValue()));
+        }
+        if (!isRead(invocation.getMethod()) && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(invocation.getMethod().getName() + " spans several shards and cannot join a transaction");
+        }
+        return scatter(invocation, calls);
+    }
+
+    private List<Object> scatter(MethodInvocation invocation, Map<Integer, Object[]> calls) throws Throwable {
+        ProxyMethodInvocation proxyInvocation = (ProxyMethodInvocation) invocation;
+        List<Future<Object>> futures = new ArrayList<>(calls.size());
+        for (Map.Entry<Integer, Object[]> call : calls.entrySet()) {
+            MethodInvocation shardInvocation = proxyInvocation.invocableClone(call.getValue());
+            int shard = call.getKey();
+            futures.add(workers.submit(() -> runOn(shard, shardInvocation)));
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<Object> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<Object> future : futures) {
+                results.add(future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Shards did not answer " + invocation.getMethod().getName() + " within " + timeout);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return results;
+    }
+
+    private static Object runOn(int shard, MethodInvocation invocation) throws Exception {
+        ShardContext.set(shard);
+        try {
+            return invocation.proceed();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        } finally {
+            ShardContext.clear();
+        }
+    }
+
+    private List<Object> byEntities(MethodInvocation invocation, Iterable<?> entities) throws Throwable {
+        boolean single = !(invocation.getArguments()[0] instanceof Iterable<?>);
+        Map<Integer, List<Object>> byShard = new TreeMap<>();
+        List<EmailClaim> claims = new ArrayList<>();
+        try {
+            for (Object entity : entities) {
+                int shard = shardOf(entity);
+                byShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(entity);
+                if (entity instanceof Employee employee && invocation.getMethod().getName().startsWith("save")) {
+                    claims.add(claim(employee, shard));
+                }
+            }
+            if (byShard.isEmpty()) {
+                return Collections.singletonList(invocation.proceed());
+            }
+            Map<Integer, Object[]> calls = new TreeMap<>();
+            byShard.forEach((shard, group) -> calls.put(shard, new Object[]{single ? group.get(0) : group}));
+            List<Object> results = route(invocation, calls);
+            for (Object result : results) {
+                for (Object saved : result instanceof Iterable<?> many ? many : Collections.singletonList(result)) {
+                    if (saved instanceof Employee employee) {
+                        claims.stream().filter(claim -> claim.email.equalsIgnoreCase(employee.getEmail()))
+                                .forEach(claim -> claim.saved(employee.getId()));
+                    }
+                }
+            }
+            claims.forEach(EmailClaim::complete);
+            return results;
+        } catch (Throwable t) {
+            claims.forEach(EmailClaim::release);
+            throw t;
+        }
+    }
+
+    private Object byIds(MethodInvocation invocation, Iterable<?> ids) throws Throwable {
+        Map<Integer, List<Object>> byShard = new TreeMap<>();
+        for (Object id : ids) {
+            byShard.computeIfAbsent(router.shardOf(((Number) id).longValue()), key -> new ArrayList<>()).add(id);
+        }
+        if (byShard.isEmpty()) {
+            return invocation.proceed();
+        }
+        Map<Integer, Object[]> calls = new TreeMap<>();
+        byShard.forEach((shard, group) -> {
+            Object[] args = invocation.getArguments().clone();
+            args[0] = group;
+            calls.put(shard, args);
+        });
+        return combine(invocation.getMethod(), invocation.getArguments(), route(invocation, calls));
+    }
+
+    /**
+     * Asks every shard for its first {@code offset + size} rows, so a deep page costs every
+     * shard as much as the whole prefix, and merges them in sort order. Id breaks ties so the
+     * merged order is stable across pages.
+     */
+    private Object scatterPage(MethodInvocation invocation, int pageableIndex) throws Throwable {
+        Method method = invocation.getMethod();
+        Object[] args = invocation.getArguments();
+        Pageable pageable = (Pageable) args[pageableIndex];
+        Sort sort = sortOf(method, args);
+        Sort shardSort = sort.getOrderFor("id") != null ? pageable.getSort() : pageable.getSort().and(Sort.by("id"));
+        Object[] shardArgs = args.clone();
+        shardArgs[pageableIndex] = pageable.isPaged()
+                ? PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()), shardSort)
+                : Pageable.unpaged(shardSort);
+        Map<Integer, Object[]> calls = new TreeMap<>();
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            calls.put(shard, shardArgs);
+        }
+
+        List<Object> merged = new ArrayList<>();
+        long total = 0;
+        for (Object result : route(invocation, calls)) {
+            if (result instanceof Page<?> page) {
+                merged.addAll(page.getContent());
+                total += page.getTotalElements();
+            } else {
+                merged.addAll((List<?>) result);
+            }
+        }
+        merged = sorted(merged, declaredOrder(method).sort().and(shardSort));
+        boolean page = Page.class.isAssignableFrom(method.getReturnType());
+        if (pageable.isUnpaged()) {
+            return page ? new PageImpl<>(merged, pageable, total) : merged;
+        }
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        return page ? new PageImpl<>(merged.subList(from, to), pageable, total) : new ArrayList<>(merged.subList(from, to));
+    }
+
+    private static List<Object> sorted(List<Object> rows, Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        List<Object[]> keyed = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            BeanWrapperImpl wrapper = new BeanWrapperImpl(row);
+            Object[] entry = new Object[orders.size() + 1];
+            for (int i = 0; i < orders.size(); i++) {
+                Object value = wrapper.getPropertyValue(orders.get(i).getProperty());
+                entry[i] = orders.get(i).isIgnoreCase() && value instanceof String text ? text.toLowerCase(Locale.ROOT) : value;
+            }
+            entry[orders.size()] = row;
+            keyed.add(entry);
+        }
+        keyed.sort((a, b) -> {
+            for (int i = 0; i < orders.size(); i++) {
+                int result = compare(orders.get(i), a[i], b[i]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        });
+        List<Object> result = new ArrayList<>(keyed.size());
+        keyed.forEach(entry -> result.add(entry[orders.size()]));
+        return result;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Sort.Order order, Object a, Object b) {
+        // Nulls sort as PostgreSQL puts them by default: last ascending, first descending
+        int result = a == null || b == null
+                ? Comparator.nullsLast((Comparator<Object>) (x, y) -> 0).compare(a, b)
+                : ((Comparable) a).compareTo(b);
+        return order.isAscending() ? result : -result;
+    }
+
+    private static Object combine(Method method, Object[] args, List<Object> results) {
+        Class<?> type = method.getReturnType();
+        String name = method.getName();
+        if (type == void.class) {
+            return null;
+        }
+        if (results.size() == 1) {
+            return results.get(0);
+        }
+        if (List.class.isAssignableFrom(type)) {
+            List<Object> combined = new ArrayList<>();
+            results.forEach(result -> combined.addAll((List<?>) result));
+            Sort sort = sortOf(method, args);
+            List<Object> merged = sort.isSorted() ? sorted(combined, sort) : combined;
+            int limit = limitOf(method, args);
+            return limit < merged.size() ? new ArrayList<>(merged.subList(0, limit)) : merged;
+        }
+        if (name.startsWith("count") || method.isAnnotationPresent(Modifying.class)) {
+            long sum = results.stream().mapToLong(result -> ((Number) result).longValue()).sum();
+            return type == int.class || type == Integer.class ? Math.toIntExact(sum) : sum;
+        }
+        if (name.startsWith("exists")) {
+            return results.stream().anyMatch(Boolean.TRUE::equals);
+        }
+        if (name.startsWith("findMax")) {
+            return results.stream().mapToLong(result -> ((Number) result).longValue()).max().orElse(0);
+        }
+        if (type == Optional.class) {
+            List<Object> found = results.stream().map(result -> (Optional<?>) result).flatMap(Optional::stream).map(Object.class::cast).toList();
+            return Optional.ofNullable(single(found));
+        }
+        if (isEntity(type)) {
+            return single(results.stream().filter(Objects::nonNull).toList());
+        }
+        throw new UnsupportedOperationException(name + " cannot be combined across shards");
+    }
+
+    // A row lives on one shard only, so at most one shard may answer
+    private static Object single(List<Object> found) {
+        if (found.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, found.size());
+        }
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    private static Sort sortOf(Method method, Object[] args) {
+        Sort sort = declaredOrder(method).sort();
+        for (Object arg : args) {
+            if (arg instanceof Sort dynamic) {
+                sort = sort.and(dynamic);
+            } else if (arg instanceof Pageable pageable) {
+                sort = sort.and(pageable.getSort());
+            }
+        }
+        return sort;
+    }
+
+    private static int limitOf(Method method, Object[] args) {
+        Integer limit = declaredOrder(method).maxResults();
+        for (Object arg : args) {
+            if (arg instanceof Limit dynamic && dynamic.isLimited()) {
+                limit = limit == null ? dynamic.max() : Math.min(limit, dynamic.max());
+            }
+        }
+        return limit == null ? Integer.MAX_VALUE : limit;
+    }
+
+    private static DeclaredOrder declaredOrder(Method method) {
+        return DECLARED_ORDERS.computeIfAbsent(method, ShardRoutingInterceptor::parseDeclaredOrder);
+    }
+
+    /**
+     * Order and row limit a query states itself: in the JPQL {@code ORDER BY} of a {@code @Query}
+     * or in the name of a derived query. Base and custom fragment methods state none.
+     */
+    private static DeclaredOrder parseDeclaredOrder(Method method) {
+        Query query = method.getAnnotation(Query.class);
+        if (query != null) {
+            Matcher orderBy = ORDER_BY.matcher(query.value().trim());
+            if (query.nativeQuery() || !orderBy.find()) {
+                return DeclaredOrder.NONE;
+            }
+            List<Sort.Order> orders = new ArrayList<>();
+            for (String term : orderBy.group(1).split(",")) {
+                String[] parts = term.trim().split("\\s+");
+                String property = parts[0].substring(parts[0].indexOf('.') + 1);
+                boolean descending = parts.length > 1 && parts[1].equalsIgnoreCase("DESC");
+                orders.add(descending ? Sort.Order.desc(property) : Sort.Order.asc(property));
+            }
+            return new DeclaredOrder(Sort.by(orders), null);
+        }
+        Class<?>[] types = GenericTypeResolver.resolveTypeArguments(method.getDeclaringClass(), Repository.class);
+        if (types == null || method.getDeclaringClass().getPackageName().startsWith("org.springframework.data")) {
+            return DeclaredOrder.NONE;
+        }
+        PartTree tree = new PartTree(method.getName(), types[0]);
+        return new DeclaredOrder(tree.getSort(), tree.isLimiting() ? tree.getMaxResults() : null);
+    }
+
+    private static boolean isSingleShard(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        String name = method.getName();
+        return types.length > 0 && (BY_ID.contains(name) && Number.class.isAssignableFrom(types[0])
+                || name.equals("findByEmailIgnoreCase") && types[0] == String.class);
+    }
+
+    private static boolean isCombinable(Method method) {
+        Class<?> type = method.getReturnType();
+        String name = method.getName();
+        if (type == void.class || List.class.isAssignableFrom(type) || type == Optional.class || isEntity(type)) {
+            return true;
+        }
+        if (Page.class.isAssignableFrom(type)) {
+            return pageableIndex(method) >= 0;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return name.startsWith("exists");
+        }
+        boolean number = type == long.class || type == Long.class || type == int.class || type == Integer.class;
+        return number && (name.startsWith("count") || name.startsWith("findMax") || method.isAnnotationPresent(Modifying.class));
+    }
+
+    private static boolean isEntity(Class<?> type) {
+        return type == Employee.class || type == EmployeeAudit.class;
+    }
+
+    private int shardOf(Object entity) {
+        if (entity instanceof Employee employee) {
+            if (employee.getId() != null) {
+                return router.shardOf(employee.getId());
+            }
+            // Any shard can take a new employee; staying on the bound one keeps the transaction local
+            Integer bound = ShardContext.current();
+            return bound != null ? bound : router.shardForEmail(employee.getEmail());
+        }
+        if (entity instanceof EmployeeAudit audit) {
+            return router.shardOf(audit.getEmployeeId());
+        }
+        throw new IllegalStateException("No shard key for " + entity.getClass().getSimpleName());
+    }
+
+    private EmailClaim claim(Employee employee, int shard) {
+        boolean inserted = directory.reserve(employee.getEmail(), shard, employee.getId());
+        return new EmailClaim(employee.getEmail(), employee.getId(), inserted);
+    }
+
+    private boolean ownsEmails(MethodInvocation invocation) {
+        return invocation instanceof ProxyMethodInvocation proxyInvocation
+                && proxyInvocation.getProxy() instanceof EmployeeRepository;
+    }
+
+    private static Object proceed(MethodInvocation invocation, Object[] args) throws Throwable {
+        if (args != invocation.getArguments()) {
+            ((ProxyMethodInvocation) invocation).setArguments(args);
+        }
+        return invocation.proceed();
+    }
+
+    private static boolean isRead(Method method) {
+        return READ_PREFIXES.stream().anyMatch(method.getName()::startsWith);
+    }
+
+    private static int pageableIndex(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            if (Pageable.class.isAssignableFrom(types[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private record DeclaredOrder(Sort sort, Integer maxResults) {
+
+        static final DeclaredOrder NONE = new DeclaredOrder(Sort.unsorted(), null);
+
+    }
+
+    /**
+     * Directory entry taken for a save. A new entry is released if the save rolls back; once it
+     * commits, the entries for the employee's previous emails are dropped.
+     */
+    private final class EmailClaim {
+
+        private final String email;
+
+        private final boolean inserted;
+
+        private Long employeeId;
+
+        private EmailClaim(String email, Long employeeId, boolean inserted) {
+            this.email = email;
+            this.employeeId = employeeId;
+            this.inserted = inserted;
+        }
+
+        private void saved(Long id) {
+            if (inserted && employeeId == null && id != null) {
+                directory.assign(email, id);
+            }
+            employeeId = id;
+        }
+
+        private void complete() {
+            if (!inserted || employeeId == null) {
+                return;
+            }
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                directory.releaseOthers(employeeId, email);
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        directory.releaseOthers(employeeId, email);
+                    } else {
+                        directory.release(email, employeeId);
+                    }
+                }
+            });
+        }
+
+        private void release() {
+            if (inserted) {
+                directory.release(email, employeeId);
+            }
+        }
+
+    }
+
+}
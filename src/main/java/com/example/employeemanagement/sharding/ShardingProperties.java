@@ -0,0 +1,37 @@
+package com.example.employeemanagement.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    // An employee lives on shard id % shards.size(), so the list can only grow by moving rows
+    private List<Shard> shards = new ArrayList<>();
+
+    // Workers for cross-shard reads; each holds at most one shard connection at a time
+    private int scatterThreads = 8;
+
+    private Duration scatterTimeout = Duration.ofSeconds(10);
+
+    @Data
+    public static class Shard {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+    }
+
+}
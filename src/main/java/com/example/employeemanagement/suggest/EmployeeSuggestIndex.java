@@ -0,0 +1,292 @@
+package com.example.employeemanagement.suggest;
+
+import com.example.employeemanagement.datasource.RoutingContext;
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.EmployeeSuggestion;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.event.EmployeeChangedEvent;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Typeahead over active employees: a {@link PrefixTrie} from first name, last name, full name and
+ * email local part to the best {@code top-k} employees by last name, first name and id.
+ * <p>
+ * A single updater thread owns every change to the index. It loads the index once the application
+ * is ready; until then suggestions come from a search query. After that, each committed write
+ * queues the employees it names and the updater re-reads them and replaces their entries, so the
+ * index follows service writes without rescanning the table and without adding queries to the
+ * write. Ids queued during a reload are applied after it, and a re-read always happens after the
+ * commit that queued it, so the index converges on the committed state. Writes made by other
+ * instances are picked up by the periodic reload.
+ */
+@Component
+@Slf4j
+public class EmployeeSuggestIndex {
+
+    public static final Comparator<EmployeeSuggestion> RANKING = Comparator
+            .comparing(EmployeeSuggestion::getLastName, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(EmployeeSuggestion::getFirstName, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(EmployeeSuggestion::getId);
+
+    private static final Sort FALLBACK_SORT = Sort.by("lastName", "firstName", "id");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final EmployeeSuggestProperties properties;
+
+    private final EmployeeRepository employeeRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    private final ScheduledExecutorService updater = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "suggest-index-updater");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Replaced by reloads; written by the updater thread only, under the write lock
+    private PrefixTrie<EmployeeSuggestion> trie;
+
+    private Map<Long, EmployeeSuggestion> entries = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public EmployeeSuggestIndex(EmployeeSuggestProperties properties, EmployeeRepository employeeRepository,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.employeeRepository = employeeRepository;
+        this.trie = new PrefixTrie<>(RANKING, properties.getTopK());
+        meterRegistry.gauge("employee.suggest.entries", this, index -> index.read(() -> index.entries.size()));
+        meterRegistry.gauge("employee.suggest.nodes", this, index -> index.read(() -> index.trie.nodeCount()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        rebuild();
+        long reload = properties.getReloadInterval().toMillis();
+        if (reload > 0) {
+            updater.scheduleWithFixedDelay(RoutingContext.isolated(this::reload), reload, reload, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        updater.shutdownNow();
+    }
+
+    /**
+     * Up to {@code limit} active employees, capped at {@code top-k}, with a first name, last name,
+     * full name or email local part starting with {@code query}, ignoring case and extra spaces.
+     */
+    public List<EmployeeSuggestion> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, properties.getTopK()));
+        if (!ready) {
+            EmployeeFilter filter = EmployeeFilter.of(null, EmployeeStatus.ACTIVE, prefix, false);
+            return employeeRepository.findResponses(filter, PageRequest.of(0, size, FALLBACK_SORT))
+                    .map(EmployeeSuggestIndex::toSuggestion)
+                    .getContent();
+        }
+        return read(() -> trie.find(prefix, size));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Reloads every active employee into a new index and swaps it in; completes once swapped.
+     */
+    public CompletableFuture<Void> rebuild() {
+        return CompletableFuture.runAsync(RoutingContext.isolated(this::reload), updater);
+    }
+
+    /**
+     * Completes once the writes queued so far are in the index.
+     */
+    public CompletableFuture<Void> flush() {
+        return CompletableFuture.runAsync(RoutingContext.isolated(this::refresh), updater);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        pending.addAll(event.employeeIds());
+        if (refreshPending.compareAndSet(false, true)) {
+            updater.execute(RoutingContext.isolated(this::refresh));
+        }
+    }
+
+    private void reload() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.error("Loading the suggestion index failed", e);
+        }
+    }
+
+    private void load() {
+        PrefixTrie<EmployeeSuggestion> built = new PrefixTrie<>(RANKING, properties.getTopK());
+        Map<Long, EmployeeSuggestion> loaded = new HashMap<>();
+        int batchSize = properties.getLoadBatchSize();
+        long cursor = 0;
+        List<Employee> batch;
+        do {
+            batch = new ArrayList<>(employeeRepository.findByIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(cursor, Limit.of(batchSize)));
+            // With sharding every shard returns its own first rows; only the lowest ids overall are complete
+            batch.sort(Comparator.comparing(Employee::getId));
+            if (batch.size() > batchSize) {
+                batch = batch.subList(0, batchSize);
+            }
+            for (Employee employee : batch) {
+                if (employee.getStatus() == EmployeeStatus.ACTIVE) {
+                    add(built, loaded, toSuggestion(employee));
+                }
+            }
+            if (!batch.isEmpty()) {
+                cursor = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == batchSize);
+        write(() -> {
+            trie = built;
+            entries = loaded;
+        });
+        ready = true;
+        log.debug("Suggestion index loaded: employees={}, terms={}, nodes={}", loaded.size(), built.size(), built.nodeCount());
+    }
+
+    public static List<String> termsOf(EmployeeSuggestion suggestion) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.add(normalize(suggestion.getFirstName()));
+        terms.add(normalize(suggestion.getLastName()));
+        terms.add(normalize(suggestion.getFirstName() + " " + suggestion.getLastName()));
+        String email = suggestion.getEmail() != null ? suggestion.getEmail() : "";
+        int at = email.indexOf('@');
+        terms.add(normalize(at >= 0 ? email.substring(0, at) : email));
+        terms.remove("");
+        return List.copyOf(terms);
+    }
+
+    private void refresh() {
+        refreshPending.set(false);
+        List<Long> ids = new ArrayList<>(pending);
+        if (ids.isEmpty()) {
+            return;
+        }
+        pending.removeAll(ids);
+        try {
+            Map<Long, EmployeeSuggestion> current = employeeRepository.findResponsesByIds(ids, false).stream()
+                    .filter(response -> response.getStatus() == EmployeeStatus.ACTIVE)
+                    .map(EmployeeSuggestIndex::toSuggestion)
+                    .collect(Collectors.toMap(EmployeeSuggestion::getId, Function.identity()));
+            write(() -> ids.forEach(id -> replace(id, current.get(id))));
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh suggestions for {} employees", ids.size(), e);
+        }
+    }
+
+    private void replace(Long id, EmployeeSuggestion next) {
+        EmployeeSuggestion previous = entries.get(id);
+        if (previous != null && previous.equals(next)) {
+            return;
+        }
+        if (previous != null) {
+            for (String term : termsOf(previous)) {
+                trie.remove(term, previous);
+            }
+            entries.remove(id);
+        }
+        if (next != null) {
+            add(trie, entries, next);
+        }
+    }
+
+    private static void add(PrefixTrie<EmployeeSuggestion> trie, Map<Long, EmployeeSuggestion> entries, EmployeeSuggestion suggestion) {
+        for (String term : termsOf(suggestion)) {
+            trie.add(term, suggestion);
+        }
+        entries.put(suggestion.getId(), suggestion);
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable writer) {
+        lock.writeLock().lock();
+        try {
+            writer.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(value.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static EmployeeSuggestion toSuggestion(Employee employee) {
+        return new EmployeeSuggestion(employee.getId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getDepartment());
+    }
+
+    private static EmployeeSuggestion toSuggestion(EmployeeResponse response) {
+        return new EmployeeSuggestion(response.getId(), response.getFirstName(), response.getLastName(),
+                response.getEmail(), response.getDepartment());
+    }
+
+}
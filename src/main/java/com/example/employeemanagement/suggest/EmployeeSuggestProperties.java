@@ -0,0 +1,23 @@
+package com.example.employeemanagement.suggest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.suggest")
+public class EmployeeSuggestProperties {
+
+    // When disabled, suggestions are answered by a search query instead of the in-memory index
+    private boolean enabled = true;
+
+    // Suggestions kept per prefix, and the most a request can ask for
+    private int topK = 10;
+
+    private int loadBatchSize = 1000;
+
+    // Upper bound on staleness for writes this instance never sees, e.g. from other instances; 0 disables
+    private Duration reloadInterval = Duration.ofMinutes(10);
+
+}
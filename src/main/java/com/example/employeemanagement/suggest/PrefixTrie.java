@@ -0,0 +1,362 @@
+package com.example.employeemanagement.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Radix tree from terms to values that answers "the best {@code k} values whose term starts with
+ * this prefix" without visiting the subtree.
+ * <p>
+ * Edges carry whole labels, so nodes exist only where terms branch or end. A node whose subtree
+ * holds more than {@code k} terms keeps its best {@code k} distinct values, kept current on every
+ * add and recomputed from its children when a value in it is removed. Smaller subtrees keep
+ * nothing extra and are collected on demand, which visits at most {@code k} terms. A value added
+ * under several terms is returned once; the ranking must order distinct values apart, because
+ * values it ranks equal are taken to be the same value. Not thread-safe.
+ */
+public final class PrefixTrie<T> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private static final class Node {
+
+        String label;
+
+        // Sorted by the first character of their labels
+        Node[] children;
+
+        // Values whose term ends at this node
+        Object[] terminal;
+
+        // Terms in the subtree
+        int size;
+
+        // Best k values in the subtree, only while size > k
+        Object[] top;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+    }
+
+    private final Comparator<? super T> ranking;
+
+    private final int k;
+
+    private final Node root = new Node("");
+
+    private int nodes = 1;
+
+    public PrefixTrie(Comparator<? super T> ranking, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        this.ranking = ranking;
+        this.k = k;
+    }
+
+    public void add(String term, T value) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int at = 0;
+        while (at < term.length()) {
+            int index = childIndex(node, term.charAt(at));
+            if (index < 0) {
+                Node leaf = new Node(term.substring(at));
+                insertChild(node, -index - 1, leaf);
+                nodes++;
+                node = leaf;
+                path.add(node);
+                break;
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, term, at);
+            if (common < child.label.length()) {
+                child = split(node, index, common);
+            }
+            node = child;
+            path.add(node);
+            at += common;
+        }
+        node.terminal = append(node.terminal, value);
+        root.size++;
+        // Bottom-up, so a node that just outgrew k builds its top from current children
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node onPath = path.get(i);
+            onPath.size++;
+            if (onPath.size > k) {
+                if (onPath.top == null) {
+                    onPath.top = computeTop(onPath);
+                } else {
+                    offer(onPath, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes {@code value} from under {@code term}; returns {@code false} when it was not there.
+     */
+    public boolean remove(String term, T value) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int at = 0;
+        while (at < term.length()) {
+            int index = childIndex(node, term.charAt(at));
+            if (index < 0) {
+                return false;
+            }
+            Node child = node.children[index];
+            if (!term.startsWith(child.label, at)) {
+                return false;
+            }
+            node = child;
+            path.add(node);
+            at += child.label.length();
+        }
+        int position = indexOf(node.terminal, value);
+        if (position < 0) {
+            return false;
+        }
+        node.terminal = removeAt(node.terminal, position);
+        root.size--;
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node onPath = path.get(i);
+            onPath.size--;
+            if (onPath.size <= k) {
+                onPath.top = null;
+            } else if (indexOf(onPath.top, value) >= 0) {
+                onPath.top = computeTop(onPath);
+            }
+            compact(path.get(i - 1), onPath);
+        }
+        return true;
+    }
+
+    /**
+     * Up to {@code limit} distinct values, best first, whose term starts with {@code prefix}. The
+     * empty prefix matches nothing; the root keeps no top values.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> find(String prefix, int limit) {
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        int at = 0;
+        while (at < prefix.length()) {
+            int index = childIndex(node, prefix.charAt(at));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int length = Math.min(child.label.length(), prefix.length() - at);
+            if (!prefix.regionMatches(at, child.label, 0, length)) {
+                return List.of();
+            }
+            node = child;
+            at += length;
+        }
+        Object[] best = node.top != null ? node.top : collect(node);
+        return (List<T>) Collections.unmodifiableList(Arrays.asList(best).subList(0, Math.min(limit, best.length)));
+    }
+
+    /**
+     * Number of terms added and not removed.
+     */
+    public int size() {
+        return root.size;
+    }
+
+    public int nodeCount() {
+        return nodes;
+    }
+
+    private Node split(Node parent, int index, int common) {
+        Node child = parent.children[index];
+        Node middle = new Node(child.label.substring(0, common));
+        child.label = child.label.substring(common);
+        middle.children = new Node[]{child};
+        middle.size = child.size;
+        middle.top = child.top != null ? child.top.clone() : null;
+        parent.children[index] = middle;
+        nodes++;
+        return middle;
+    }
+
+    // Drops a node left without terms and merges one left with a single child into that child
+    private void compact(Node parent, Node node) {
+        if (node.terminal != null || (node.children != null && node.children.length > 1)) {
+            return;
+        }
+        int index = childIndex(parent, node.label.charAt(0));
+        if (node.children == null) {
+            parent.children = removeChild(parent.children, index);
+        } else {
+            Node child = node.children[0];
+            child.label = node.label + child.label;
+            parent.children[index] = child;
+        }
+        nodes--;
+    }
+
+    private void offer(Node node, T value) {
+        Object[] top = node.top;
+        if (indexOf(top, value) >= 0) {
+            return;
+        }
+        int position = 0;
+        while (position < top.length && rank(top[position], value) <= 0) {
+            position++;
+        }
+        if (position == k) {
+            return;
+        }
+        int length = Math.min(top.length + 1, k);
+        Object[] updated = new Object[length];
+        System.arraycopy(top, 0, updated, 0, position);
+        updated[position] = value;
+        System.arraycopy(top, position, updated, position + 1, length - position - 1);
+        node.top = updated;
+    }
+
+    private Object[] computeTop(Node node) {
+        List<Object> candidates = new ArrayList<>();
+        addAll(candidates, node.terminal);
+        if (node.children != null) {
+            for (Node child : node.children) {
+                addAll(candidates, child.top != null ? child.top : collect(child));
+            }
+        }
+        return best(candidates);
+    }
+
+    private Object[] collect(Node node) {
+        List<Object> values = new ArrayList<>();
+        collectInto(node, values);
+        return best(values);
+    }
+
+    private void collectInto(Node node, List<Object> values) {
+        addAll(values, node.terminal);
+        if (node.children != null) {
+            for (Node child : node.children) {
+                collectInto(child, values);
+            }
+        }
+    }
+
+    private Object[] best(List<Object> values) {
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+        values.sort(this::rank);
+        List<Object> distinct = new ArrayList<>(Math.min(k, values.size()));
+        for (Object value : values) {
+            if (distinct.isEmpty() || rank(distinct.get(distinct.size() - 1), value) != 0) {
+                distinct.add(value);
+                if (distinct.size() == k) {
+                    break;
+                }
+            }
+        }
+        return distinct.toArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private int rank(Object left, Object right) {
+        return ranking.compare((T) left, (T) right);
+    }
+
+    private static void addAll(List<Object> values, Object[] additions) {
+        if (additions != null) {
+            Collections.addAll(values, additions);
+        }
+    }
+
+    private static int childIndex(Node node, char first) {
+        Node[] children = node.children;
+        if (children == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char candidate = children[middle].label.charAt(0);
+            if (candidate < first) {
+                low = middle + 1;
+            } else if (candidate > first) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -low - 1;
+    }
+
+    private static void insertChild(Node node, int index, Node child) {
+        Node[] children = node.children == null ? new Node[0] : node.children;
+        Node[] updated = new Node[children.length + 1];
+        System.arraycopy(children, 0, updated, 0, index);
+        updated[index] = child;
+        System.arraycopy(children, index, updated, index + 1, children.length - index);
+        node.children = updated;
+    }
+
+    private static Node[] removeChild(Node[] children, int index) {
+        if (children.length == 1) {
+            return null;
+        }
+        Node[] updated = new Node[children.length - 1];
+        System.arraycopy(children, 0, updated, 0, index);
+        System.arraycopy(children, index + 1, updated, index, children.length - index - 1);
+        return updated;
+    }
+
+    private static int commonPrefix(String label, String term, int at) {
+        int length = Math.min(label.length(), term.length() - at);
+        int common = 0;
+        while (common < length && label.charAt(common) == term.charAt(at + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    private static int indexOf(Object[] values, Object value) {
+        if (values != null) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i].equals(value)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static Object[] append(Object[] values, Object value) {
+        if (values == null) {
+            return new Object[]{value};
+        }
+        Object[] updated = Arrays.copyOf(values, values.length + 1);
+        updated[values.length] = value;
+        return updated;
+    }
+
+    private static Object[] removeAt(Object[] values, int index) {
+        if (values.length == 1) {
+            return null;
+        }
+        Object[] updated = new Object[values.length - 1];
+        System.arraycopy(values, 0, updated, 0, index);
+        System.arraycopy(values, index + 1, updated, index, values.length - index - 1);
+        return updated;
+    }
+
+}
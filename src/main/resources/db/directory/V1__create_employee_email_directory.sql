@@ -0,0 +1,8 @@
+-- Global email directory for sharded deployments; lives in its own database
+CREATE TABLE employee_email_directory (
+    email_key VARCHAR(255) PRIMARY KEY,
+    shard INTEGER NOT NULL,
+    employee_id BIGINT
+);
+
+CREATE INDEX idx_employee_email_directory_employee ON employee_email_directory (employee_id);
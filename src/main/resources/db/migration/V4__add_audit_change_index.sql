@@ -0,0 +1,2 @@
+-- Covers the delta sync scan (id range -> employee_id) without touching the snapshot columns
+CREATE INDEX idx_employee_audit_id_employee ON employee_audit (id, employee_id);
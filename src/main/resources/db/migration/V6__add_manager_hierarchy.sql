@@ -0,0 +1,6 @@
+-- manager_path lists the ids from the top of the reporting chain down to the direct manager, e.g. /1/5/
+ALTER TABLE employees ADD COLUMN manager_id BIGINT;
+ALTER TABLE employees ADD COLUMN manager_path VARCHAR(1000) NOT NULL DEFAULT '/';
+CREATE INDEX idx_employees_manager_id ON employees (manager_id);
+-- Subtree queries are range scans on a path prefix
+CREATE INDEX idx_employees_manager_path ON employees (manager_path);
@@ -0,0 +1,41 @@
+-- Employees soft-deleted for longer than the retention period, moved out of the hot table in chunks.
+-- Emails are not unique here: an archived employee's email is free for reuse in employees.
+CREATE TABLE employees_archive (
+    id BIGINT PRIMARY KEY,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone VARCHAR(20),
+    date_of_birth DATE,
+    hire_date DATE NOT NULL,
+    job_title VARCHAR(100) NOT NULL,
+    department VARCHAR(100) NOT NULL,
+    salary DECIMAL(10,2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    deleted_at TIMESTAMP NOT NULL,
+    deleted_by VARCHAR(100),
+    manager_id BIGINT,
+    manager_path VARCHAR(1000) NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE employee_audit_archive (
+    id BIGINT PRIMARY KEY,
+    employee_id BIGINT NOT NULL,
+    audit_type VARCHAR(20) NOT NULL,
+    performed_by VARCHAR(100),
+    performed_at TIMESTAMP NOT NULL,
+    before_snapshot TEXT,
+    after_snapshot TEXT,
+    description VARCHAR(500)
+);
+
+CREATE INDEX idx_employee_audit_archive_employee_id ON employee_audit_archive (employee_id);
+
+-- The archival job walks soft-deleted rows oldest first; NULLs (live rows) sort out of the way
+CREATE INDEX idx_employees_deleted_at ON employees (deleted_at, id);
+
+-- Audit rows follow their employee into the archive, and the history endpoint reads by employee
+CREATE INDEX idx_employee_audit_employee_id ON employee_audit (employee_id);
@@ -0,0 +1,2 @@
+-- Lets the audit segment archiver find the oldest rows without scanning the table
+CREATE INDEX idx_employee_audit_performed_at ON employee_audit (performed_at, id);
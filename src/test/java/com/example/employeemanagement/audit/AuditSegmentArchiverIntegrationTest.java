@@ -0,0 +1,111 @@
+package com.example.employeemanagement.audit;
+
+import com.example.employeemanagement.repository.EmployeeAuditRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"app.grpc.port=-1", "app.audit-segments.retention=0s",
+        "app.audit-segments.directory=target/audit-segments/${random.uuid}"})
+// The stream keeps writing after perform() returns, so printing the result would race it
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+class AuditSegmentArchiverIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeAuditRepository auditRepository;
+
+    @Autowired
+    private AuditSegmentArchiver archiver;
+
+    @Autowired
+    private AuditSegmentStore segmentStore;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void historyMergesSegmentsWithTheAuditTable() throws Exception {
+        long id = createEmployee();
+        archiver.archiveExpired();
+        LocalDateTime archivedAt = LocalDateTime.now();
+        assertThat(auditRepository.findByEmployeeIdOrderByPerformedAtDesc(id)).isEmpty();
+
+        mockMvc.perform(patch("/api/v1/employees/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"jobTitle\": \"Director\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/employees/" + id + "/history"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].auditType").value("UPDATE"))
+                .andExpect(jsonPath("$[0].afterSnapshot.jobTitle").value("Director"))
+                .andExpect(jsonPath("$[1].auditType").value("CREATE"))
+                .andExpect(jsonPath("$[1].afterSnapshot.jobTitle").value("Manager"));
+        mockMvc.perform(get("/api/v1/employees/" + id + "/history").param("asOf", archivedAt.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].afterSnapshot.jobTitle").value("Manager"));
+
+        // A delta token from before the archived rows could silently miss them
+        mockMvc.perform(get("/api/v1/employees/delta").param("since", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void changeFeedResetsClientsResumingFromBeforeArchivedRows() throws Exception {
+        createEmployee();
+        archiver.archiveExpired();
+
+        MvcResult stream = mockMvc.perform(get("/api/v1/employees/changes/stream").header("Last-Event-ID", 0))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = stream.getResponse().getContentAsString();
+        // An event is written in several chunks; wait until the last one read has ended
+        while ((!body.contains("event:reset") || !body.endsWith("\n\n")) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = stream.getResponse().getContentAsString();
+        }
+        assertThat(body).contains("event:reset\ndata:{\"archivedUpToId\":" + segmentStore.getArchivedUpToId() + "}");
+        assertThat(body).doesNotContain("event:create");
+    }
+
+    private long createEmployee() throws Exception {
+        String json = """
+                {"firstName": "Jane", "lastName": "Smith", "email": "jane.smith@example.com", "hireDate": "2021-01-01",
+                 "jobTitle": "Manager", "department": "HR", "salary": 80000, "status": "ACTIVE"}
+                """;
+        String location = mockMvc.perform(post("/api/v1/employees").contentType(MediaType.APPLICATION_JSON).content(json))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader("Location");
+        return Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.example.employeemanagement.audit;
+
+import com.example.employeemanagement.entity.AuditType;
+import com.example.employeemanagement.entity.EmployeeAudit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditSegmentStoreTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 9, 0, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void findsEveryRowOfAnEmployeeAcrossBlocksSegmentsAndRestarts() {
+        List<EmployeeAudit> first = audits(1, 600);
+        List<EmployeeAudit> second = audits(601, 300);
+        AuditSegmentStore store = store();
+        store.append(first);
+        store.append(second);
+
+        AuditSegmentStore reopened = store();
+        reopened.load();
+        assertThat(reopened.segments()).hasSize(2);
+        assertThat(reopened.getArchivedUpToId()).isEqualTo(900);
+        assertThat(reopened.newestSegmentIds()).containsExactlyInAnyOrderElementsOf(second.stream().map(EmployeeAudit::getId).toList());
+
+        List<EmployeeAudit> all = new ArrayList<>(first);
+        all.addAll(second);
+        for (long employeeId = 0; employeeId <= 40; employeeId++) {
+            long id = employeeId;
+            List<EmployeeAudit> expected = all.stream().filter(audit -> audit.getEmployeeId() == id).toList();
+            assertThat(reopened.findByEmployeeId(employeeId, null))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void skipsSegmentsPerformedAfterTheGivenTime() {
+        AuditSegmentStore store = store();
+        List<EmployeeAudit> older = audits(1, 600);
+        store.append(older);
+        store.append(audits(601, 600));
+
+        LocalDateTime asOf = START.plusMinutes(600);
+        assertThat(store.findByEmployeeId(7, asOf))
+                .extracting(EmployeeAudit::getId)
+                .containsExactlyInAnyOrderElementsOf(older.stream()
+                        .filter(audit -> audit.getEmployeeId() == 7)
+                        .map(EmployeeAudit::getId)
+                        .toList());
+    }
+
+    @Test
+    void compressesRepetitiveSnapshots() {
+        List<EmployeeAudit> audits = audits(1, 2000);
+        long raw = audits.stream()
+                .mapToLong(audit -> audit.getBeforeSnapshot().length() + audit.getAfterSnapshot().length() + audit.getDescription().length())
+                .sum();
+
+        AuditSegment segment = store().append(audits);
+
+        assertThat(segment.sizeInBytes()).isLessThan(raw / 5);
+    }
+
+    private AuditSegmentStore store() {
+        AuditSegmentProperties properties = new AuditSegmentProperties();
+        properties.setDirectory(directory.toString());
+        properties.setBlockRows(16);
+        return new AuditSegmentStore(properties, new SimpleMeterRegistry());
+    }
+
+    // Rows in audit id order, spread over employees 0..39 at one minute apart
+    private static List<EmployeeAudit> audits(long firstId, int count) {
+        Random random = new Random(firstId);
+        List<EmployeeAudit> audits = new ArrayList<>(count);
+        for (long id = firstId; id < firstId + count; id++) {
+            long employeeId = random.nextInt(40);
+            String snapshot = ("{\"id\":%d,\"firstName\":\"Jane\",\"lastName\":\"Smith\",\"email\":\"jane.smith%d@example.com\","
+                    + "\"jobTitle\":\"Manager\",\"department\":\"HR\",\"salary\":%d,\"status\":\"ACTIVE\"}")
+                    .formatted(employeeId, employeeId, 50_000 + random.nextInt(50_000));
+            audits.add(EmployeeAudit.builder()
+                    .id(id)
+                    .employeeId(employeeId)
+                    .auditType(AuditType.UPDATE)
+                    .performedBy(id % 7 == 0 ? null : "system")
+                    .performedAt(START.plusMinutes(id))
+                    .beforeSnapshot(snapshot)
+                    .afterSnapshot(snapshot.replace("Manager", "Director"))
+                    .description("Employee updated: Jane Smith")
+                    .build());
+        }
+        audits.sort(Comparator.comparing(EmployeeAudit::getId));
+        return audits;
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.EmployeeManagementApplication;
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import jakarta.persistence.criteria.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtered listing through a Criteria {@link Specification} built per request, as
+ * {@code getAllEmployees} used to do, against the precompiled query templates behind
+ * {@link EmployeeRepository#findEmployees}. Both run the page and count queries on an in-memory
+ * H2 database, so the difference is the per-request cost of building and translating the query.
+ * <p>
+ * Run with {@code mvn -Pbenchmark verify -DskipTests -Djmh.includes=EmployeeFilterQueryBenchmark -Djmh.args="-prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeFilterQueryBenchmark {
+
+    private static final int EMPLOYEES = 1_000;
+
+    @Param({"status", "department+search", "department+status+search+includeInactive"})
+    private String filters;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeRepository employeeRepository;
+
+    private TransactionTemplate readOnly;
+
+    private EmployeeFilter filter;
+
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.employeemanagement=WARN",
+                        "app.grpc.enabled=false",
+                        "app.jfr.continuous=false")
+                .run();
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(employee(i));
+        }
+        employeeRepository.saveAll(employees);
+        List<String> names = List.of(filters.split("\\+"));
+        filter = EmployeeFilter.of(
+                names.contains("department") ? "engineering" : null,
+                names.contains("status") ? EmployeeStatus.ACTIVE : null,
+                names.contains("search") ? "last1" : null,
+                names.contains("includeInactive"));
+        pageable = PageRequest.of(0, 20, Sort.by("lastName", "id"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Employee> specification() {
+        return readOnly.execute(status -> employeeRepository.findAll(specification(filter), pageable));
+    }
+
+    @Benchmark
+    public Page<Employee> template() {
+        return readOnly.execute(status -> employeeRepository.findEmployees(filter, pageable));
+    }
+
+    private static Specification<Employee> specification(EmployeeFilter filter) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getDepartment() != null) {
+                predicates.add(criteriaBuilder.equal(criteriaBuilder.lower(root.get("department")), filter.getDepartment().toLowerCase()));
+            }
+            if (filter.getStatus() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), filter.getStatus()));
+            }
+            if (!filter.isIncludeInactive()) {
+                predicates.add(criteriaBuilder.isNull(root.get("deletedAt")));
+            }
+            if (filter.getSearch() != null) {
+                String pattern = "%" + filter.getSearch().toLowerCase() + "%";
+                predicates.add(criteriaBuilder.or(
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("firstName")), pattern),
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("lastName")), pattern),
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("email")), pattern)));
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static Employee employee(int i) {
+        return Employee.builder()
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .email("employee" + i + "@example.com")
+                .phone(i % 3 == 0 ? null : "+1-555-01" + (i % 100))
+                .dateOfBirth(LocalDate.of(1980 + i % 20, 1 + i % 12, 1 + i % 28))
+                .hireDate(LocalDate.of(2015 + i % 8, 1 + i % 12, 1 + i % 28))
+                .jobTitle("Software Engineer")
+                .department(i % 2 == 0 ? "Engineering" : "Finance")
+                .salary(BigDecimal.valueOf(6_000_000L + i * 137L, 2))
+                .status(i % 5 == 0 ? EmployeeStatus.INACTIVE : EmployeeStatus.ACTIVE)
+                .deletedAt(i % 10 == 0 ? Instant.now() : null)
+                .build();
+    }
+
+}
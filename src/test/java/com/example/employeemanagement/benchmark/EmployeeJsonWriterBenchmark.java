@@ -0,0 +1,90 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.config.JsonConfig;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.PagedResponse;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of a page of {@link EmployeeResponse} with the reflective bean serializer plus
+ * {@code JavaTimeModule} against the serializers of {@code EmployeeJsonModule}. Pages are written
+ * to a discarding stream, as the servlet output stream would receive them, so the numbers cover
+ * serialization only. Compare {@code gc.alloc.rate.norm} with {@code -Djmh.args="-prof gc"}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark verify -DskipTests -Djmh.includes=EmployeeJsonWriterBenchmark -Djmh.args="-prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeJsonWriterBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final ObjectMapper reflective = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final ObjectMapper specialized = JsonConfig.configure(new ObjectMapper())
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final OutputStream out = OutputStream.nullOutputStream();
+
+    private PagedResponse<EmployeeResponse> page;
+
+    @Setup
+    public void setUp() {
+        List<EmployeeResponse> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(employee(i));
+        }
+        page = new PagedResponse<>(content, 0, pageSize, 10_000, 10_000 / pageSize, true, false);
+    }
+
+    @Benchmark
+    public void reflective() throws Exception {
+        reflective.writeValue(out, page);
+    }
+
+    @Benchmark
+    public void specialized() throws Exception {
+        specialized.writeValue(out, page);
+    }
+
+    private static EmployeeResponse employee(int i) {
+        return new EmployeeResponse(100_000L + i, "First" + i, "Last" + i, "employee" + i + "@example.com",
+                i % 3 == 0 ? null : "+1-555-01" + (i % 100),
+                LocalDate.of(1980 + i % 20, 1 + i % 12, 1 + i % 28), LocalDate.of(2015 + i % 8, 1 + i % 12, 1 + i % 28),
+                "Software Engineer", i % 2 == 0 ? "Engineering" : "Finance", BigDecimal.valueOf(6_000_000L + i * 137L, 2),
+                EmployeeStatus.ACTIVE, LocalDateTime.of(2023, 1, 1, 9, 30, 15, 123_456_000),
+                LocalDateTime.of(2023, 6, 1, 17, 5, 42, 987_654_000), i % 10 == 0 ? null : 100_000L + i / 10);
+    }
+
+}
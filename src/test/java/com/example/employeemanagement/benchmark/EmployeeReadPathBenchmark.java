@@ -0,0 +1,130 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.EmployeeManagementApplication;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.mapper.EmployeeMapper;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity read path (managed {@link Employee} plus {@link EmployeeMapper}) against the projection
+ * path that selects straight into {@link EmployeeResponse}, through the service layer on an
+ * in-memory H2 database. Run with {@code -Djmh.args="-prof gc"} to compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per operation.
+ * <p>
+ * Run with {@code mvn -Pbenchmark verify -DskipTests -Djmh.includes=EmployeeReadPathBenchmark -Djmh.args="-prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeReadPathBenchmark {
+
+    private static final int EMPLOYEES = 1_000;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeService employeeService;
+
+    private EmployeeMapper employeeMapper;
+
+    private Pageable pageable;
+
+    private long employeeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.employeemanagement=WARN",
+                        "app.grpc.enabled=false",
+                        "app.jfr.continuous=false")
+                .run();
+        employeeService = context.getBean(EmployeeService.class);
+        employeeMapper = context.getBean(EmployeeMapper.class);
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(employee(i));
+        }
+        employeeId = context.getBean(EmployeeRepository.class).saveAll(employees).get(EMPLOYEES / 2).getId();
+        pageable = PageRequest.of(1, pageSize, Sort.by("id"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<EmployeeResponse> pageViaEntities() {
+        return employeeService.getAllEmployees(pageable, null, EmployeeStatus.ACTIVE, null, false)
+                .map(employeeMapper::toResponse);
+    }
+
+    @Benchmark
+    public Page<EmployeeResponse> pageViaProjection() {
+        return employeeService.getEmployeeResponses(pageable, null, EmployeeStatus.ACTIVE, null, false);
+    }
+
+    @Benchmark
+    public EmployeeResponse byIdViaEntity() {
+        return employeeMapper.toResponse(employeeService.getEmployeeById(employeeId));
+    }
+
+    @Benchmark
+    public EmployeeResponse byIdViaProjection() {
+        return employeeService.getEmployeeResponseById(employeeId);
+    }
+
+    private static Employee employee(int i) {
+        return Employee.builder()
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .email("employee" + i + "@example.com")
+                .phone(i % 3 == 0 ? null : "+1-555-01" + (i % 100))
+                .dateOfBirth(LocalDate.of(1980 + i % 20, 1 + i % 12, 1 + i % 28))
+                .hireDate(LocalDate.of(2015 + i % 8, 1 + i % 12, 1 + i % 28))
+                .jobTitle("Software Engineer")
+                .department(i % 2 == 0 ? "Engineering" : "Finance")
+                .salary(BigDecimal.valueOf(6_000_000L + i * 137L, 2))
+                .status(EmployeeStatus.ACTIVE)
+                .build();
+    }
+
+}
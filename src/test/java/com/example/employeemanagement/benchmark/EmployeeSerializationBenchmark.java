@@ -0,0 +1,141 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.config.JsonConfig;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.PagedResponse;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.mapper.EmployeeProtoMapper;
+import com.example.employeemanagement.proto.EmployeePageMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of one page of {@link EmployeeResponse} in each negotiated format.
+ * Payload sizes are printed once per trial.
+ * <p>
+ * Run with {@code mvn -Pbenchmark verify -DskipTests -Djmh.includes=EmployeeSerializationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final ObjectMapper json = JsonConfig.configure(new ObjectMapper());
+
+    private final ObjectMapper cbor = JsonConfig.configure(new CBORMapper());
+
+    private final ObjectMapper smile = JsonConfig.configure(new SmileMapper());
+
+    private final EmployeeProtoMapper protoMapper = new EmployeeProtoMapper();
+
+    private PagedResponse<EmployeeResponse> page;
+
+    private byte[] jsonBytes;
+
+    private byte[] cborBytes;
+
+    private byte[] smileBytes;
+
+    private byte[] protobufBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<EmployeeResponse> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(employee(i));
+        }
+        page = new PagedResponse<>(content, 0, pageSize, 10_000, 10_000 / pageSize, true, false);
+
+        jsonBytes = json.writeValueAsBytes(page);
+        cborBytes = cbor.writeValueAsBytes(page);
+        smileBytes = smile.writeValueAsBytes(page);
+        protobufBytes = protoMapper.toMessage(page).toByteArray();
+        System.out.printf("%nPayload bytes for %d employees: json=%d cbor=%d smile=%d protobuf=%d%n",
+                pageSize, jsonBytes.length, cborBytes.length, smileBytes.length, protobufBytes.length);
+    }
+
+    @Benchmark
+    public byte[] writeJson() throws Exception {
+        return json.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writeCbor() throws Exception {
+        return cbor.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writeSmile() throws Exception {
+        return smile.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writeProtobuf() {
+        return protoMapper.toMessage(page).toByteArray();
+    }
+
+    @Benchmark
+    public JsonNode readJson() throws Exception {
+        return json.readTree(jsonBytes);
+    }
+
+    @Benchmark
+    public JsonNode readCbor() throws Exception {
+        return cbor.readTree(cborBytes);
+    }
+
+    @Benchmark
+    public JsonNode readSmile() throws Exception {
+        return smile.readTree(smileBytes);
+    }
+
+    @Benchmark
+    public EmployeePageMessage readProtobuf() throws Exception {
+        return EmployeePageMessage.parseFrom(protobufBytes);
+    }
+
+    private static EmployeeResponse employee(int i) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(100_000L + i);
+        response.setFirstName("First" + i);
+        response.setLastName("Last" + i);
+        response.setEmail("employee" + i + "@example.com");
+        response.setPhone(i % 3 == 0 ? null : "+1-555-01" + (i % 100));
+        response.setDateOfBirth(LocalDate.of(1980 + i % 20, 1 + i % 12, 1 + i % 28));
+        response.setHireDate(LocalDate.of(2015 + i % 8, 1 + i % 12, 1 + i % 28));
+        response.setJobTitle("Software Engineer");
+        response.setDepartment(i % 2 == 0 ? "Engineering" : "Finance");
+        response.setSalary(BigDecimal.valueOf(6_000_000L + i * 137L, 2));
+        response.setStatus(EmployeeStatus.ACTIVE);
+        response.setCreatedAt(LocalDateTime.of(2023, 1, 1, 9, 30, 15, 123_456_000));
+        response.setUpdatedAt(LocalDateTime.of(2023, 6, 1, 17, 5, 42, 987_654_000));
+        return response;
+    }
+
+}
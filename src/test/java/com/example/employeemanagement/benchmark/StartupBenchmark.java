@@ -0,0 +1,180 @@
+package com.example.employeemanagement.benchmark;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cold start of the packaged application: a fresh JVM per shot, timed from process launch to the
+ * first {@code 200} from {@code GET /api/v1/employees/{id}}. The resident set size at that point is
+ * printed after every shot. The application runs against an H2 file database that is already
+ * migrated, as a restarted pod finds PostgreSQL.
+ * <ul>
+ *     <li>{@code jar}: plain {@code java -jar}</li>
+ *     <li>{@code aot}: with the Spring AOT initializers ({@code -Dspring.aot.enabled=true})</li>
+ *     <li>{@code aot-cds}: AOT plus the AppCDS archive from the training run</li>
+ * </ul>
+ * The AOT variants need the {@code aot} profile's artifact, so build and run with
+ * {@code mvn -Paot,benchmark verify -DskipTests -Djmh.includes=StartupBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final Path TARGET = Path.of("target");
+
+    private static final Path WORK = TARGET.resolve("startup-benchmark");
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    @Param({"jar", "aot", "aot-cds"})
+    private String launch;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private String databaseUrl;
+
+    private long employeeId;
+
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Files.createDirectories(WORK);
+        Path database = WORK.resolve("employees").toAbsolutePath();
+        Files.deleteIfExists(Path.of(database + ".mv.db"));
+        databaseUrl = "jdbc:h2:file:" + database;
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(databaseUrl, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO employees (first_name, last_name, email, hire_date, job_title, department, salary, status, created_at, updated_at) "
+                + "VALUES ('Stella', 'Start', 'stella@example.com', DATE '2020-01-01', 'Engineer', 'Engineering', 75000, 'ACTIVE', "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        employeeId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM employees", Long.class);
+    }
+
+    @Benchmark
+    public int timeToFirstEmployeeRead() throws Exception {
+        int port = freePort();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        process = new ProcessBuilder(command(port))
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(WORK.resolve(launch + ".log").toFile()))
+                .start();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/employees/" + employeeId))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + ", see " + WORK.resolve(launch + ".log"));
+            }
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return response.statusCode();
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("No successful response within " + STARTUP_TIMEOUT);
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopApplication() throws Exception {
+        if (process == null) {
+            return;
+        }
+        System.out.printf("%s: RSS after first response %d MB%n", launch, residentSetKilobytes(process.pid()) / 1024);
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+        process = null;
+    }
+
+    private List<String> command(int port) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (launch.startsWith("aot")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        if (launch.equals("aot-cds")) {
+            Path archive = TARGET.resolve("application.jsa");
+            if (!Files.exists(archive)) {
+                throw new IllegalStateException(archive + " is missing; build with -Paot");
+            }
+            command.add("-XX:SharedArchiveFile=" + archive);
+        }
+        command.add("-jar");
+        command.add(applicationJar().toString());
+        command.add("--server.port=" + port);
+        command.add("--app.grpc.port=-1");
+        command.add("--spring.datasource.url=" + databaseUrl);
+        command.add("--spring.datasource.username=sa");
+        command.add("--spring.jpa.show-sql=false");
+        command.add("--logging.level.root=WARN");
+        command.add("--logging.level.com.example.employeemanagement=WARN");
+        return command;
+    }
+
+    private static Path applicationJar() throws IOException {
+        try (Stream<Path> files = Files.list(TARGET)) {
+            return files.filter(file -> file.getFileName().toString().matches("employee-management-demo-.*\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Package the application first"));
+        }
+    }
+
+    private static long residentSetKilobytes(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.example.employeemanagement.benchmark;
+
+import com.example.employeemanagement.dto.EmployeeSuggestion;
+import com.example.employeemanagement.suggest.EmployeeSuggestIndex;
+import com.example.employeemanagement.suggest.PrefixTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead lookups and single-employee updates against the {@link PrefixTrie} behind
+ * {@code GET /api/v1/employees/suggest}, with {@code top-k} of 10 over generated employees.
+ * Queries are prefixes of one to six characters of real terms, as a user types them. Setup prints
+ * the heap the index retains.
+ * <p>
+ * Run with {@code mvn -Pbenchmark verify -DskipTests -Djmh.includes=SuggestIndexBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuggestIndexBenchmark {
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael",
+            "Linda", "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas",
+            "Sarah", "Charles", "Karen", "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark", "Margaret"};
+
+    private static final String[] SYLLABLES = {"an", "ber", "cor", "dal", "en", "fitz", "gar", "hol", "ing", "jo",
+            "kas", "ler", "mor", "ney", "ol", "par", "quin", "ros", "son", "ter", "ul", "van", "wes", "yor", "zan"};
+
+    @Param({"10000", "100000"})
+    private int employees;
+
+    private PrefixTrie<EmployeeSuggestion> trie;
+
+    private String[] queries;
+
+    private EmployeeSuggestion[] suggestions;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        suggestions = new EmployeeSuggestion[employees];
+        for (int i = 0; i < employees; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = lastName(random);
+            suggestions[i] = new EmployeeSuggestion((long) i + 1, first, last,
+                    (first + "." + last + i).toLowerCase(Locale.ROOT) + "@example.com", "Engineering");
+        }
+        long before = usedHeap();
+        trie = new PrefixTrie<>(EmployeeSuggestIndex.RANKING, 10);
+        for (EmployeeSuggestion suggestion : suggestions) {
+            for (String term : EmployeeSuggestIndex.termsOf(suggestion)) {
+                trie.add(term, suggestion);
+            }
+        }
+        System.out.printf("%n%d employees: %d terms, %d nodes, ~%d MB retained%n", employees, trie.size(),
+                trie.nodeCount(), (usedHeap() - before) / (1024 * 1024));
+
+        queries = new String[1024];
+        for (int i = 0; i < queries.length; i++) {
+            List<String> terms = EmployeeSuggestIndex.termsOf(suggestions[random.nextInt(employees)]);
+            String term = terms.get(random.nextInt(terms.size()));
+            queries[i] = term.substring(0, Math.min(term.length(), 1 + random.nextInt(6)));
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeSuggestion> suggest() {
+        return trie.find(queries[next++ & (queries.length - 1)], 10);
+    }
+
+    @Benchmark
+    public void reindexEmployee() {
+        EmployeeSuggestion suggestion = suggestions[next++ % employees];
+        List<String> terms = EmployeeSuggestIndex.termsOf(suggestion);
+        for (String term : terms) {
+            trie.remove(term, suggestion);
+        }
+        for (String term : terms) {
+            trie.add(term, suggestion);
+        }
+    }
+
+    private static String lastName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int syllables = 2 + random.nextInt(2);
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -0,0 +1,234 @@
+package com.example.employeemanagement.changefeed;
+
+import com.example.employeemanagement.entity.AuditType;
+import com.example.employeemanagement.entity.EmployeeAudit;
+import com.example.employeemanagement.repository.EmployeeAuditRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"app.grpc.port=-1", "app.change-feed.buffer-size=2", "app.change-feed.send-timeout=200ms"})
+@AutoConfigureMockMvc
+class ChangeFeedIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeAuditRepository auditRepository;
+
+    @Autowired
+    private ChangeFeedBroadcaster broadcaster;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void streamsCommittedChanges() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/v1/employees/changes/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        long id = createEmployee("jane.smith@example.com");
+
+        String body = awaitContent(stream, "event:create");
+        long eventId = auditIds(id).get(0);
+        assertThat(body).contains("id:" + eventId + "\nevent:create\ndata:{\"eventId\":" + eventId + ",\"type\":\"CREATE\",\"employeeId\":" + id);
+        assertThat(body).contains("\"email\":\"jane.smith@example.com\"");
+    }
+
+    @Test
+    void resumesFromLastEventIdUsingTheAuditLog() throws Exception {
+        long id = createEmployee("jane.smith@example.com");
+        mockMvc.perform(patch("/api/v1/employees/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"jobTitle\": \"Director\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/employees/" + id)).andExpect(status().isNoContent());
+        List<Long> auditIds = auditIds(id);
+
+        MvcResult stream = mockMvc.perform(get("/api/v1/employees/changes/stream").header("Last-Event-ID", auditIds.get(0)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitContent(stream, "event:delete");
+        assertThat(body).doesNotContain("event:create");
+        assertThat(body.indexOf("id:" + auditIds.get(1) + "\nevent:update")).isGreaterThanOrEqualTo(0)
+                .isLessThan(body.indexOf("id:" + auditIds.get(2) + "\nevent:delete"));
+        assertThat(body).contains("\"jobTitle\":\"Director\"");
+    }
+
+    @Test
+    void disconnectsSubscribersThatFallBehind() throws Exception {
+        double before = meterRegistry.counter("employee.change.feed.disconnects", "reason", "slow-consumer").count();
+        ChangeFeedSubscription slow = (ChangeFeedSubscription) broadcaster.subscribe(null);
+        slow.ready = true;
+        slow.replaying = false;
+        // Its sender is stuck, so nothing leaves the two-event buffer
+        slow.scheduled.set(true);
+        int subscribers = broadcaster.getSubscriberCount();
+
+        for (int i = 0; i < 3; i++) {
+            createEmployee("employee" + i + "@example.com");
+        }
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!slow.closed && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(slow.closed).isTrue();
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(subscribers - 1);
+        assertThat(meterRegistry.counter("employee.change.feed.disconnects", "reason", "slow-consumer").count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void holdsLaterEventsBackUntilAnEarlierTransactionCommits() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/v1/employees/changes/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Long> slow = auditInOpenTransaction(commit, false);
+        long slowId = awaitAuditId(slow);
+
+        long id = createEmployee("jane.smith@example.com");
+        long laterId = auditIds(id).get(0);
+        // Well past the poll interval; the later row must not overtake the open one
+        Thread.sleep(500);
+        assertThat(broadcaster.getLastPublishedId()).isLessThan(slowId);
+
+        commit.countDown();
+        String body = awaitContent(stream, "id:" + laterId + "\n");
+        assertThat(body.indexOf("id:" + slowId + "\n")).isGreaterThanOrEqualTo(0).isLessThan(body.indexOf("id:" + laterId + "\n"));
+        assertThat(broadcaster.getLastPublishedId()).isGreaterThanOrEqualTo(laterId);
+    }
+
+    @Test
+    void skipsIdsOfRolledBackTransactions() throws Exception {
+        CountDownLatch rollback = new CountDownLatch(1);
+        CompletableFuture<Long> slow = auditInOpenTransaction(rollback, true);
+        long slowId = awaitAuditId(slow);
+
+        long id = createEmployee("jane.smith@example.com");
+        long laterId = auditIds(id).get(0);
+        Thread.sleep(300);
+        assertThat(broadcaster.getLastPublishedId()).isLessThan(slowId);
+
+        rollback.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (broadcaster.getLastPublishedId() < laterId && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(broadcaster.getLastPublishedId()).isGreaterThanOrEqualTo(laterId);
+        assertThat(auditRepository.existsById(slowId)).isFalse();
+    }
+
+    @Test
+    void disconnectsSubscribersWhoseWritesStall() throws Exception {
+        double before = meterRegistry.counter("employee.change.feed.disconnects", "reason", "send-timeout").count();
+        ChangeFeedSubscription stalled = (ChangeFeedSubscription) broadcaster.subscribe(null);
+        int subscribers = broadcaster.getSubscriberCount();
+        // A write that started a while ago and never returned
+        stalled.writeStartedAt.set(System.currentTimeMillis() - 1000);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!stalled.closed && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(stalled.closed).isTrue();
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(subscribers - 1);
+        assertThat(meterRegistry.counter("employee.change.feed.disconnects", "reason", "send-timeout").count()).isEqualTo(before + 1);
+    }
+
+    // Inserts an audit row in a transaction that stays open until the latch is released
+    private CompletableFuture<Long> auditInOpenTransaction(CountDownLatch release, boolean rollback) {
+        CompletableFuture<Long> auditId = new CompletableFuture<>();
+        Thread thread = new Thread(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            EmployeeAudit audit = auditRepository.saveAndFlush(EmployeeAudit.builder()
+                    .employeeId(0L)
+                    .auditType(AuditType.UPDATE)
+                    .performedAt(LocalDateTime.now())
+                    .build());
+            auditId.complete(audit.getId());
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+        }));
+        thread.start();
+        return auditId;
+    }
+
+    private static long awaitAuditId(CompletableFuture<Long> auditId) throws Exception {
+        return auditId.get(5, TimeUnit.SECONDS);
+    }
+
+    private long createEmployee(String email) throws Exception {
+        String json = """
+                {"firstName": "Jane", "lastName": "Smith", "email": "%s", "hireDate": "2021-01-01",
+                 "jobTitle": "Manager", "department": "HR", "salary": 80000, "status": "ACTIVE"}
+                """.formatted(email);
+        String location = mockMvc.perform(post("/api/v1/employees").contentType(MediaType.APPLICATION_JSON).content(json))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader("Location");
+        return Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+    }
+
+    private List<Long> auditIds(long employeeId) {
+        return auditRepository.findByEmployeeIdOrderByPerformedAtDesc(employeeId).stream()
+                .map(EmployeeAudit::getId)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+    }
+
+    private static String awaitContent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = stream.getResponse().getContentAsString();
+        // An event is written in several chunks; wait until the last one read has ended
+        while ((!body.contains(expected) || !body.endsWith("\n\n")) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = stream.getResponse().getContentAsString();
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+
+}
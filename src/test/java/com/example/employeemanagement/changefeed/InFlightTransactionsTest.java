@@ -0,0 +1,62 @@
+package com.example.employeemanagement.changefeed;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InFlightTransactionsTest {
+
+    private static EmbeddedPostgres postgres;
+
+    private static InFlightTransactions inFlightTransactions;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        inFlightTransactions = new InFlightTransactions(dataSource, new JdbcTemplate(dataSource));
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    void listsOpenPostgresTransactionsUntilTheyEnd() throws SQLException {
+        Set<String> before = inFlightTransactions.list();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT 1");
+            }
+            Set<String> open = inFlightTransactions.list();
+            open.removeAll(before);
+            assertThat(open).hasSize(1);
+
+            connection.commit();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT 1");
+            }
+            // Same session, new transaction: a different key
+            Set<String> next = inFlightTransactions.list();
+            next.removeAll(before);
+            assertThat(next).hasSize(1).doesNotContainAnyElementsOf(open);
+        }
+        assertThat(inFlightTransactions.list()).isSubsetOf(before);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.example.employeemanagement.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setRead(new ConcurrencyLimitProperties.Limit(1, 1, 1, Duration.ofSeconds(1), 0, Duration.ZERO));
+        properties.setBulk(new ConcurrencyLimitProperties.Limit(1, 1, 1, Duration.ofSeconds(1), 0, Duration.ZERO));
+        filter = new ConcurrencyLimitFilter(properties, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    @Test
+    void shedsSaturatedEndpointClassWithoutStarvingOthers() throws Exception {
+        List<MockHttpServletResponse> nested = new ArrayList<>();
+        FilterChain holdsReadSlot = (request, response) -> {
+            nested.add(perform("GET", "/api/v1/employees/2"));
+            nested.add(perform("GET", "/api/v1/employees/export"));
+        };
+
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/v1/employees/1"), outer, holdsReadSlot);
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(nested.get(0).getStatus()).isEqualTo(503);
+        assertThat(nested.get(0).getHeader("Retry-After")).isEqualTo("1");
+        assertThat(nested.get(0).getContentAsString()).contains("Too many concurrent requests");
+        assertThat(nested.get(1).getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("api.concurrency.rejections").tag("endpoint", "read").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("api.concurrency.in-flight").tag("endpoint", "read").gauge().value()).isZero();
+    }
+
+    @Test
+    void asyncResponsesHoldTheirSlotUntilComplete() throws Exception {
+        MockHttpServletRequest export = request("GET", "/api/v1/employees/export");
+        export.setAsyncSupported(true);
+        filter.doFilter(export, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+
+        assertThat(perform("GET", "/api/v1/employees/export").getStatus()).isEqualTo(503);
+        export.getAsyncContext().complete();
+        assertThat(perform("GET", "/api/v1/employees/export").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void limitGrowsUnderLoadAndBacksOffOnSlowRequests() throws Exception {
+        AimdLimiter limiter = new AimdLimiter(
+                new ConcurrencyLimitProperties.Limit(10, 2, 20, Duration.ofMillis(100), 0, Duration.ZERO), 0.9);
+        for (int i = 0; i < 6; i++) {
+            assertThat(limiter.acquire()).isTrue();
+        }
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(limiter.getLimit()).isEqualTo(11);
+
+        limiter.release(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.getLimit()).isEqualTo(9);
+
+        // Fast but mostly idle: no growth
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(limiter.getLimit()).isEqualTo(9);
+    }
+
+    private MockHttpServletResponse perform(String method, String uri) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, uri), response, (request, res) -> {
+        });
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+}
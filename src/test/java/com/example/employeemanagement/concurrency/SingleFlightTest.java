@@ -0,0 +1,103 @@
+package com.example.employeemanagement.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, Integer> flights = new SingleFlight<>();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> flights.execute("employee:1", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return 42;
+            })));
+        }
+        awaitInFlight();
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<Integer> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(flights.inFlight()).isZero();
+
+        // Nothing is reused once the call has returned
+        assertThat(flights.execute("employee:1", calls::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    void failuresReachEveryWaiterAndAreNotRemembered() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> leader = executor.submit(() -> flights.execute("employee:1", () -> {
+            await(release);
+            throw new IllegalStateException("database unavailable");
+        }));
+        awaitInFlight();
+        Future<Integer> follower = executor.submit(() -> flights.execute("employee:1", () -> 0));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(flights.inFlight()).isZero();
+        assertThat(flights.execute("employee:1", () -> 7)).isEqualTo(7);
+    }
+
+    @Test
+    void forgottenFlightsAreNotJoined() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> stale = executor.submit(() -> flights.execute("employee:1", () -> {
+            await(release);
+            return 1;
+        }));
+        awaitInFlight();
+
+        flights.forget("employee:1");
+        assertThat(flights.execute("employee:1", () -> 2)).isEqualTo(2);
+        release.countDown();
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flights.inFlight() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.example.employeemanagement.config;
+
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The dev profile's schema must hold the tables that only the migrations create, such as the
+ * archive, which reads of missing or inactive employees fall back to.
+ */
+@SpringBootTest(properties = "app.grpc.port=-1")
+@ActiveProfiles("dev")
+@AutoConfigureMockMvc
+class DevProfileIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    void readsThatFallBackToTheArchiveWork() throws Exception {
+        Employee employee = employeeRepository.findAll().get(0);
+
+        mockMvc.perform(get("/api/v1/employees/{id}", Long.MAX_VALUE)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/employees/{id}", Long.MAX_VALUE).param("includeInactive", "true"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/employees").param("includeInactive", "true")).andExpect(status().isOk());
+        mockMvc.perform(put("/api/v1/employees/{id}/restore", Long.MAX_VALUE)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/employees/{id}/history", employee.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employees/{id}/chain", employee.getId())).andExpect(status().isOk());
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.example.employeemanagement.config;
+
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.PagedResponse;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeJsonModuleTest {
+
+    private final ObjectMapper specialized = JsonConfig.configure(new ObjectMapper());
+
+    private final ObjectMapper reflective = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void writesTheSameJsonAsTheReflectiveSerializer() throws Exception {
+        List<EmployeeResponse> employees = List.of(
+                employee(LocalDateTime.of(2023, 1, 1, 9, 30, 15, 123_456_000), LocalDate.of(1985, 12, 31)),
+                employee(LocalDateTime.of(2023, 6, 1, 0, 0), null),
+                employee(LocalDateTime.of(999, 2, 3, 4, 5, 6, 7), LocalDate.of(10_000, 1, 1)),
+                employee(LocalDateTime.of(2024, 2, 29, 23, 59, 59, 100_000_000), LocalDate.of(1, 1, 1)),
+                new EmployeeResponse());
+
+        for (EmployeeResponse employee : employees) {
+            assertThat(specialized.writeValueAsString(employee)).isEqualTo(reflective.writeValueAsString(employee));
+        }
+        PagedResponse<EmployeeResponse> page = new PagedResponse<>(Arrays.asList(employees.get(0), null, employees.get(1)), 2, 3, 10, 4, false, true);
+        assertThat(specialized.writeValueAsString(page)).isEqualTo(reflective.writeValueAsString(page));
+    }
+
+    @Test
+    void otherContentTypesAndFormatsKeepTheirRegularEncoding() throws Exception {
+        PagedResponse<String> strings = new PagedResponse<>(List.of("a", "b"), 0, 2, 2, 1, true, true);
+        assertThat(specialized.writeValueAsString(strings)).isEqualTo(reflective.writeValueAsString(strings));
+
+        EmployeeResponse employee = employee(LocalDateTime.of(2023, 1, 1, 9, 30, 15), LocalDate.of(1985, 12, 31));
+        ObjectMapper reflectiveCbor = new CBORMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        assertThat(JsonConfig.configure(new CBORMapper()).writeValueAsBytes(employee)).isEqualTo(reflectiveCbor.writeValueAsBytes(employee));
+
+        ObjectMapper timestamps = JsonConfig.configure(new ObjectMapper()).enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        assertThat(timestamps.writeValueAsString(employee))
+                .isEqualTo(reflective.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).writeValueAsString(employee));
+    }
+
+    private static EmployeeResponse employee(LocalDateTime createdAt, LocalDate dateOfBirth) {
+        return new EmployeeResponse(42L, "Zoë", "O\"Brien\\", "zoe@example.com", null, dateOfBirth, LocalDate.of(2020, 1, 1),
+                "Engineer", "R&D\n", new BigDecimal("75000.50"), EmployeeStatus.INACTIVE, createdAt, createdAt.plusNanos(1), 7L);
+    }
+
+}
@@ -1,20 +1,48 @@
 package com.example.employeemanagement.controller;
 
+import com.example.employeemanagement.archive.EmployeeArchiveJob;
+import com.example.employeemanagement.cache.EmployeePageCache;
+import com.example.employeemanagement.changefeed.ChangeFeedBroadcaster;
+import com.example.employeemanagement.config.EmployeeProtobufHttpMessageConverter;
 import com.example.employeemanagement.entity.Employee;
 import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.monitoring.QueryCountFilter;
+import com.example.employeemanagement.monitoring.ServerTimingFilter;
+import com.example.employeemanagement.proto.EmployeePageMessage;
+import com.example.employeemanagement.proto.EmployeeStatusMessage;
+import com.example.employeemanagement.repository.EmployeeAuditRepository;
 import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.suggest.EmployeeSuggestIndex;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
-
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -31,11 +59,34 @@ class EmployeeControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EmployeePageCache employeePageCache;
+
+    @Autowired
+    private EmployeeAuditRepository auditRepository;
+
+    @Autowired
+    private ChangeFeedBroadcaster changeFeedBroadcaster;
+
+    @Autowired
+    private EmployeeSuggestIndex employeeSuggestIndex;
+
+    @Autowired
+    private EmployeeArchiveJob employeeArchiveJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private Employee employee;
 
     @BeforeEach
     void setUp() {
         employeeRepository.deleteAll();
+        // The fixtures are written through the repository, which does not publish change events
+        employeePageCache.invalidateAll();
         employee = Employee.builder()
                 .firstName("John")
                 .lastName("Doe")
@@ -94,6 +145,35 @@ class EmployeeControllerIntegrationTest {
                 .andExpect(jsonPath("$.validationErrors.firstName").exists());
     }
 
+    @Test
+    void testGetAllEmployeesIsCachedUntilDepartmentIsWritten() throws Exception {
+        mockMvc.perform(get("/api/v1/employees").param("department", "Engineering"))
+                .andExpect(header().string(EmployeeController.CACHE_STATUS_HEADER, "MISS"));
+        mockMvc.perform(get("/api/v1/employees").param("department", "ENGINEERING"))
+                .andExpect(header().string(EmployeeController.CACHE_STATUS_HEADER, "HIT"))
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "0"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+        mockMvc.perform(get("/api/v1/employees").param("department", "engineering").header("Cache-Control", "no-cache"))
+                .andExpect(header().string(EmployeeController.CACHE_STATUS_HEADER, "BYPASS"))
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "1"));
+
+        // A write to HR leaves Engineering's pages valid
+        mockMvc.perform(post("/api/v1/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(employeeJson("Jane", "jane.smith@example.com", "HR")))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/employees").param("department", "engineering"))
+                .andExpect(header().string(EmployeeController.CACHE_STATUS_HEADER, "HIT"));
+
+        mockMvc.perform(post("/api/v1/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(employeeJson("Jim", "jim.beam@example.com", "Engineering")))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/employees").param("department", "engineering"))
+                .andExpect(header().string(EmployeeController.CACHE_STATUS_HEADER, "MISS"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
     @Test
     void testGetEmployeeById() throws Exception {
         mockMvc.perform(get("/api/v1/employees/{id}", employee.getId()))
@@ -102,6 +182,33 @@ class EmployeeControllerIntegrationTest {
                 .andExpect(jsonPath("$.email").value("john.doe@example.com"));
     }
 
+    @Test
+    void testGetEmployeeByIdAsCbor() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/employees/{id}", employee.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode node = new CBORMapper().readTree(body);
+        assert node.get("email").asText().equals("john.doe@example.com");
+        assert node.get("hireDate").asText().equals("2020-01-01");
+    }
+
+    @Test
+    void testGetAllEmployeesAsProtobuf() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/employees").accept(EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EmployeeProtobufHttpMessageConverter.APPLICATION_PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        EmployeePageMessage page = EmployeePageMessage.parseFrom(body);
+        assert page.getTotalElements() == 1;
+        assert page.getContent(0).getEmail().equals("john.doe@example.com");
+        assert page.getContent(0).getSalary().equals("75000.00");
+        assert page.getContent(0).getStatus() == EmployeeStatusMessage.EMPLOYEE_STATUS_ACTIVE;
+        assert !page.getContent(0).hasPhone();
+    }
+
     @Test
     void testGetEmployeeByIdNotFound() throws Exception {
         mockMvc.perform(get("/api/v1/employees/{id}", 999L))
@@ -221,4 +328,462 @@ class EmployeeControllerIntegrationTest {
                 .andExpect(jsonPath("$.content[0].status").value("INACTIVE"));
     }
 
+    @Test
+    void testArchivedEmployeesStayReadableAndRestorable() throws Exception {
+        mockMvc.perform(delete("/api/v1/employees/{id}", employee.getId()))
+                .andExpect(status().isNoContent());
+        jdbcTemplate.update("UPDATE employees SET deleted_at = ? WHERE id = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(365))), employee.getId());
+        try {
+            assertEquals(1, employeeArchiveJob.archiveExpired());
+            assertTrue(employeeRepository.findById(employee.getId()).isEmpty());
+
+            mockMvc.perform(get("/api/v1/employees/{id}", employee.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("INACTIVE"));
+            mockMvc.perform(get("/api/v1/employees").param("includeInactive", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(employee.getId()))
+                    .andExpect(jsonPath("$.totalElements").value(1));
+            mockMvc.perform(get("/api/v1/employees"))
+                    .andExpect(jsonPath("$.content").isEmpty());
+
+            mockMvc.perform(put("/api/v1/employees/{id}/restore", employee.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("ACTIVE"));
+            assertTrue(employeeRepository.findById(employee.getId()).isPresent());
+            assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees_archive", Integer.class));
+        } finally {
+            jdbcTemplate.update("DELETE FROM employees_archive");
+        }
+    }
+
+    @Test
+    void testLookupEmployeesKeepsRequestOrderInOneQuery() throws Exception {
+        Employee second = employeeRepository.save(Employee.builder()
+                .firstName("Jane")
+                .lastName("Smith")
+                .email("jane.smith@example.com")
+                .hireDate(LocalDate.of(2021, 1, 1))
+                .jobTitle("Manager")
+                .department("HR")
+                .salary(BigDecimal.valueOf(80000))
+                .status(EmployeeStatus.ACTIVE)
+                .build());
+        mockMvc.perform(delete("/api/v1/employees/{id}", employee.getId()))
+                .andExpect(status().isNoContent());
+        String ids = "[" + second.getId() + ", 999999, " + employee.getId() + ", " + second.getId() + "]";
+
+        mockMvc.perform(post("/api/v1/employees/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": " + ids + "}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "1"))
+                .andExpect(jsonPath("$.employees.length()").value(1))
+                .andExpect(jsonPath("$.employees[0].email").value("jane.smith@example.com"))
+                .andExpect(jsonPath("$.missing[0]").value(999999))
+                .andExpect(jsonPath("$.missing[1]").value(employee.getId()));
+
+        mockMvc.perform(post("/api/v1/employees/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": " + ids + ", \"includeInactive\": true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.employees[1].id").value(employee.getId()))
+                .andExpect(jsonPath("$.missing.length()").value(1));
+
+        mockMvc.perform(post("/api/v1/employees/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testQueryBudgetGetEmployeeById() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/{id}", employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "1"));
+    }
+
+    @Test
+    void testQueryBudgetGetAllEmployees() throws Exception {
+        mockMvc.perform(get("/api/v1/employees"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "1"));
+    }
+
+    @Test
+    void testQueryBudgetCreateEmployee() throws Exception {
+        String json = """
+                {
+                    "firstName": "Jane",
+                    "lastName": "Smith",
+                    "email": "jane.smith@example.com",
+                    "hireDate": "2021-01-01",
+                    "jobTitle": "Manager",
+                    "department": "HR",
+                    "salary": 80000,
+                    "status": "ACTIVE"
+                }
+                """;
+
+        // Email check, insert, audit insert
+        mockMvc.perform(post("/api/v1/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "3"));
+    }
+
+    @Test
+    void testQueryBudgetUpdateEmployee() throws Exception {
+        String json = """
+                {
+                    "lastName": "Updated",
+                    "email": "john.updated@example.com"
+                }
+                """;
+
+        // Load, email check, audit insert, update
+        mockMvc.perform(put("/api/v1/employees/{id}", employee.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "4"));
+    }
+
+    @Test
+    void testQueryBudgetDeleteEmployee() throws Exception {
+        // Load, audit insert, update
+        mockMvc.perform(delete("/api/v1/employees/{id}", employee.getId()))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "3"));
+    }
+
+    @Test
+    void testServerTimingHeader() throws Exception {
+        mockMvc.perform(get("/api/v1/employees"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ServerTimingFilter.SERVER_TIMING_HEADER, containsString("filters;dur=")))
+                .andExpect(header().string(ServerTimingFilter.SERVER_TIMING_HEADER, containsString("db;dur=")))
+                .andExpect(header().string(ServerTimingFilter.SERVER_TIMING_HEADER, containsString("total;dur=")));
+    }
+
+    @Test
+    void testImportEmployees() throws Exception {
+        String csv = """
+                "ID","First Name","Last Name","Email","Phone","Date of Birth","Hire Date","Job Title","Department","Salary","Status","Created At","Updated At","Deleted At","Deleted By"
+                "","Jane","Smith","jane.smith@example.com","","1990-05-01","2021-01-01","Manager","HR","80000","ACTIVE","","","",""
+                "","Bob","Brown","bob.brown@example.com","555-0100","","2022-03-15","Analyst","Finance","65000.50","ACTIVE","","","",""
+                "","","Nobody","not-an-email","","","2022-03-15","Analyst","Finance","65000","ACTIVE","","","",""
+                "","Janet","Smith","JANE.SMITH@example.com","","","2021-01-01","Manager","HR","80000","ACTIVE","","","",""
+                "","John","Again","john.doe@example.com","","","2021-01-01","Engineer","Engineering","70000","ACTIVE","","","",""
+                "","Carl","Day","carl.day@example.com","","","not-a-date","Engineer","Engineering","70000","ACTIVE","","","",""
+                """;
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv", "text/csv", csv.getBytes());
+
+        // Duplicate check, employee batch insert, audit batch insert
+        mockMvc.perform(multipart("/api/v1/employees/import").file(file))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Import-Total-Rows", "6"))
+                .andExpect(header().string("X-Import-Imported-Rows", "2"))
+                .andExpect(header().string("X-Import-Rejected-Rows", "4"))
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "3"))
+                .andExpect(content().string(containsString("\"4\",\"not-an-email\",\"email: must be a well-formed email address; firstName: must not be blank\"")))
+                .andExpect(content().string(containsString("\"5\",\"JANE.SMITH@example.com\",\"Duplicate email in file\"")))
+                .andExpect(content().string(containsString("\"6\",\"john.doe@example.com\",\"Email already exists\"")))
+                .andExpect(content().string(containsString("\"7\",\"carl.day@example.com\",\"Hire Date: invalid date 'not-a-date'\"")));
+
+        assert employeeRepository.findByEmailIgnoreCase("bob.brown@example.com") != null;
+        assert employeeRepository.count() == 3;
+    }
+
+    @Test
+    void testExportEmployeesStreamsCsv() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/employees/export").param("department", "engineering"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"ID\",\"First Name\"")))
+                .andExpect(content().string(containsString("\"" + employee.getId() + "\",\"John\",\"Doe\",\"john.doe@example.com\"")));
+    }
+
+    @Test
+    void testDeltaReturnsChangesAndTombstonesSinceToken() throws Exception {
+        awaitChangeFeed();
+        JsonNode snapshot = objectMapper.readTree(mockMvc.perform(get("/api/v1/employees/delta"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].email").value("john.doe@example.com"))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString());
+        String token = snapshot.get("nextToken").asText();
+
+        mockMvc.perform(post("/api/v1/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(employeeJson("Jane", "jane.smith@example.com", "HR")))
+                .andExpect(status().isCreated());
+        mockMvc.perform(delete("/api/v1/employees/{id}", employee.getId()))
+                .andExpect(status().isNoContent());
+        awaitChangeFeed();
+
+        JsonNode delta = objectMapper.readTree(mockMvc.perform(get("/api/v1/employees/delta").param("since", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.changed[0].email").value("jane.smith@example.com"))
+                .andExpect(jsonPath("$.deleted[0].id").value(employee.getId()))
+                .andExpect(jsonPath("$.deleted[0].deletedAt").isNotEmpty())
+                .andReturn().getResponse().getContentAsString());
+
+        mockMvc.perform(get("/api/v1/employees/delta").param("since", delta.get("nextToken").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").isEmpty())
+                .andExpect(jsonPath("$.deleted").isEmpty());
+        mockMvc.perform(get("/api/v1/employees/delta").param("since", "yesterday"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testDeltaTokenNeverPassesAnUncommittedChange() throws Exception {
+        awaitChangeFeed();
+        String token = objectMapper.readTree(mockMvc.perform(get("/api/v1/employees/delta"))
+                .andReturn().getResponse().getContentAsString()).get("nextToken").asText();
+
+        // An update whose audit id is taken before Jane's, but which commits after it
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> update = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO employee_audit (employee_id, audit_type, performed_at) VALUES (?, 'UPDATE', CURRENT_TIMESTAMP)",
+                    employee.getId());
+            jdbcTemplate.update("UPDATE employees SET job_title = 'Director' WHERE id = ?", employee.getId());
+            try {
+                commit.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS WHERE CONTAINS_UNCOMMITTED", Integer.class) == 0
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        mockMvc.perform(post("/api/v1/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(employeeJson("Jane", "jane.smith@example.com", "HR")))
+                .andExpect(status().isCreated());
+        // Longer than any fixed gap allowance a poller could use
+        Thread.sleep(2500);
+
+        JsonNode early = objectMapper.readTree(mockMvc.perform(get("/api/v1/employees/delta").param("since", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").isEmpty())
+                .andReturn().getResponse().getContentAsString());
+        assertEquals(token, early.get("nextToken").asText());
+
+        commit.countDown();
+        update.get(5, TimeUnit.SECONDS);
+        awaitChangeFeed();
+        mockMvc.perform(get("/api/v1/employees/delta").param("since", early.get("nextToken").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(2))
+                .andExpect(jsonPath("$.changed[0].jobTitle").value("Director"))
+                .andExpect(jsonPath("$.changed[1].email").value("jane.smith@example.com"));
+    }
+
+    @Test
+    void testImportEmployeesRejectsUnknownLayout() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv", "text/csv", "name,email\nJane,jane@example.com\n".getBytes());
+
+        mockMvc.perform(multipart("/api/v1/employees/import").file(file))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testUpsertEmployeesWritesAndAuditsOnlyChangedRows() throws Exception {
+        String john = """
+                {
+                    "firstName": "John",
+                    "lastName": "Doe",
+                    "email": "JOHN.DOE@example.com",
+                    "hireDate": "2020-01-01",
+                    "jobTitle": "Engineer",
+                    "department": "Engineering",
+                    "salary": 75000.00,
+                    "status": "ACTIVE"
+                }
+                """;
+
+        JsonNode first = objectMapper.readTree(mockMvc.perform(post("/api/v1/employees/upsert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"employees\": [" + john + ", " + employeeJson("Jane", "jane.smith@example.com", "HR") + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].id").value(employee.getId()))
+                .andExpect(jsonPath("$.results[0].outcome").value("UNCHANGED"))
+                .andExpect(jsonPath("$.results[1].email").value("jane.smith@example.com"))
+                .andExpect(jsonPath("$.results[1].outcome").value("CREATED"))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.unchanged").value(1))
+                .andReturn().getResponse().getContentAsString());
+        long janeId = first.at("/results/1/id").asLong();
+
+        mockMvc.perform(post("/api/v1/employees/upsert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"employees\": [" + employeeJson("Jane", "Jane.Smith@example.com", "Finance") + ", " + john + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].id").value(janeId))
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("UNCHANGED"))
+                .andExpect(jsonPath("$.updated").value(1));
+
+        Employee jane = employeeRepository.findById(janeId).orElseThrow();
+        assert jane.getDepartment().equals("Finance");
+        assert jane.getEmail().equals("jane.smith@example.com");
+        assert employeeRepository.count() == 2;
+        assert auditRepository.findByEmployeeIdOrderByPerformedAtDesc(employee.getId()).isEmpty();
+        assert auditRepository.findByEmployeeIdOrderByPerformedAtDesc(janeId).stream()
+                .map(audit -> audit.getAuditType().name()).toList().equals(List.of("UPDATE", "CREATE"));
+
+        mockMvc.perform(post("/api/v1/employees/upsert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"employees\": [" + john + ", " + john + "]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testUpsertEmployeesLeavesSoftDeletedEmployeesAlone() throws Exception {
+        mockMvc.perform(delete("/api/v1/employees/{id}", employee.getId()))
+                .andExpect(status().isNoContent());
+        Employee deleted = employeeRepository.findById(employee.getId()).orElseThrow();
+        int audits = auditRepository.findByEmployeeIdOrderByPerformedAtDesc(employee.getId()).size();
+
+        for (int run = 0; run < 2; run++) {
+            mockMvc.perform(post("/api/v1/employees/upsert")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"employees\": [" + employeeJson("John", "john.doe@example.com", "Sales") + "]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results[0].id").value(employee.getId()))
+                    .andExpect(jsonPath("$.results[0].outcome").value("CONFLICT"))
+                    .andExpect(jsonPath("$.conflicts").value(1))
+                    .andExpect(jsonPath("$.updated").value(0))
+                    .andExpect(jsonPath("$.unchanged").value(0));
+        }
+
+        Employee after = employeeRepository.findById(employee.getId()).orElseThrow();
+        assertEquals(deleted.getDeletedAt(), after.getDeletedAt());
+        assertEquals(deleted.getStatus(), after.getStatus());
+        assertEquals("Engineering", after.getDepartment());
+        assertEquals(audits, auditRepository.findByEmployeeIdOrderByPerformedAtDesc(employee.getId()).size());
+    }
+
+    @Test
+    void testManagerHierarchyFollowsMoves() throws Exception {
+        long vp = createReport("Vera", "vera@example.com", employee.getId());
+        long director = createReport("Dan", "dan@example.com", vp);
+        long engineer = createReport("Erin", "erin@example.com", director);
+        long other = createReport("Olga", "olga@example.com", null);
+
+        mockMvc.perform(get("/api/v1/employees/{id}/reports", employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(vp))
+                .andExpect(jsonPath("$[0].managerId").value(employee.getId()));
+        mockMvc.perform(get("/api/v1/employees/{id}/reports/all", employee.getId()).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[0].id").value(vp))
+                .andExpect(jsonPath("$.content[1].id").value(director));
+        mockMvc.perform(get("/api/v1/employees/{id}/chain", engineer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains((int) director, (int) vp, employee.getId().intValue())));
+
+        mockMvc.perform(put("/api/v1/employees/{id}/manager", director)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"managerId\": " + other + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.managerId").value(other));
+
+        mockMvc.perform(get("/api/v1/employees/{id}/reports/all", employee.getId()))
+                .andExpect(jsonPath("$.totalElements").value(1));
+        mockMvc.perform(get("/api/v1/employees/{id}/reports/all", other))
+                .andExpect(jsonPath("$.totalElements").value(2));
+        mockMvc.perform(get("/api/v1/employees/{id}/chain", engineer))
+                .andExpect(jsonPath("$[*].id").value(contains((int) director, (int) other)));
+
+        mockMvc.perform(put("/api/v1/employees/{id}/manager", other)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"managerId\": " + engineer + "}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(employeeJson("Nina", "nina@example.com", "HR").replace("}", ", \"managerId\": 999999}")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSuggestFollowsWrites() throws Exception {
+        // The fixture bypasses the service, so load it the way startup would
+        employeeSuggestIndex.rebuild().get();
+        long joanna = createReport("Joanna", "jadams@example.com", null);
+        employeeSuggestIndex.flush().get();
+
+        mockMvc.perform(get("/api/v1/employees/suggest").param("q", "Jo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains(employee.getId().intValue(), (int) joanna)));
+        mockMvc.perform(get("/api/v1/employees/suggest").param("q", "  JOHN   d"))
+                .andExpect(jsonPath("$[*].id").value(contains(employee.getId().intValue())));
+        mockMvc.perform(get("/api/v1/employees/suggest").param("q", "jad"))
+                .andExpect(jsonPath("$[0].email").value("jadams@example.com"));
+        mockMvc.perform(get("/api/v1/employees/suggest").param("q", "jo").param("limit", "1"))
+                .andExpect(jsonPath("$.length()").value(1));
+
+        mockMvc.perform(patch("/api/v1/employees/{id}", joanna)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"lastName\": \"Adams\"}"))
+                .andExpect(status().isOk());
+        employeeSuggestIndex.flush().get();
+        mockMvc.perform(get("/api/v1/employees/suggest").param("q", "jo"))
+                .andExpect(jsonPath("$[*].id").value(contains((int) joanna, employee.getId().intValue())));
+        mockMvc.perform(get("/api/v1/employees/suggest").param("q", "smi"))
+                .andExpect(jsonPath("$.length()").value(0));
+
+        mockMvc.perform(delete("/api/v1/employees/{id}", employee.getId()))
+                .andExpect(status().isNoContent());
+        employeeSuggestIndex.flush().get();
+        mockMvc.perform(get("/api/v1/employees/suggest").param("q", "jo"))
+                .andExpect(jsonPath("$[*].id").value(contains((int) joanna)));
+    }
+
+    private long createReport(String firstName, String email, Long managerId) throws Exception {
+        String json = employeeJson(firstName, email, "Engineering").replace("}", ", \"managerId\": " + managerId + "}");
+        String body = mockMvc.perform(post("/api/v1/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private void awaitChangeFeed() throws InterruptedException {
+        long target = auditRepository.findMaxId();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (changeFeedBroadcaster.getLastPublishedId() < target && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private static String employeeJson(String firstName, String email, String department) {
+        return """
+                {
+                    "firstName": "%s",
+                    "lastName": "Smith",
+                    "email": "%s",
+                    "hireDate": "2021-01-01",
+                    "jobTitle": "Manager",
+                    "department": "%s",
+                    "salary": 80000,
+                    "status": "ACTIVE"
+                }
+                """.formatted(firstName, email, department);
+    }
+
 }
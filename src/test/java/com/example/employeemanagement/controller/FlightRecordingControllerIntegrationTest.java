@@ -0,0 +1,40 @@
+package com.example.employeemanagement.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"app.grpc.port=-1", "app.jfr.admin-enabled=true",
+        "spring.security.user.name=admin", "spring.security.user.password=secret"})
+@AutoConfigureMockMvc
+class FlightRecordingControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void requiresAuthentication() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/flight-recordings").param("durationSeconds", "60"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/admin/flight-recordings").header(HttpHeaders.AUTHORIZATION, basic("admin", "wrong")))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/api/v1/admin/flight-recordings").header(HttpHeaders.AUTHORIZATION, basic("admin", "secret")))
+                .andExpect(status().isNoContent());
+    }
+
+    private static String basic(String user, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
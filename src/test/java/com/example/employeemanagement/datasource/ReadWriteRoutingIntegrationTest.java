@@ -0,0 +1,169 @@
+package com.example.employeemanagement.datasource;
+
+import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.EmployeeService;
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.grpc.port=-1",
+        "app.page-cache.enabled=false",
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.health-check-interval=1h",
+        "app.datasource.routing.max-replica-lag=5s",
+        "app.datasource.routing.replicas[0].name=replica-1",
+        "app.datasource.routing.replicas[0].url=" + ReadWriteRoutingIntegrationTest.REPLICA_URL,
+        "app.datasource.routing.replicas[0].username=sa",
+        "app.datasource.routing.replicas[0].lag-query=SELECT lag_seconds FROM replica_status"
+})
+@AutoConfigureMockMvc
+class ReadWriteRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static JdbcTemplate replica;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ReplicaHealthChecker replicaHealthChecker;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @BeforeAll
+    static void createReplica() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        replica = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        replica.execute("DROP TABLE IF EXISTS replica_status");
+        replica.execute("CREATE TABLE replica_status (lag_seconds DOUBLE)");
+        replica.update("INSERT INTO replica_status VALUES (0)");
+        replica.update("DELETE FROM employees");
+        // Only the replica has this row, so a read that returns it was served by the replica
+        replica.update("INSERT INTO employees (first_name, last_name, email, hire_date, job_title, department, salary, status, created_at, updated_at) "
+                + "VALUES ('Rita', 'Replica', 'rita@example.com', DATE '2020-01-01', 'Engineer', 'Engineering', 75000, 'ACTIVE', "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        replicaHealthChecker.checkNow();
+    }
+
+    @Test
+    void readOnlyRequestsAreServedByTheReplica() throws Exception {
+        mockMvc.perform(get("/api/v1/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].email").value("rita@example.com"))
+                .andExpect(header().doesNotExist(ReadYourWritesFilter.READ_YOUR_WRITES_HEADER));
+    }
+
+    @Test
+    void writesPinTheClientToThePrimaryForItsNextReads() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/v1/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"firstName": "Paula", "lastName": "Primary", "email": "paula@example.com", "hireDate": "2021-01-01",
+                                 "jobTitle": "Manager", "department": "HR", "salary": 80000, "status": "ACTIVE"}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(ReadYourWritesFilter.READ_YOUR_WRITES_HEADER, "primary"))
+                .andReturn();
+        Cookie sticky = created.getResponse().getCookie("db-primary-until");
+        assertThat(sticky).isNotNull();
+        assertThat(Long.parseLong(sticky.getValue())).isGreaterThan(System.currentTimeMillis());
+
+        mockMvc.perform(get("/api/v1/employees").cookie(sticky))
+                .andExpect(jsonPath("$.content[0].email").value("paula@example.com"));
+        mockMvc.perform(get("/api/v1/employees"))
+                .andExpect(jsonPath("$.content[0].email").value("rita@example.com"));
+
+        Cookie expired = new Cookie("db-primary-until", String.valueOf(System.currentTimeMillis() - 1));
+        mockMvc.perform(get("/api/v1/employees").cookie(expired))
+                .andExpect(jsonPath("$.content[0].email").value("rita@example.com"));
+    }
+
+    @Test
+    void laggingReplicaIsExcludedUntilItCatchesUp() throws Exception {
+        replica.update("UPDATE replica_status SET lag_seconds = 30");
+        replicaHealthChecker.checkNow();
+
+        mockMvc.perform(get("/api/v1/employees"))
+                .andExpect(jsonPath("$.totalElements").value(0));
+        assertThat(replicaHealthChecker.health().getStatus().getCode()).isEqualTo("DEGRADED");
+
+        replica.update("UPDATE replica_status SET lag_seconds = 0.5");
+        replicaHealthChecker.checkNow();
+
+        mockMvc.perform(get("/api/v1/employees"))
+                .andExpect(jsonPath("$.content[0].email").value("rita@example.com"));
+        assertThat(replicaHealthChecker.health().getStatus().getCode()).isEqualTo("UP");
+    }
+
+    @Test
+    void failingReplicaFallsBackToThePrimary() throws Exception {
+        replica.execute("DROP TABLE replica_status");
+        replicaHealthChecker.checkNow();
+
+        mockMvc.perform(get("/api/v1/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void primaryPinsEndWithTheWorkThatSetThem() {
+        RoutingContext.isolated(() -> employeeService.createEmployee(EmployeeCreateRequest.builder()
+                .firstName("Paula")
+                .lastName("Primary")
+                .email("paula@example.com")
+                .hireDate(LocalDate.of(2021, 1, 1))
+                .jobTitle("Manager")
+                .department("HR")
+                .salary(BigDecimal.valueOf(80000))
+                .status(EmployeeStatus.ACTIVE)
+                .build())).run();
+        assertThat(emails()).containsExactly("rita@example.com");
+
+        assertThat(RoutingContext.onPrimary(this::emails)).containsExactly("paula@example.com");
+        assertThat(emails()).containsExactly("rita@example.com");
+    }
+
+    private List<String> emails() {
+        return employeeService.getEmployeeResponses(PageRequest.of(0, 10), null, null, null, false)
+                .map(EmployeeResponse::getEmail)
+                .getContent();
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.example.employeemanagement.groupcommit;
+
+import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.exception.EmailAlreadyExistsException;
+import com.example.employeemanagement.exception.GroupCommitTimeoutException;
+import com.example.employeemanagement.repository.EmployeeAuditRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.EmployeeService;
+import com.example.employeemanagement.service.EmployeeService.CreateOutcome;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {"app.grpc.port=-1", "app.group-commit.enabled=true", "app.group-commit.max-wait=50ms"})
+class EmployeeCreateBatcherIntegrationTest {
+
+    @Autowired
+    private EmployeeCreateBatcher batcher;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeAuditRepository auditRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void commitsConcurrentCreatesTogetherAndFailsOnlyTheConflictingOnes() throws Exception {
+        employeeRepository.save(Employee.builder()
+                .firstName("Taken")
+                .lastName("Already")
+                .email("taken@example.com")
+                .hireDate(LocalDate.of(2020, 1, 1))
+                .jobTitle("Engineer")
+                .department("Engineering")
+                .salary(BigDecimal.valueOf(70000))
+                .status(EmployeeStatus.ACTIVE)
+                .build());
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            emails.add("person" + i + "@example.com");
+        }
+        emails.add("PERSON0@example.com");
+        emails.add("Taken@example.com");
+
+        ExecutorService callers = Executors.newFixedThreadPool(emails.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Employee>> results = new ArrayList<>();
+        try {
+            for (String email : emails) {
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return batcher.create(request(email));
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            int conflicts = 0;
+            for (Future<Employee> result : results) {
+                try {
+                    assertThat(result.get().getId()).isNotNull();
+                    created++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(EmailAlreadyExistsException.class);
+                    conflicts++;
+                }
+            }
+            assertThat(created).isEqualTo(20);
+            assertThat(conflicts).isEqualTo(2);
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(employeeRepository.count()).isEqualTo(21);
+        assertThat(auditRepository.count()).isGreaterThanOrEqualTo(20);
+        assertThat(meterRegistry.get("employee.create.batch.size").summary().max()).isGreaterThan(1);
+        assertThrows(EmailAlreadyExistsException.class, () -> batcher.create(request("person5@example.com")));
+    }
+
+    @Test
+    void createsRacingWithStopAreNeverStranded() throws Exception {
+        EmployeeService employeeService = mock(EmployeeService.class);
+        Employee alone = new Employee();
+        when(employeeService.createEmployee(any())).thenReturn(alone);
+        EmployeeCreateBatcher stopping = standalone(employeeService, Duration.ofSeconds(30));
+        stopping.start();
+        EmployeeCreateRequest late = spy(request("late@example.com"));
+        // Read between the running check and the offer: the batcher stops and its committer drains and exits there
+        doAnswer(invocation -> {
+            stopping.stop();
+            Thread.sleep(200);
+            return null;
+        }).when(late).getManagerId();
+
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            Future<Employee> result = callers.submit(() -> stopping.create(late));
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(alone);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void callersStopWaitingAfterTheResultTimeout() throws Exception {
+        EmployeeService employeeService = mock(EmployeeService.class);
+        Employee alone = new Employee();
+        when(employeeService.createEmployee(any())).thenReturn(alone);
+        CountDownLatch taken = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeService.createEmployees(anyList())).thenAnswer(invocation -> {
+            taken.countDown();
+            release.await();
+            return List.of(new CreateOutcome(new Employee(), null));
+        });
+        EmployeeCreateBatcher slow = standalone(employeeService, Duration.ofMillis(200));
+        slow.start();
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            Future<Employee> inBatch = callers.submit(() -> slow.create(request("first@example.com")));
+            assertThat(taken.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Still queued behind the stuck batch: runs on its own once the wait is over
+            assertThat(slow.create(request("second@example.com"))).isSameAs(alone);
+            // Already in the stuck batch: its outcome is unknown
+            ExecutionException e = assertThrows(ExecutionException.class, () -> inBatch.get(5, TimeUnit.SECONDS));
+            assertThat(e.getCause()).isInstanceOf(GroupCommitTimeoutException.class);
+        } finally {
+            release.countDown();
+            slow.stop();
+            callers.shutdownNow();
+        }
+    }
+
+    private static EmployeeCreateBatcher standalone(EmployeeService employeeService, Duration resultTimeout) {
+        EmployeeGroupCommitProperties properties = new EmployeeGroupCommitProperties();
+        properties.setEnabled(true);
+        properties.setMaxBatchSize(1);
+        properties.setResultTimeout(resultTimeout);
+        return new EmployeeCreateBatcher(properties, employeeService, new SimpleMeterRegistry(), false, false);
+    }
+
+    private static EmployeeCreateRequest request(String email) {
+        return EmployeeCreateRequest.builder()
+                .firstName("Jane")
+                .lastName("Smith")
+                .email(email)
+                .hireDate(LocalDate.of(2021, 1, 1))
+                .jobTitle("Manager")
+                .department("HR")
+                .salary(BigDecimal.valueOf(80000))
+                .status(EmployeeStatus.ACTIVE)
+                .build();
+    }
+
+}
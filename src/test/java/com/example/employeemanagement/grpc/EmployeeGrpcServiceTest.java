@@ -0,0 +1,275 @@
+package com.example.employeemanagement.grpc;
+
+import com.example.employeemanagement.entity.AuditType;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.proto.BulkCreateEmployeesResponse;
+import com.example.employeemanagement.proto.CreateEmployeeRequest;
+import com.example.employeemanagement.proto.DeleteEmployeeRequest;
+import com.example.employeemanagement.proto.EmployeeDirectoryGrpc;
+import com.example.employeemanagement.proto.EmployeeMessage;
+import com.example.employeemanagement.proto.EmployeeStatusMessage;
+import com.example.employeemanagement.proto.GetEmployeeRequest;
+import com.example.employeemanagement.proto.ListEmployeesRequest;
+import com.example.employeemanagement.proto.RestoreEmployeeRequest;
+import com.example.employeemanagement.proto.UpdateEmployeeRequest;
+import com.example.employeemanagement.repository.EmployeeAuditRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.EmployeeService;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {"app.grpc.port=-1", "app.grpc.in-process-name=employee-grpc-test", "app.grpc.list-max-page-size=3"})
+class EmployeeGrpcServiceTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeAuditRepository auditRepository;
+
+    @SpyBean
+    private EmployeeService employeeService;
+
+    private ManagedChannel channel;
+
+    private EmployeeDirectoryGrpc.EmployeeDirectoryBlockingStub blockingStub;
+
+    private EmployeeDirectoryGrpc.EmployeeDirectoryStub asyncStub;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        channel = InProcessChannelBuilder.forName("employee-grpc-test").build();
+        blockingStub = EmployeeDirectoryGrpc.newBlockingStub(channel);
+        asyncStub = EmployeeDirectoryGrpc.newStub(channel);
+        clearInvocations(employeeService);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void unaryCallsShareTheServiceLayerAndAuditTrail() {
+        EmployeeMessage created = blockingStub.createEmployee(createRequest("jane.smith@example.com"));
+        assertThat(created.getId()).isPositive();
+        assertThat(created.getSalary()).isEqualTo("80000");
+        assertThat(created.hasPhone()).isFalse();
+
+        EmployeeMessage fetched = blockingStub.getEmployee(GetEmployeeRequest.newBuilder().setId(created.getId()).build());
+        assertThat(fetched.getEmail()).isEqualTo("jane.smith@example.com");
+
+        EmployeeMessage updated = blockingStub.updateEmployee(UpdateEmployeeRequest.newBuilder()
+                .setId(created.getId())
+                .setJobTitle("Director")
+                .setPartial(true)
+                .build());
+        assertThat(updated.getJobTitle()).isEqualTo("Director");
+        assertThat(updated.getLastName()).isEqualTo("Smith");
+
+        blockingStub.deleteEmployee(DeleteEmployeeRequest.newBuilder().setId(created.getId()).build());
+        EmployeeMessage restored = blockingStub.restoreEmployee(RestoreEmployeeRequest.newBuilder().setId(created.getId()).build());
+        assertThat(restored.getStatus()).isEqualTo(EmployeeStatusMessage.EMPLOYEE_STATUS_ACTIVE);
+
+        assertThat(auditRepository.findByEmployeeIdOrderByPerformedAtDesc(created.getId()))
+                .extracting("auditType")
+                .containsExactlyInAnyOrder(AuditType.CREATE, AuditType.UPDATE, AuditType.DELETE, AuditType.RESTORE);
+    }
+
+    @Test
+    void errorsMapToStatusCodes() {
+        assertThatThrownBy(() -> blockingStub.getEmployee(GetEmployeeRequest.newBuilder().setId(999L).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+
+        assertThatThrownBy(() -> blockingStub.createEmployee(createRequest("not-an-email")))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, e -> {
+                    assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+                    assertThat(e.getStatus().getDescription()).isEqualTo("email: must be a well-formed email address");
+                });
+
+        blockingStub.createEmployee(createRequest("jane.smith@example.com"));
+        assertThatThrownBy(() -> blockingStub.createEmployee(createRequest("JANE.SMITH@example.com")))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.ALREADY_EXISTS));
+    }
+
+    @Test
+    void listEmployeesStreamsAllMatchesAcrossPages() {
+        seed(5, "Engineering");
+        seed(2, "HR");
+
+        List<EmployeeMessage> streamed = new ArrayList<>();
+        blockingStub.listEmployees(ListEmployeesRequest.newBuilder()
+                        .setDepartment("engineering")
+                        .setStatus(EmployeeStatusMessage.EMPLOYEE_STATUS_ACTIVE)
+                        .setPageSize(2)
+                        .build())
+                .forEachRemaining(streamed::add);
+
+        assertThat(streamed).hasSize(5);
+        assertThat(streamed).extracting(EmployeeMessage::getDepartment).containsOnly("Engineering");
+        assertThat(streamed).extracting(EmployeeMessage::getId).isSorted();
+    }
+
+    @Test
+    void listEmployeesCapsAndValidatesThePageSize() {
+        seed(5, "Engineering");
+
+        List<EmployeeMessage> streamed = new ArrayList<>();
+        blockingStub.listEmployees(ListEmployeesRequest.newBuilder().setPageSize(1_000_000).build())
+                .forEachRemaining(streamed::add);
+
+        assertThat(streamed).hasSize(5);
+        verify(employeeService, never()).getEmployeeResponsesAfterId(any(), any(), any(), anyBoolean(), anyLong(), intThat(size -> size > 3));
+
+        for (int pageSize : new int[]{0, -1}) {
+            assertThatThrownBy(() -> blockingStub.listEmployees(ListEmployeesRequest.newBuilder().setPageSize(pageSize).build()).hasNext())
+                    .isInstanceOfSatisfying(StatusRuntimeException.class,
+                            e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        }
+    }
+
+    @Test
+    void listEmployeesOnlyReadsAheadWhatTheClientRequested() throws Exception {
+        seed(10, "Engineering");
+        long firstId = employeeRepository.findAll().stream().mapToLong(Employee::getId).min().orElseThrow();
+        CountDownLatch firstMessage = new CountDownLatch(1);
+        CompletableFuture<Integer> completed = new CompletableFuture<>();
+        List<ClientCallStreamObserver<?>> calls = new ArrayList<>();
+
+        asyncStub.listEmployees(ListEmployeesRequest.newBuilder().setPageSize(2).build(),
+                new ClientResponseObserver<ListEmployeesRequest, EmployeeMessage>() {
+                    private int received;
+
+                    @Override
+                    public void beforeStart(ClientCallStreamObserver<ListEmployeesRequest> requestStream) {
+                        requestStream.disableAutoRequestWithInitial(1);
+                        calls.add(requestStream);
+                    }
+
+                    @Override
+                    public void onNext(EmployeeMessage value) {
+                        received++;
+                        firstMessage.countDown();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        completed.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.complete(received);
+                    }
+                });
+
+        assertThat(firstMessage.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+        // One message requested: the server must not have paged through the other four pages
+        verify(employeeService, atMost(1)).getEmployeeResponsesAfterId(any(), any(), any(), anyBoolean(), anyLong(), anyInt());
+
+        // Removing a row already sent must not shift the rest of the stream
+        employeeRepository.deleteById(firstId);
+        calls.get(0).request(Integer.MAX_VALUE);
+        assertThat(completed.get(5, TimeUnit.SECONDS)).isEqualTo(10);
+    }
+
+    @Test
+    void bulkCreateReportsFailuresPerMessage() throws Exception {
+        seed(1, "Engineering");
+        CompletableFuture<BulkCreateEmployeesResponse> response = new CompletableFuture<>();
+        StreamObserver<CreateEmployeeRequest> requests = asyncStub.bulkCreateEmployees(new StreamObserver<>() {
+            @Override
+            public void onNext(BulkCreateEmployeesResponse value) {
+                response.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                response.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        requests.onNext(createRequest("bulk.one@example.com"));
+        requests.onNext(createRequest("not-an-email"));
+        requests.onNext(createRequest("employee0@example.com"));
+        requests.onNext(createRequest("bulk.two@example.com"));
+        requests.onCompleted();
+
+        BulkCreateEmployeesResponse result = response.get(5, TimeUnit.SECONDS);
+        assertThat(result.getReceived()).isEqualTo(4);
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getCreatedIdsList()).hasSize(2);
+        assertThat(result.getFailuresList()).extracting("index").containsExactly(1, 2);
+        assertThat(result.getFailures(1).getError()).isEqualTo("Email already exists: employee0@example.com");
+        assertThat(employeeRepository.count()).isEqualTo(3);
+    }
+
+    private void seed(int count, String department) {
+        long offset = employeeRepository.count();
+        for (int i = 0; i < count; i++) {
+            employeeRepository.save(Employee.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("employee" + (offset + i) + "@example.com")
+                    .hireDate(LocalDate.of(2020, 1, 1))
+                    .jobTitle("Engineer")
+                    .department(department)
+                    .salary(BigDecimal.valueOf(75000))
+                    .status(EmployeeStatus.ACTIVE)
+                    .build());
+        }
+    }
+
+    private static CreateEmployeeRequest createRequest(String email) {
+        return CreateEmployeeRequest.newBuilder()
+                .setFirstName("Jane")
+                .setLastName("Smith")
+                .setEmail(email)
+                .setHireDate("2021-01-01")
+                .setJobTitle("Manager")
+                .setDepartment("HR")
+                .setSalary("80000")
+                .setStatus(EmployeeStatusMessage.EMPLOYEE_STATUS_ACTIVE)
+                .build();
+    }
+
+}
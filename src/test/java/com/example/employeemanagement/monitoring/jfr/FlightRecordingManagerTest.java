@@ -0,0 +1,72 @@
+package com.example.employeemanagement.monitoring.jfr;
+
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingManagerTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private FlightRecordingManager manager;
+
+    @BeforeEach
+    void setUp() {
+        FlightRecorderProperties properties = new FlightRecorderProperties();
+        properties.setDumpDirectory(dumpDirectory.toString());
+        manager = new FlightRecordingManager(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.close();
+    }
+
+    @Test
+    void testStartDumpAndStop() throws Exception {
+        manager.start(null);
+
+        EmployeeOperationEvent event = new EmployeeOperationEvent();
+        event.begin();
+        event.operation = "LIST";
+        event.filterShape = "department+status";
+        event.rowsReturned = 10;
+        event.commit();
+
+        Path file = manager.dump();
+        assertTrue(Files.exists(file));
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("com.example.employeemanagement.EmployeeOperation"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("department+status", events.get(0).getString("filterShape"));
+        assertEquals(10, events.get(0).getLong("rowsReturned"));
+
+        assertEquals(RecordingState.STOPPED, manager.stop().getState());
+    }
+
+    @Test
+    void testStartTwiceFails() {
+        manager.start(null);
+
+        assertThrows(IllegalStateException.class, () -> manager.start(null));
+    }
+
+    @Test
+    void testStopWithoutRecordingFails() {
+        assertThrows(IllegalStateException.class, () -> manager.stop());
+    }
+
+}
@@ -1,15 +1,23 @@
 package com.example.employeemanagement.repository;
 
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.dto.EmployeeResponse;
 import com.example.employeemanagement.entity.Employee;
 import com.example.employeemanagement.entity.EmployeeStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.hibernate.Session;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -19,6 +27,9 @@ class EmployeeRepositoryTest {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Employee employee1;
     private Employee employee2;
 
@@ -88,4 +99,30 @@ class EmployeeRepositoryTest {
         assertThat(results).hasSize(2);
     }
 
+    @Test
+    void testFindResponsesSelectsStraightIntoDtos() {
+        entityManager.clear();
+        Page<EmployeeResponse> page = employeeRepository.findResponses(EmployeeFilter.of("engineering", null, "DOE", false),
+                PageRequest.of(0, 10, Sort.by("email")));
+        Optional<EmployeeResponse> byId = employeeRepository.findResponseById(employee2.getId());
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent().get(0).getEmail()).isEqualTo("john.doe@example.com");
+        assertThat(page.getContent().get(0).getSalary()).isEqualByComparingTo("75000");
+        assertThat(byId).get().extracting(EmployeeResponse::getStatus).isEqualTo(EmployeeStatus.INACTIVE);
+        assertThat(employeeRepository.findResponseById(-1L)).isEmpty();
+        // No entity was loaded into the persistence context
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void testFindResponsesSeeUnflushedChangesOfAWritingTransaction() {
+        employee1.setJobTitle("Director");
+
+        assertThat(employeeRepository.findResponseById(employee1.getId()))
+                .get().extracting(EmployeeResponse::getJobTitle).isEqualTo("Director");
+        assertThat(employeeRepository.findResponses(EmployeeFilter.of(null, null, "doe", false), PageRequest.of(0, 10)).getContent())
+                .extracting(EmployeeResponse::getJobTitle).containsExactly("Director");
+    }
+
 }
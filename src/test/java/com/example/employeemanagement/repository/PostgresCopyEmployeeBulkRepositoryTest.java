@@ -0,0 +1,181 @@
+package com.example.employeemanagement.repository;
+
+import com.example.employeemanagement.dto.EmployeeFilter;
+import com.example.employeemanagement.entity.AuditType;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeAudit;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.mapper.EmployeeCsvMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostgresCopyEmployeeBulkRepositoryTest {
+
+    private static EmbeddedPostgres postgres;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private static PostgresCopyEmployeeBulkRepository repository;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new PostgresCopyEmployeeBulkRepository(jdbcTemplate, new NamedParameterJdbcTemplate(dataSource), new EmployeeCsvMapper());
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM employee_audit");
+        jdbcTemplate.update("DELETE FROM employees");
+    }
+
+    @Test
+    void insertEmployeesCopiesRowsAndAssignsIds() {
+        List<Employee> employees = List.of(
+                employee("Jane", "O'Brien", "jane@example.com", "Engineering", EmployeeStatus.ACTIVE),
+                employee("Bob", "\"Bobby\", Jr", "bob@example.com", "HR", EmployeeStatus.INACTIVE));
+
+        repository.insertEmployees(employees);
+
+        assertThat(employees).allSatisfy(employee -> assertThat(employee.getId()).isNotNull());
+        assertThat(jdbcTemplate.queryForObject("SELECT last_name FROM employees WHERE id = ?", String.class, employees.get(1).getId()))
+                .isEqualTo("\"Bobby\", Jr");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees WHERE phone IS NULL", Integer.class)).isEqualTo(2);
+        assertThat(repository.findExistingEmails(List.of("JANE@example.com", "nobody@example.com"))).isEqualTo(Set.of("jane@example.com"));
+    }
+
+    @Test
+    void insertAuditsCopiesRows() {
+        List<Employee> employees = List.of(employee("Jane", "Smith", "jane@example.com", "Engineering", EmployeeStatus.ACTIVE));
+        repository.insertEmployees(employees);
+
+        repository.insertAudits(List.of(EmployeeAudit.builder()
+                .employeeId(employees.get(0).getId())
+                .auditType(AuditType.CREATE)
+                .performedBy("system")
+                .afterSnapshot("{\"email\":\"jane@example.com\"}")
+                .description("Employee created")
+                .build()));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT after_snapshot FROM employee_audit WHERE employee_id = ?", String.class, employees.get(0).getId()))
+                .isEqualTo("{\"email\":\"jane@example.com\"}");
+    }
+
+    @Test
+    void upsertEmployeesInsertsNewRowsAndUpdatesMatchesIgnoringCase() {
+        List<Employee> existing = List.of(employee("Jane", "Smith", "Jane@Example.com", "Engineering", EmployeeStatus.ACTIVE));
+        repository.insertEmployees(existing);
+
+        List<Employee> employees = List.of(
+                employee("Jane", "Smith", "jane@example.com", "Finance", EmployeeStatus.ACTIVE),
+                employee("Bob", "Brown", "bob@example.com", "HR", EmployeeStatus.ACTIVE));
+        Set<String> inserted = repository.upsertEmployees(employees);
+
+        assertThat(inserted).containsExactly("bob@example.com");
+        assertThat(employees.get(0).getId()).isEqualTo(existing.get(0).getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT department || ' ' || email FROM employees WHERE id = ?", String.class, existing.get(0).getId()))
+                .isEqualTo("Finance Jane@Example.com");
+        assertThat(jdbcTemplate.queryForObject("SELECT email FROM employees WHERE id = ?", String.class, employees.get(1).getId()))
+                .isEqualTo("bob@example.com");
+        assertThat(repository.lockByEmails(List.of("JANE@example.com")).keySet()).containsExactly("jane@example.com");
+    }
+
+    @Test
+    void exportCsvStreamsFilteredRowsInExportLayout() {
+        List<Employee> employees = List.of(
+                employee("Jane", "O'Brien", "jane@example.com", "Engineering", EmployeeStatus.ACTIVE),
+                employee("Bob", "Brown", "bob@example.com", "HR", EmployeeStatus.ACTIVE),
+                employee("Eve", "Adams", "eve@example.com", "engineering", EmployeeStatus.INACTIVE));
+        repository.insertEmployees(employees);
+
+        StringWriter out = new StringWriter();
+        repository.exportCsv(EmployeeFilter.of("Engineering", null, "o'b", false), out);
+
+        String[] lines = out.toString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("\"ID\",\"First Name\",\"Last Name\"");
+        assertThat(lines[1]).startsWith("\"" + employees.get(0).getId() + "\",\"Jane\",\"O'Brien\",\"jane@example.com\",\"\",\"\",\"2020-01-01\","
+                + "\"Engineer\",\"Engineering\",\"75000.00\",\"ACTIVE\",");
+        assertThat(lines[1]).endsWith(",\"\",\"\"");
+
+        out = new StringWriter();
+        repository.exportCsv(EmployeeFilter.of("engineering", null, null, false), out);
+        assertThat(out.toString().split("\n")).hasSize(3);
+    }
+
+    @Test
+    void exportCsvMatchesTheJdbcExport() {
+        List<Employee> employees = List.of(
+                employee("Jane", "O'Brien", "jane@example.com", "Engineering", EmployeeStatus.ACTIVE),
+                employee("Bob", "\"Bobby\", Jr", "bob@example.com", "HR", EmployeeStatus.INACTIVE),
+                employee("Eve", "Adams", "eve@example.com", "Finance", EmployeeStatus.ACTIVE),
+                employee("Dan", "Brown", "dan@example.com", "Sales", EmployeeStatus.ACTIVE));
+        repository.insertEmployees(employees);
+        // Whole minutes, whole seconds, milliseconds and microseconds, which LocalDateTime and Instant print differently
+        timestamps(employees.get(0), "2024-03-01 09:30:00", null);
+        timestamps(employees.get(1), "2024-03-01 09:30:15", "2024-04-01 00:00:00");
+        timestamps(employees.get(2), "2024-03-01 09:30:15.12", "2024-04-01 12:00:05.5");
+        timestamps(employees.get(3), "2024-03-01 23:59:59.123456", "2024-12-31 23:59:59.000001");
+        jdbcTemplate.update("UPDATE employees SET phone = '+1 555 0100', date_of_birth = DATE '1990-02-03' WHERE id = ?", employees.get(0).getId());
+
+        EmployeeFilter filter = EmployeeFilter.of(null, null, null, true);
+        StringWriter copy = new StringWriter();
+        repository.exportCsv(filter, copy);
+        StringWriter jdbc = new StringWriter();
+        new JdbcEmployeeBulkRepository(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate), new EmployeeCsvMapper())
+                .exportCsv(filter, jdbc);
+
+        assertThat(copy.toString().split("\n")).hasSize(5);
+        assertThat(copy.toString()).isEqualTo(jdbc.toString());
+    }
+
+    private static void timestamps(Employee employee, String createdAt, String deletedAt) {
+        jdbcTemplate.update("UPDATE employees SET created_at = CAST(? AS TIMESTAMP), updated_at = CAST(? AS TIMESTAMP), "
+                + "deleted_at = CAST(? AS TIMESTAMP), deleted_by = ? WHERE id = ?",
+                createdAt, createdAt, deletedAt, deletedAt != null ? "admin" : null, employee.getId());
+    }
+
+    private static Employee employee(String firstName, String lastName, String email, String department, EmployeeStatus status) {
+        return Employee.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .hireDate(LocalDate.of(2020, 1, 1))
+                .jobTitle("Engineer")
+                .department(department)
+                .salary(BigDecimal.valueOf(75000))
+                .status(status)
+                .build();
+    }
+
+}
@@ -1,12 +1,14 @@
 package com.example.employeemanagement.service.impl;
 
 import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.dto.EmployeeFilter;
 import com.example.employeemanagement.dto.EmployeeUpdateRequest;
 import com.example.employeemanagement.entity.Employee;
 import com.example.employeemanagement.entity.EmployeeStatus;
 import com.example.employeemanagement.exception.EmployeeNotFoundException;
 import com.example.employeemanagement.exception.EmailAlreadyExistsException;
 import com.example.employeemanagement.mapper.EmployeeMapper;
+import com.example.employeemanagement.repository.EmployeeArchiveRepository;
 import com.example.employeemanagement.repository.EmployeeRepository;
 import com.example.employeemanagement.service.AuditService;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,11 +17,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -36,12 +38,18 @@ class EmployeeServiceImplTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EmployeeArchiveRepository archiveRepository;
+
     @Mock
     private EmployeeMapper employeeMapper;
 
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -122,7 +130,7 @@ class EmployeeServiceImplTest {
     void testGetAllEmployees() {
         Pageable pageable = PageRequest.of(0, 10);
         Page<Employee> page = new PageImpl<>(List.of(employee));
-        when(employeeRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+        when(employeeRepository.findEmployees(EmployeeFilter.of(null, null, null, false), pageable)).thenReturn(page);
 
         Page<Employee> result = employeeService.getAllEmployees(pageable, null, null, null);
 
@@ -197,7 +205,7 @@ class EmployeeServiceImplTest {
         employee.setDeletedAt(java.time.Instant.now());
         employee.setDeletedBy("system");
         
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.lockById(1L)).thenReturn(Optional.of(employee));
         when(employeeRepository.save(employee)).thenReturn(employee);
 
         Employee result = employeeService.restoreEmployee(1L);
@@ -210,17 +218,43 @@ class EmployeeServiceImplTest {
         assertEquals(employee, result);
     }
 
+    @Test
+    void testRestoreArchivedEmployee() {
+        employee.setStatus(EmployeeStatus.INACTIVE);
+        employee.setDeletedAt(java.time.Instant.now());
+
+        when(employeeRepository.lockById(1L)).thenReturn(Optional.empty(), Optional.of(employee));
+        when(archiveRepository.lockArchivedEmail(1L)).thenReturn(Optional.of(employee.getEmail()));
+        when(employeeRepository.save(employee)).thenReturn(employee);
+
+        employeeService.restoreEmployee(1L);
+
+        verify(archiveRepository).restore(1L);
+        assertEquals(EmployeeStatus.ACTIVE, employee.getStatus());
+    }
+
+    @Test
+    void testRestoreArchivedEmployeeWithTakenEmail() {
+        when(employeeRepository.lockById(1L)).thenReturn(Optional.empty());
+        when(archiveRepository.lockArchivedEmail(1L)).thenReturn(Optional.of("john.doe@example.com"));
+        when(employeeRepository.findByEmailIgnoreCase("john.doe@example.com")).thenReturn(employee);
+
+        assertThrows(EmailAlreadyExistsException.class, () -> employeeService.restoreEmployee(1L));
+        verify(archiveRepository, never()).restore(any());
+    }
+
     @Test
     void testRestoreEmployeeNotDeleted() {
         // Employee is not deleted (deletedAt is null)
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(employeeRepository.lockById(1L)).thenReturn(Optional.of(employee));
 
         assertThrows(IllegalStateException.class, () -> employeeService.restoreEmployee(1L));
     }
 
     @Test
     void testRestoreEmployeeNotFound() {
-        when(employeeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(employeeRepository.lockById(1L)).thenReturn(Optional.empty());
+        when(archiveRepository.lockArchivedEmail(1L)).thenReturn(Optional.empty());
 
         assertThrows(EmployeeNotFoundException.class, () -> employeeService.restoreEmployee(1L));
     }
@@ -0,0 +1,212 @@
+package com.example.employeemanagement.sharding;
+
+import com.example.employeemanagement.changefeed.ChangeFeedBroadcaster;
+import com.example.employeemanagement.config.ShardingConfig;
+import com.example.employeemanagement.dto.EmployeeCreateRequest;
+import com.example.employeemanagement.dto.EmployeeLookupResponse;
+import com.example.employeemanagement.dto.EmployeeResponse;
+import com.example.employeemanagement.dto.EmployeeUpdateRequest;
+import com.example.employeemanagement.entity.Employee;
+import com.example.employeemanagement.entity.EmployeeAudit;
+import com.example.employeemanagement.entity.EmployeeStatus;
+import com.example.employeemanagement.exception.EmailAlreadyExistsException;
+import com.example.employeemanagement.repository.EmployeeAuditRepository;
+import com.example.employeemanagement.repository.EmployeeRepository;
+import com.example.employeemanagement.service.EmployeeService;
+import com.example.employeemanagement.service.EmployeeSyncService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.grpc.port=-1",
+        "app.page-cache.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:sharding-directory;DB_CLOSE_DELAY=-1",
+        "app.sharding.enabled=true",
+        "app.sharding.shards[0].url=jdbc:h2:mem:shard-0;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards[0].username=sa",
+        "app.sharding.shards[1].url=jdbc:h2:mem:shard-1;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards[1].username=sa",
+        "app.sharding.shards[2].url=jdbc:h2:mem:shard-2;DB_CLOSE_DELAY=-1",
+        "app.sharding.shards[2].username=sa"
+})
+@AutoConfigureMockMvc
+class ShardingIntegrationTest {
+
+    private static final int SHARDS = 3;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeAuditRepository auditRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private final List<Employee> employees = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        auditRepository.deleteAll();
+        employeeRepository.deleteAll();
+        employees.clear();
+        for (int i = 0; i < 12; i++) {
+            employees.add(employeeService.createEmployee(request("employee" + i + "@example.com", "Last" + (char) ('A' + (i * 5) % 12))));
+        }
+    }
+
+    @Test
+    void employeesAndTheirAuditRowsLiveOnTheShardTheirIdNames() {
+        int total = 0;
+        for (int shard = 0; shard < SHARDS; shard++) {
+            int index = shard;
+            JdbcTemplate jdbc = shard(shard);
+            List<Long> ids = jdbc.queryForList("SELECT id FROM employees", Long.class);
+            assertThat(ids).allMatch(id -> shardRouter.shardOf(id) == index);
+            assertThat(jdbc.queryForList("SELECT employee_id FROM employee_audit", Long.class)).containsExactlyInAnyOrderElementsOf(ids);
+            total += ids.size();
+        }
+        assertThat(total).isEqualTo(employees.size());
+        assertThat(employees.stream().map(employee -> shardRouter.shardOf(employee.getId())).distinct()).hasSizeGreaterThan(1);
+
+        for (Employee employee : employees) {
+            assertThat(employeeService.getEmployeeResponseById(employee.getId()).getEmail()).isEqualTo(employee.getEmail());
+            assertThat(auditRepository.findByEmployeeIdOrderByPerformedAtDesc(employee.getId())).hasSize(1);
+        }
+    }
+
+    @Test
+    void listingMergesShardPagesInSortOrder() {
+        List<Employee> expected = employees.stream()
+                .sorted(Comparator.comparing(Employee::getLastName).reversed().thenComparing(Employee::getId))
+                .toList();
+
+        Page<EmployeeResponse> page = employeeService.getEmployeeResponses(
+                PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "lastName")), null, null, null, false);
+
+        assertThat(page.getTotalElements()).isEqualTo(12);
+        assertThat(page.getContent()).extracting(EmployeeResponse::getId)
+                .containsExactlyElementsOf(expected.subList(5, 10).stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    void lookupGathersIdsFromEveryShardInRequestOrder() {
+        List<Long> ids = List.of(employees.get(7).getId(), employees.get(2).getId(), 999_999L, employees.get(4).getId());
+
+        EmployeeLookupResponse response = employeeService.lookupEmployees(ids, false);
+
+        assertThat(response.getEmployees()).extracting(EmployeeResponse::getId)
+                .containsExactly(employees.get(7).getId(), employees.get(2).getId(), employees.get(4).getId());
+        assertThat(response.getMissing()).containsExactly(999_999L);
+    }
+
+    @Test
+    void emailsStayUniqueAcrossShards() {
+        Employee first = employees.get(0);
+        Employee other = employees.stream().filter(employee -> shardRouter.shardOf(employee.getId()) != shardRouter.shardOf(first.getId()))
+                .findFirst().orElseThrow();
+
+        assertThatThrownBy(() -> employeeService.createEmployee(request(first.getEmail().toUpperCase(), "Copy")))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+        assertThatThrownBy(() -> employeeService.updateEmployee(other.getId(), EmployeeUpdateRequest.builder().email(first.getEmail()).build()))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+
+        employeeService.updateEmployee(first.getId(), EmployeeUpdateRequest.builder().email("renamed@example.com").build());
+        Employee reused = employeeService.createEmployee(request(first.getEmail(), "Reused"));
+
+        assertThat(employeeRepository.findByEmailIgnoreCase("RENAMED@example.com").getId()).isEqualTo(first.getId());
+        assertThat(employeeRepository.findByEmailIgnoreCase(first.getEmail()).getId()).isEqualTo(reused.getId());
+    }
+
+    @Test
+    void orderedAndLimitedQueriesAreMergedAcrossShards() {
+        List<Long> ids = employees.stream().map(Employee::getId).sorted().toList();
+        List<Long> auditIds = ids.stream().map(id -> auditRepository.findByEmployeeIdOrderByPerformedAtDesc(id).get(0).getId()).sorted().toList();
+
+        // Derived query with a Limit
+        assertThat(employeeRepository.findByIdGreaterThanAndDeletedAtIsNullOrderByIdAsc(ids.get(1), Limit.of(4)))
+                .extracting(Employee::getId).containsExactlyElementsOf(ids.subList(2, 6));
+        // Derived query with a Pageable past the first page
+        assertThat(auditRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(1, 3)))
+                .extracting(EmployeeAudit::getId).containsExactlyElementsOf(auditIds.subList(3, 6));
+        // JPQL ORDER BY
+        assertThat(auditRepository.findChangeRefs(auditIds.get(0), auditIds.get(11), PageRequest.of(0, 5)))
+                .extracting(EmployeeAuditRepository.ChangeRef::getId).containsExactlyElementsOf(auditIds.subList(1, 6));
+        // Sort argument
+        assertThat(employeeRepository.findAll(Sort.by(Sort.Direction.DESC, "id")))
+                .extracting(Employee::getId).containsExactlyElementsOf(ids.stream().sorted(Comparator.reverseOrder()).toList());
+        assertThat(employeeRepository.findManagerPathById(ids.get(3))).isPresent();
+    }
+
+    @Test
+    void singleDatabaseFeaturesAreNotRegistered() throws Exception {
+        assertThat(context.getBeansOfType(ChangeFeedBroadcaster.class)).isEmpty();
+        assertThat(context.getBeansOfType(EmployeeSyncService.class)).isEmpty();
+
+        mockMvc.perform(get("/api/v1/employees/delta")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/employees/changes/stream")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/employees/export")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/employees/{id}/chain", employees.get(0).getId())).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/employees/{id}", employees.get(0).getId())).andExpect(status().isOk());
+    }
+
+    @Test
+    void shardingAndReadReplicasCannotBeEnabledTogether() {
+        MockEnvironment environment = new MockEnvironment().withProperty("app.datasource.routing.enabled", "true");
+
+        assertThatThrownBy(() -> new ShardingConfig().shardRoutingDataSource(new ShardingProperties(), environment))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Sharding and read replicas cannot be enabled together");
+    }
+
+    private static JdbcTemplate shard(int index) {
+        return new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:shard-" + index + ";DB_CLOSE_DELAY=-1", "sa", ""));
+    }
+
+    private static EmployeeCreateRequest request(String email, String lastName) {
+        return EmployeeCreateRequest.builder()
+                .firstName("Sam")
+                .lastName(lastName)
+                .email(email)
+                .hireDate(LocalDate.of(2020, 1, 1))
+                .jobTitle("Engineer")
+                .department("Engineering")
+                .salary(BigDecimal.valueOf(75000))
+                .status(EmployeeStatus.ACTIVE)
+                .build();
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.example.employeemanagement.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+
+    private static final int K = 3;
+
+    @Test
+    void returnsBestValuesUnderPrefixOnce() {
+        PrefixTrie<Integer> trie = new PrefixTrie<>(Comparator.naturalOrder(), K);
+        trie.add("ann", 5);
+        trie.add("anna", 2);
+        trie.add("ann smith", 2);
+        trie.add("andrew", 9);
+        trie.add("anton", 1);
+        trie.add("bob", 0);
+
+        assertThat(trie.find("an", 10)).containsExactly(1, 2, 5);
+        assertThat(trie.find("ann", 10)).containsExactly(2, 5);
+        assertThat(trie.find("ann s", 10)).containsExactly(2);
+        assertThat(trie.find("an", 2)).containsExactly(1, 2);
+        assertThat(trie.find("anx", 10)).isEmpty();
+
+        assertThat(trie.remove("anton", 1)).isTrue();
+        assertThat(trie.remove("anton", 1)).isFalse();
+        assertThat(trie.find("an", 10)).containsExactly(2, 5, 9);
+    }
+
+    @Test
+    void matchesBruteForceUnderRandomAddsAndRemoves() {
+        Random random = new Random(42);
+        PrefixTrie<Integer> trie = new PrefixTrie<>(Comparator.naturalOrder(), K);
+        Map<String, Set<Integer>> expected = new HashMap<>();
+        List<String[]> added = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            if (!added.isEmpty() && random.nextInt(3) == 0) {
+                String[] entry = added.remove(random.nextInt(added.size()));
+                int value = Integer.parseInt(entry[1]);
+                assertThat(trie.remove(entry[0], value)).isTrue();
+                expected.get(entry[0]).remove(value);
+            } else {
+                String term = randomTerm(random);
+                int value = random.nextInt(200);
+                if (expected.computeIfAbsent(term, key -> new TreeSet<>()).add(value)) {
+                    trie.add(term, value);
+                    added.add(new String[]{term, String.valueOf(value)});
+                }
+            }
+            String probe = randomTerm(random);
+            String prefix = probe.substring(0, Math.min(probe.length(), 1 + random.nextInt(2)));
+            assertThat(trie.find(prefix, K)).as("prefix %s at step %d", prefix, step)
+                    .containsExactlyElementsOf(bruteForce(expected, prefix));
+        }
+        assertThat(trie.size()).isEqualTo(added.size());
+
+        added.forEach(entry -> trie.remove(entry[0], Integer.parseInt(entry[1])));
+        assertThat(trie.size()).isZero();
+        assertThat(trie.nodeCount()).isEqualTo(1);
+    }
+
+    private static List<Integer> bruteForce(Map<String, Set<Integer>> terms, String prefix) {
+        TreeSet<Integer> values = new TreeSet<>();
+        terms.forEach((term, termValues) -> {
+            if (term.startsWith(prefix)) {
+                values.addAll(termValues);
+            }
+        });
+        return values.stream().limit(K).toList();
+    }
+
+    private static String randomTerm(Random random) {
+        StringBuilder term = new StringBuilder();
+        int length = 1 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            term.append((char) ('a' + random.nextInt(3)));
+        }
+        return term.toString();
+    }
+
+}